@@ -36,6 +36,7 @@ import com.theplug.kotori.alchemicalhelper.overlay.AttackOverlay;
 import com.theplug.kotori.alchemicalhelper.overlay.SceneOverlay;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.ReflectionLibrary;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.*;
 import lombok.Getter;
 import net.runelite.api.*;
@@ -69,7 +70,7 @@ public class AlchemicalHelperPlugin extends Plugin
 	private static final String MESSAGE_NEUTRALIZE = "The chemicals neutralise the Alchemical Hydra's defences!";
 	private static final String MESSAGE_STUN = "The Alchemical Hydra temporarily stuns you.";
 
-	private static final Set<Integer> HYDRA_REGIONS = Set.of(5279, 5280, 5535, 5536);
+	private static final int[] HYDRA_REGIONS = {5279, 5280, 5535, 5536};
 	private static final WorldArea HYDRA_LAIR = new WorldArea(1354, 10254, 28, 28, 0);
 
     public static final WorldPoint LIGHTNING_SAFESPOT_1 = new WorldPoint(1358, 10278, 0);
@@ -180,7 +181,13 @@ public class AlchemicalHelperPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
-		if (client.getGameState() == GameState.LOGGED_IN && isInHydraRegion())
+		RegionEventRouter.register(this, HYDRA_REGIONS);
+		RegionEventRouter.subscribe(this, GameObjectSpawned.class, this::onGameObjectSpawned);
+		RegionEventRouter.subscribe(this, ClientTick.class, this::onClientTick);
+		RegionEventRouter.subscribe(this, ProjectileMoved.class, this::onProjectileMoved);
+		RegionEventRouter.subscribe(this, GraphicsObjectCreated.class, this::onGraphicsObjectCreated);
+
+		if (client.getGameState() == GameState.LOGGED_IN && RegionEventRouter.isActive(this))
 		{
 			init();
 		}
@@ -200,6 +207,12 @@ public class AlchemicalHelperPlugin extends Plugin
 
 	@Override
 	protected void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		atHydra = false;
 		inLair = false;
@@ -243,7 +256,7 @@ public class AlchemicalHelperPlugin extends Plugin
 		switch (gameState)
 		{
 			case LOGGED_IN:
-				if (isInHydraRegion())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!atHydra)
 					{
@@ -254,7 +267,7 @@ public class AlchemicalHelperPlugin extends Plugin
 				{
 					if (atHydra)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -262,14 +275,16 @@ public class AlchemicalHelperPlugin extends Plugin
 			case LOGIN_SCREEN:
 				if (atHydra)
 				{
-					shutDown();
+					stop();
 				}
 			default:
 				break;
 		}
 	}
 
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in the Hydra's regions.
+	 */
 	private void onGameObjectSpawned(GameObjectSpawned event)
 	{
 		if (!atHydra)
@@ -317,7 +332,6 @@ public class AlchemicalHelperPlugin extends Plugin
 		handlePrayerInteractions();
 	}
 
-	@Subscribe
 	private void onClientTick(final ClientTick event)
 	{
 		if (!atHydra)
@@ -522,7 +536,6 @@ public class AlchemicalHelperPlugin extends Plugin
 		}
 	}
 	
-	@Subscribe(priority = Float.MAX_VALUE)
 	private void onProjectileMoved(final ProjectileMoved event)
 	{
 		if (!atHydra)
@@ -566,7 +579,6 @@ public class AlchemicalHelperPlugin extends Plugin
 		}
 	}
 
-	@Subscribe(priority = Float.MAX_VALUE)
 	private void onGraphicsObjectCreated(final GraphicsObjectCreated event)
 	{
 		if (!atHydra)
@@ -939,11 +951,6 @@ public class AlchemicalHelperPlugin extends Plugin
 		overlayManager.remove(prayerOverlay);
 	}
 
-	private boolean isInHydraRegion()
-	{
-		return HYDRA_REGIONS.contains(MiscUtilities.getPlayerRegionID());
-	}
-	
 	private boolean isInHydraLair()
 	{
 		if (!atHydra)
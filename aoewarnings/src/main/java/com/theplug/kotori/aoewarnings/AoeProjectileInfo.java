@@ -27,10 +27,12 @@
  */
 package com.theplug.kotori.aoewarnings;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.google.common.collect.Lists;
+import com.theplug.kotori.kotoriutils.lookup.IdIndex;
 import com.theplug.kotori.kotoriutils.rlapi.GraphicIDPlus;
 
+import java.util.Arrays;
+
 
 public enum AoeProjectileInfo
 {
@@ -155,15 +157,9 @@ public enum AoeProjectileInfo
 	KEPHRI_BOMB(GraphicIDPlus.KEPHRI_BOMB,1),//3x3 for Aerial Assault
 	WARDEN_P2_FLAME(GraphicIDPlus.WARDEN_P2_FLAME, 1);
 	
-	private static final Map<Integer, AoeProjectileInfo> map = new HashMap<>();
-	
-	static
-	{
-		for (AoeProjectileInfo aoe : values())
-		{
-			map.put(aoe.id, aoe);
-		}
-	}
+	// Indexed last to first so VERZIK_P1_ROCKS keeps winning the id it shares with DUSK_CEILING, as it did in the old HashMap
+	private static final IdIndex<AoeProjectileInfo> BY_ID = IdIndex.of(
+		Lists.reverse(Arrays.asList(values())).toArray(new AoeProjectileInfo[0]), AoeProjectileInfo::getId);
 	
 	/**
 	 * The id of the projectile to trigger this AoE warning
@@ -184,7 +180,7 @@ public enum AoeProjectileInfo
 	
 	public static AoeProjectileInfo getById(int id)
 	{
-		return map.get(id);
+		return BY_ID.get(id);
 	}
 	
 	public int getId()
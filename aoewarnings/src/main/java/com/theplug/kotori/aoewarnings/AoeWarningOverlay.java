@@ -27,17 +27,19 @@
  */
 package com.theplug.kotori.aoewarnings;
 
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Rectangle;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Set;
+import java.awt.Stroke;
+import java.util.Arrays;
+import java.util.Collection;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
+import net.runelite.api.GameObject;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import com.theplug.kotori.kotoriutils.rlapi.GraphicIDPlus;
@@ -54,10 +56,30 @@ public class AoeWarningOverlay extends Overlay
 	private static final int FILL_START_ALPHA = 25;
 	private static final int OUTLINE_START_ALPHA = 255;
 
+	private static final Stroke TRAIL_STROKE = new BasicStroke(2);
+	private static final Color LIGHTNING_OUTLINE = new Color(0, 150, 200, 150);
+	private static final Color LIGHTNING_FILL = new Color(0, 150, 200, 50);
+	private static final Color ACID_OUTLINE = new Color(69, 241, 44, 150);
+	private static final Color ACID_FILL = new Color(69, 241, 44, 50);
+	private static final Color SPIKE_OUTLINE = new Color(255, 0, 84, 150);
+	private static final Color SPIKE_FILL = new Color(255, 0, 84, 50);
+
 	private final Client client;
 	private final AoeWarningPlugin plugin;
 	private final AoeWarningConfig config;
 
+	/*
+		The overlay color at every alpha the fade can produce, rebuilt lazily when the configured color changes.
+	 */
+	private final Color[] palette = new Color[256];
+	private int paletteRgb;
+
+	/*
+		Bumped whenever anything that affects where a tile lands on the canvas changes, invalidating every cached tile polygon.
+	 */
+	private final int[] cameraState = new int[11];
+	private int cameraGeneration;
+
 	@Inject
 	public AoeWarningOverlay(final Client client, final AoeWarningPlugin plugin, final AoeWarningConfig config)
 	{
@@ -74,55 +96,75 @@ public class AoeWarningOverlay extends Overlay
 	{
 		WorldPoint lp = client.getLocalPlayer().getWorldLocation();
 
-		plugin.getLightningTrail().forEach(o ->
-			OverlayUtil.drawTiles(graphics, client, o, lp, new Color(0, 150, 200), 2, 150, 50));
+		for (WorldPoint o : plugin.getLightningTrail())
+		{
+			OverlayUtil.drawTiles(graphics, client, o, lp, LIGHTNING_OUTLINE, LIGHTNING_FILL, TRAIL_STROKE);
+		}
 
-		plugin.getAcidTrail().forEach(o ->
-			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, new Color(69, 241, 44), 2, 150, 50));
+		for (GameObject o : plugin.getAcidTrail())
+		{
+			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, ACID_OUTLINE, ACID_FILL, TRAIL_STROKE);
+		}
 
-		plugin.getCrystalSpike().forEach(o ->
-			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, new Color(255, 0, 84), 2, 150, 50));
+		for (GameObject o : plugin.getCrystalSpike())
+		{
+			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, SPIKE_OUTLINE, SPIKE_FILL, TRAIL_STROKE);
+		}
 
-		plugin.getWintertodtSnowFall().forEach(o ->
-			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, new Color(255, 0, 84), 2, 150, 50));
+		for (GameObject o : plugin.getWintertodtSnowFall())
+		{
+			OverlayUtil.drawTiles(graphics, client, o.getWorldLocation(), lp, SPIKE_OUTLINE, SPIKE_FILL, TRAIL_STROKE);
+		}
 
-		Instant now = Instant.now();
-		Set<ProjectileContainer> projectiles = plugin.getProjectiles();
-		projectiles.forEach(proj ->
+		Collection<ProjectileContainer> projectiles = plugin.getProjectiles();
+		if (projectiles.isEmpty())
 		{
-			if (proj.getTargetPoint() == null)
-			{
-				return;
-			}
+			return null;
+		}
 
-			Color color;
+		updateCameraGeneration();
 
-			if (now.isAfter(proj.getStartTime().plus(Duration.ofMillis(proj.getLifetime()))))
+		final long now = System.currentTimeMillis();
+		final int tickCount = client.getTickCount();
+		final int overlayRgb = config.overlayColor().getRGB();
+		final boolean fadeEnabled = config.isFadeEnabled();
+		final boolean outlineEnabled = config.isOutlineEnabled();
+		final boolean tickTimers = config.tickTimers();
+
+		for (ProjectileContainer proj : projectiles)
+		{
+			// Expired containers are culled by the plugin on the next tick
+			if (proj.getTargetPoint() == null || proj.isExpired(now))
 			{
-				return;
+				continue;
 			}
 
 			if (proj.getProjectile().getId() == GraphicIDPlus.ICE_DEMON_ICE_BARRAGE_AOE || proj.getProjectile().getId() == GraphicIDPlus.TEKTON_METEOR_AOE)
 			{
 				if (client.getVarbitValue(VarbitID.RAIDS_CLIENT_INDUNGEON) == 0)
 				{
-					return;
+					continue;
 				}
 			}
 
-			final Polygon tilePoly = Perspective.getCanvasTileAreaPoly(client, proj.getTargetPoint(), proj.getAoeProjectileInfo().getAoeSize());
+			if (!proj.isTilePolyValid(cameraGeneration))
+			{
+				Polygon poly = Perspective.getCanvasTileAreaPoly(client, proj.getTargetPoint(), proj.getAoeProjectileInfo().getAoeSize());
+				proj.setTilePoly(poly, poly == null ? null : centerPoint(poly.getBounds()), cameraGeneration);
+			}
 
+			final Polygon tilePoly = proj.getTilePoly();
 			if (tilePoly == null)
 			{
-				return;
+				continue;
 			}
 
-			final double progress = (System.currentTimeMillis() - proj.getStartTime().toEpochMilli()) / (double) proj.getLifetime();
+			final double progress = (now - proj.getStartMillis()) / (double) proj.getLifetime();
 
-			final int tickProgress = proj.getFinalTick() - client.getTickCount();
+			final int tickProgress = proj.getFinalTick() - tickCount;
 
 			int fillAlpha, outlineAlpha;
-			if (config.isFadeEnabled())
+			if (fadeEnabled)
 			{
 				fillAlpha = (int) ((1 - progress) * FILL_START_ALPHA);
 				outlineAlpha = (int) ((1 - progress) * OUTLINE_START_ALPHA);
@@ -132,55 +174,79 @@ public class AoeWarningOverlay extends Overlay
 				fillAlpha = FILL_START_ALPHA;
 				outlineAlpha = OUTLINE_START_ALPHA;
 			}
-			if (tickProgress == 0)
-			{
-				color = Color.RED;
-			}
-			else
-			{
-				color = Color.WHITE;
-			}
 
-			if (fillAlpha < 0)
-			{
-				fillAlpha = 0;
-			}
-			if (outlineAlpha < 0)
-			{
-				outlineAlpha = 0;
-			}
-
-			if (fillAlpha > 255)
-			{
-				fillAlpha = 255;
-			}
-			if (outlineAlpha > 255)
-			{
-				outlineAlpha = 255;
-			}
+			fillAlpha = Math.max(0, Math.min(255, fillAlpha));
+			outlineAlpha = Math.max(0, Math.min(255, outlineAlpha));
 
-			if (config.isOutlineEnabled())
+			if (outlineEnabled)
 			{
-				graphics.setColor(new Color(setAlphaComponent(config.overlayColor().getRGB(), outlineAlpha), true));
+				graphics.setColor(getPaletteColor(overlayRgb, outlineAlpha));
 				graphics.drawPolygon(tilePoly);
 			}
-			if (config.tickTimers() && tickProgress >= 0)
+			if (tickTimers && tickProgress >= 0)
 			{
 				OverlayUtil.renderTextLocation(graphics, Integer.toString(tickProgress), config.textSize(),
-					config.fontStyle().getFont(), color, centerPoint(tilePoly.getBounds()), config.shadows(), 0);
+					config.fontStyle().getFont(), tickProgress == 0 ? Color.RED : Color.WHITE, proj.getTilePolyCenter(), config.shadows(), 0);
 			}
 
-			graphics.setColor(new Color(setAlphaComponent(config.overlayColor().getRGB(), fillAlpha), true));
+			graphics.setColor(getPaletteColor(overlayRgb, fillAlpha));
 			graphics.fillPolygon(tilePoly);
-		});
-		projectiles.removeIf(proj -> now.isAfter(proj.getStartTime().plus(Duration.ofMillis(proj.getLifetime()))));
+		}
 		return null;
 	}
 
+	private Color getPaletteColor(int rgb, int alpha)
+	{
+		if (rgb != paletteRgb)
+		{
+			Arrays.fill(palette, null);
+			paletteRgb = rgb;
+		}
+
+		Color color = palette[alpha];
+		if (color == null)
+		{
+			color = new Color(setAlphaComponent(rgb, alpha), true);
+			palette[alpha] = color;
+		}
+		return color;
+	}
+
+	private void updateCameraGeneration()
+	{
+		int[] state = cameraState;
+		boolean changed = false;
+		changed |= update(state, 0, client.getCameraX());
+		changed |= update(state, 1, client.getCameraY());
+		changed |= update(state, 2, client.getCameraZ());
+		changed |= update(state, 3, client.getCameraPitch());
+		changed |= update(state, 4, client.getCameraYaw());
+		changed |= update(state, 5, client.getScale());
+		changed |= update(state, 6, client.getViewportXOffset());
+		changed |= update(state, 7, client.getViewportYOffset());
+		changed |= update(state, 8, client.getViewportWidth());
+		changed |= update(state, 9, client.getViewportHeight());
+		changed |= update(state, 10, client.getTopLevelWorldView().getPlane());
+		if (changed)
+		{
+			cameraGeneration++;
+		}
+	}
+
+	private static boolean update(int[] state, int index, int value)
+	{
+		if (state[index] == value)
+		{
+			return false;
+		}
+		state[index] = value;
+		return true;
+	}
+
 	private Point centerPoint(Rectangle rect)
 	{
 		int x = (int) (rect.getX() + rect.getWidth() / 2);
 		int y = (int) (rect.getY() + rect.getHeight() / 2);
 		return new Point(x, y);
 	}
-}
\ No newline at end of file
+}
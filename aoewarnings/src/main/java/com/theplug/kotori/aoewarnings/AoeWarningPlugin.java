@@ -27,12 +27,12 @@
 package com.theplug.kotori.aoewarnings;
 
 import com.google.inject.Provides;
-import java.time.Instant;
 import java.util.*;
 import javax.inject.Inject;
 
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
+import com.theplug.kotori.kotoriutils.methods.SceneObjectIndex;
 import com.theplug.kotori.kotoriutils.rlapi.GraphicIDPlus;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -50,6 +50,7 @@ import net.runelite.api.events.ProjectileMoved;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDependency;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -68,9 +69,8 @@ public class AoeWarningPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private final Set<CrystalBomb> bombs = new HashSet<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<ProjectileContainer> projectiles = new HashSet<>();
-	private final Set<Projectile> spawnedProjectiles = new HashSet<>();
+	// Keyed by identity, the same Projectile instance is passed to every ProjectileMoved event for its whole flight
+	private final Map<Projectile, ProjectileContainer> projectiles = new IdentityHashMap<>();
 
 	@Inject
 	public AoeWarningConfig config;
@@ -93,18 +93,38 @@ public class AoeWarningPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private final Set<WorldPoint> lightningTrail = new HashSet<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<GameObject> acidTrail = new HashSet<>();
-
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<GameObject> crystalSpike = new HashSet<>();
-
 	@Getter(AccessLevel.PACKAGE)
 	private final Set<GameObject> wintertodtSnowFall = new HashSet<>();
 
 	private static final int VERZIK_REGION = 12611;
 	private static final int GROTESQUE_GUARDIANS_REGION = 6727;
 
+	private static final Set<AoeProjectileInfo> NO_TICK_TIMER_PROJECTILES = EnumSet.of(
+		AoeProjectileInfo.VASA_RANGED_AOE,
+		AoeProjectileInfo.VORKATH_POISON_POOL,
+		AoeProjectileInfo.VORKATH_SPAWN,
+		AoeProjectileInfo.VORKATH_TICK_FIRE,
+		AoeProjectileInfo.OLM_BURNING,
+		AoeProjectileInfo.OLM_FALLING_CRYSTAL_TRAIL,
+		AoeProjectileInfo.OLM_ACID_TRAIL,
+		AoeProjectileInfo.OLM_FIRE_LINE
+	);
+
+	// These depend on the region the player is in, so they can't be decided when the config changes
+	private static final Set<AoeProjectileInfo> REGION_GATED_PROJECTILES = EnumSet.of(
+		AoeProjectileInfo.DAWN_FREEZE,
+		AoeProjectileInfo.DUSK_CEILING,
+		AoeProjectileInfo.VERZIK_P1_ROCKS
+	);
+
+	/*
+		Config values read for every projectile event, refreshed on ConfigChanged instead of going through the config proxy.
+	 */
+	private final Set<AoeProjectileInfo> enabledProjectiles = EnumSet.noneOf(AoeProjectileInfo.class);
+	private final Set<AoeProjectileInfo> notifyProjectiles = EnumSet.noneOf(AoeProjectileInfo.class);
+	private int fadeDelay;
+	private boolean notifyAll;
+
 	@Provides
 	AoeWarningConfig getConfig(ConfigManager configManager)
 	{
@@ -116,6 +136,7 @@ public class AoeWarningPlugin extends Plugin
 	{
 		overlayManager.add(coreOverlay);
 		overlayManager.add(bombOverlay);
+		updateConfig();
 		reset();
 	}
 
@@ -130,51 +151,42 @@ public class AoeWarningPlugin extends Plugin
 	@Subscribe(priority = Float.MAX_VALUE)
 	private void onProjectileMoved(ProjectileMoved event)
 	{
-		//Original ProjectileSpawned Code
 		final Projectile projectile = event.getProjectile();
-		final int id = projectile.getId();
-		
-		if (AoeProjectileInfo.getById(id) == null)
-		{
-			return;
-		}
-		
-		final int lifetime = config.delay() + (projectile.getRemainingCycles() * 20);
-		int ticksRemaining = projectile.getRemainingCycles() / 30;
-		if (!isTickTimersEnabledForProjectileID(id))
-		{
-			ticksRemaining = 0;
-		}
-		final int tickCycle = client.getTickCount() + ticksRemaining;
-		if (isConfigEnabledForProjectileId(id, false))
+
+		ProjectileContainer container = projectiles.get(projectile);
+		if (container == null)
 		{
-			if (!spawnedProjectiles.contains(projectile)) //Store the projectile and check if it's the not same projectile (ProjectileSpawned)
+			//First time this projectile is seen (ProjectileSpawned)
+			final AoeProjectileInfo projectileInfo = AoeProjectileInfo.getById(projectile.getId());
+			if (projectileInfo == null || !isEnabled(projectileInfo, false))
 			{
-				spawnedProjectiles.add(projectile);
-				projectiles.add(new ProjectileContainer(projectile, Instant.now(), lifetime, tickCycle));
-				
-				if (config.aoeNotifyAll() || isConfigEnabledForProjectileId(id, true))
-				{
-					notifier.notify("AoE attack detected!");
-				}
+				return;
 			}
-		}
-		
-		//Original ProjectileMoved Code
-		if (projectiles.isEmpty())
-		{
-			return;
-		}
 
-	//	final Projectile projectile = event.getProjectile();
+			final int lifetime = fadeDelay + (projectile.getRemainingCycles() * 20);
+			final int ticksRemaining = NO_TICK_TIMER_PROJECTILES.contains(projectileInfo) ? 0 : projectile.getRemainingCycles() / 30;
+			final int tickCycle = client.getTickCount() + ticksRemaining;
 
-		projectiles.forEach(proj ->
-		{
-			if (proj.getProjectile() == projectile)
+			container = new ProjectileContainer(projectile, projectileInfo, System.currentTimeMillis(), lifetime, tickCycle);
+			projectiles.put(projectile, container);
+
+			if (notifyAll || isEnabled(projectileInfo, true))
 			{
-				proj.setTargetPoint(event.getPosition());
+				notifier.notify("AoE attack detected!");
 			}
-		});
+		}
+
+		container.setTargetPoint(event.getPosition());
+	}
+
+	@Subscribe
+	private void onConfigChanged(ConfigChanged event)
+	{
+		if (!event.getGroup().equals("aoe"))
+		{
+			return;
+		}
+		updateConfig();
 	}
 
 	@Subscribe(priority = Float.MAX_VALUE)
@@ -192,12 +204,6 @@ public class AoeWarningPlugin extends Plugin
 					notifier.notify("Bomb!");
 				}
 				break;
-			case ObjectID.OLM_ACID_POOL:
-				acidTrail.add(gameObject);
-				break;
-			case ObjectID.OLM_CRYSTAL_ATTACK_SMALL:
-				crystalSpike.add(gameObject);
-				break;
 		//	case NullObjectID.NULL_26690:
 			case ObjectID.CLANWARS_SNOWFALLING:
 				if (config.isWintertodtEnabled())
@@ -223,12 +229,6 @@ public class AoeWarningPlugin extends Plugin
 			case ObjectID.OLM_CRYSTAL_BOMB:
 				bombs.removeIf(o -> o.getGameObject() == gameObject);
 				break;
-			case ObjectID.OLM_ACID_POOL:
-				acidTrail.remove(gameObject);
-				break;
-			case ObjectID.OLM_CRYSTAL_ATTACK_SMALL:
-				crystalSpike.remove(gameObject);
-				break;
 		//	case NullObjectID.NULL_26690:
 			case ObjectID.CLANWARS_SNOWFALLING:
 				wintertodtSnowFall.remove(gameObject);
@@ -269,43 +269,51 @@ public class AoeWarningPlugin extends Plugin
 
 		bombs.forEach(CrystalBomb::bombClockUpdate);
 		
-		//Remove ProjectileSpawned objects after they expire
-		spawnedProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
+		//Forget projectiles once they have landed and their warning has faded. Keeping them until they land stops them being picked up again as new.
+		final long now = System.currentTimeMillis();
+		projectiles.values().removeIf(p -> p.getProjectile().getRemainingCycles() <= 0 && p.isExpired(now));
 	}
 
-	private boolean isTickTimersEnabledForProjectileID(int projectileId)
+	Collection<ProjectileContainer> getProjectiles()
 	{
-		AoeProjectileInfo projectileInfo = AoeProjectileInfo.getById(projectileId);
+		return projectiles.values();
+	}
 
-		if (projectileInfo == null)
-		{
-			return false;
-		}
+	private void updateConfig()
+	{
+		fadeDelay = config.delay();
+		notifyAll = config.aoeNotifyAll();
 
-		switch (projectileInfo)
+		enabledProjectiles.clear();
+		notifyProjectiles.clear();
+		for (AoeProjectileInfo projectileInfo : AoeProjectileInfo.values())
 		{
-			case VASA_RANGED_AOE:
-			case VORKATH_POISON_POOL:
-			case VORKATH_SPAWN:
-			case VORKATH_TICK_FIRE:
-			case OLM_BURNING:
-			case OLM_FALLING_CRYSTAL_TRAIL:
-			case OLM_ACID_TRAIL:
-			case OLM_FIRE_LINE:
-				return false;
+			if (REGION_GATED_PROJECTILES.contains(projectileInfo))
+			{
+				continue;
+			}
+			if (isConfigEnabledForProjectile(projectileInfo, false))
+			{
+				enabledProjectiles.add(projectileInfo);
+			}
+			if (isConfigEnabledForProjectile(projectileInfo, true))
+			{
+				notifyProjectiles.add(projectileInfo);
+			}
 		}
-
-		return true;
 	}
 
-	private boolean isConfigEnabledForProjectileId(int projectileId, boolean notify)
+	private boolean isEnabled(AoeProjectileInfo projectileInfo, boolean notify)
 	{
-		AoeProjectileInfo projectileInfo = AoeProjectileInfo.getById(projectileId);
-		if (projectileInfo == null)
+		if (REGION_GATED_PROJECTILES.contains(projectileInfo))
 		{
-			return false;
+			return isConfigEnabledForProjectile(projectileInfo, notify);
 		}
+		return notify ? notifyProjectiles.contains(projectileInfo) : enabledProjectiles.contains(projectileInfo);
+	}
 
+	private boolean isConfigEnabledForProjectile(AoeProjectileInfo projectileInfo, boolean notify)
+	{
 		if (notify && config.aoeNotifyAll())
 		{
 			return true;
@@ -374,15 +382,25 @@ public class AoeWarningPlugin extends Plugin
 		return false;
 	}
 
+	/*
+		Olm's acid pools and crystal spikes are only drawn, so they are read straight from the shared scene index.
+	 */
+	List<GameObject> getAcidTrail()
+	{
+		return SceneObjectIndex.getGameObjects(ObjectID.OLM_ACID_POOL);
+	}
+
+	List<GameObject> getCrystalSpike()
+	{
+		return SceneObjectIndex.getGameObjects(ObjectID.OLM_CRYSTAL_ATTACK_SMALL);
+	}
+
 	private void reset()
 	{
 		lightningTrail.clear();
-		acidTrail.clear();
-		crystalSpike.clear();
 		wintertodtSnowFall.clear();
 		bombs.clear();
 		projectiles.clear();
-		spawnedProjectiles.clear();
 	}
 
 	private boolean regionCheck(int region)
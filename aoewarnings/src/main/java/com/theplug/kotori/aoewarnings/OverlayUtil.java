@@ -6,6 +6,7 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
+import java.awt.Stroke;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
@@ -15,6 +16,15 @@ import net.runelite.api.coords.WorldPoint;
 public class OverlayUtil
 {
 	public static void drawTiles(Graphics2D graphics, Client client, WorldPoint point, WorldPoint playerPoint, Color color, int strokeWidth, int outlineAlpha, int fillAlpha)
+	{
+		drawTiles(graphics, client, point, playerPoint, new Color(color.getRed(), color.getGreen(), color.getBlue(), outlineAlpha),
+			new Color(color.getRed(), color.getGreen(), color.getBlue(), fillAlpha), new BasicStroke(strokeWidth));
+	}
+
+	/*
+		Same as above, for callers that keep their colors and stroke around instead of building them for every tile.
+	 */
+	public static void drawTiles(Graphics2D graphics, Client client, WorldPoint point, WorldPoint playerPoint, Color outlineColor, Color fillColor, Stroke stroke)
 	{
 		if (point.distanceTo(playerPoint) >= 32)
 		{
@@ -31,15 +41,21 @@ public class OverlayUtil
 		{
 			return;
 		}
-		drawStrokeAndFillPoly(graphics, color, strokeWidth, outlineAlpha, fillAlpha, poly);
+		drawStrokeAndFillPoly(graphics, outlineColor, fillColor, stroke, poly);
 	}
 
 	public static void drawStrokeAndFillPoly(Graphics2D graphics, Color color, int strokeWidth, int outlineAlpha, int fillAlpha, Polygon poly)
 	{
-		graphics.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), outlineAlpha));
-		graphics.setStroke(new BasicStroke(strokeWidth));
+		drawStrokeAndFillPoly(graphics, new Color(color.getRed(), color.getGreen(), color.getBlue(), outlineAlpha),
+			new Color(color.getRed(), color.getGreen(), color.getBlue(), fillAlpha), new BasicStroke(strokeWidth), poly);
+	}
+
+	public static void drawStrokeAndFillPoly(Graphics2D graphics, Color outlineColor, Color fillColor, Stroke stroke, Polygon poly)
+	{
+		graphics.setColor(outlineColor);
+		graphics.setStroke(stroke);
 		graphics.draw(poly);
-		graphics.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), fillAlpha));
+		graphics.setColor(fillColor);
 		graphics.fill(poly);
 	}
 
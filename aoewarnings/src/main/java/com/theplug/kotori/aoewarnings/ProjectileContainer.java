@@ -1,30 +1,59 @@
 package com.theplug.kotori.aoewarnings;
 
-import java.time.Instant;
+import java.awt.Polygon;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.Projectile;
+import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 
 @Getter(AccessLevel.PACKAGE)
 class ProjectileContainer
 {
 	private final Projectile projectile;
-	private final Instant startTime;
+	private final long startMillis;
+	private final long endMillis;
 	private final AoeProjectileInfo aoeProjectileInfo;
 	private final int lifetime;
 	private final int finalTick;
 	@Setter(AccessLevel.PACKAGE)
 	private LocalPoint targetPoint;
 
-	ProjectileContainer(Projectile projectile, Instant startTime, int lifetime, int finalTick)
+	/*
+		Canvas polygon of the target area and its center, reused by the overlay until the camera moves or the target changes.
+	 */
+	private Polygon tilePoly;
+	private Point tilePolyCenter;
+	private LocalPoint tilePolyTarget;
+	private int tilePolyCameraGeneration = -1;
+
+	ProjectileContainer(Projectile projectile, AoeProjectileInfo aoeProjectileInfo, long startMillis, int lifetime, int finalTick)
 	{
 		this.projectile = projectile;
-		this.startTime = startTime;
+		this.startMillis = startMillis;
+		this.endMillis = startMillis + lifetime;
 		this.targetPoint = null;
-		this.aoeProjectileInfo = AoeProjectileInfo.getById(projectile.getId());
+		this.aoeProjectileInfo = aoeProjectileInfo;
 		this.lifetime = lifetime;
 		this.finalTick = finalTick;
 	}
+
+	boolean isExpired(long nowMillis)
+	{
+		return nowMillis > endMillis;
+	}
+
+	boolean isTilePolyValid(int cameraGeneration)
+	{
+		return tilePolyCameraGeneration == cameraGeneration && targetPoint.equals(tilePolyTarget);
+	}
+
+	void setTilePoly(Polygon tilePoly, Point tilePolyCenter, int cameraGeneration)
+	{
+		this.tilePoly = tilePoly;
+		this.tilePolyCenter = tilePolyCenter;
+		this.tilePolyTarget = targetPoint;
+		this.tilePolyCameraGeneration = cameraGeneration;
+	}
 }
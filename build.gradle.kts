@@ -70,6 +70,9 @@ subprojects {
     dependencies {
         annotationProcessor(Libraries.lombok)
         annotationProcessor(Libraries.pf4j)
+        if (project.name != "configsnapshot") {
+            annotationProcessor(project(":configsnapshot"))
+        }
 
         compileOnly(group = "net.runelite", name = "client", version = version)
         compileOnly(group = "net.runelite", name = "runelite-api", version = version)
@@ -111,11 +114,14 @@ subprojects {
             options.encoding = "UTF-8"
         }
 
-        withType<Jar> {
-            doLast {
-                copy {
-                    from("./build/libs/")
-                    into("../release/")
+        // configsnapshot is only an annotation processor for the other projects, it is never released as a plugin
+        if (project.name != "configsnapshot") {
+            withType<Jar> {
+                doLast {
+                    copy {
+                        from("./build/libs/")
+                        into("../release/")
+                    }
                 }
             }
         }
@@ -41,6 +41,7 @@ import javax.inject.Singleton;
 
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.ReflectionLibrary;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.*;
 import com.theplug.kotori.kotoriutils.rlapi.Spells;
 import lombok.Getter;
@@ -93,7 +94,7 @@ public class CerberusHelperPlugin extends Plugin
 	private static final int PROJECTILE_ID_NO_FUCKING_IDEA = 15;
 	private static final int PROJECTILE_ID_LAVA = 1247;
 
-	private static final Set<Integer> REGION_IDS = Set.of(4883, 5140, 5395);
+	private static final int[] REGION_IDS = {4883, 5140, 5395};
 
 	private static final Set<Integer> CERBERUS_IDS = Set.of(NpcID.CERBERUS_ATTACKING, NpcID.CERBERUS_SITTING, NpcID.CERBERUS_RESETTING);
 
@@ -136,8 +137,6 @@ public class CerberusHelperPlugin extends Plugin
 	@Getter
 	private final List<CerberusAttack> upcomingAttacks = new ArrayList<>();
 
-	private final List<Long> tickTimestamps = new ArrayList<>();
-
 	@Getter
 	@Nullable
 	private Prayer defaultPrayer = Prayer.PROTECT_FROM_MAGIC;
@@ -157,10 +156,6 @@ public class CerberusHelperPlugin extends Plugin
 	@Getter
 	private int gameTick;
 
-	private int tickTimestampIndex;
-
-	@Getter
-	private long lastTick;
 
 	private boolean inArena;
 	private boolean inAreaPastFlames;
@@ -183,7 +178,12 @@ public class CerberusHelperPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
-		if (client.getGameState() != GameState.LOGGED_IN || !inCerberusRegion())
+		RegionEventRouter.register(this, REGION_IDS);
+		RegionEventRouter.subscribe(this, ProjectileMoved.class, this::onProjectileMoved);
+		RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+		RegionEventRouter.subscribe(this, GraphicsObjectCreated.class, this::onGraphicsObjectCreated);
+
+		if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
 		{
 			return;
 		}
@@ -218,6 +218,12 @@ public class CerberusHelperPlugin extends Plugin
 
 	@Override
 	protected void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		inArena = false;
 		inAreaPastFlames = false;
@@ -229,7 +235,6 @@ public class CerberusHelperPlugin extends Plugin
 
 		ghosts.clear();
 		upcomingAttacks.clear();
-		tickTimestamps.clear();
 		cerberusProjectiles.clear();
 		lavaProjectiles.clear();
 		echoLavaGraphics.clear();
@@ -239,8 +244,6 @@ public class CerberusHelperPlugin extends Plugin
 		cerberus = null;
 
 		gameTick = 0;
-		tickTimestampIndex = 0;
-		lastTick = 0;
 
 		ranFromLavaOnce = false;
 		performAttackAfterPrayer = false;
@@ -261,7 +264,7 @@ public class CerberusHelperPlugin extends Plugin
 		switch (gameState)
 		{
 			case LOGGED_IN:
-				if (inCerberusRegion())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!inArena)
 					{
@@ -272,7 +275,7 @@ public class CerberusHelperPlugin extends Plugin
 				{
 					if (inArena)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -280,7 +283,7 @@ public class CerberusHelperPlugin extends Plugin
 			case LOGIN_SCREEN:
 				if (inArena)
 				{
-					shutDown();
+					stop();
 				}
 				break;
 			default:
@@ -298,33 +301,6 @@ public class CerberusHelperPlugin extends Plugin
 
 		inAreaPastFlames();
 
-		if (tickTimestamps.size() <= tickTimestampIndex)
-		{
-			tickTimestamps.add(System.currentTimeMillis());
-		}
-		else
-		{
-			tickTimestamps.set(tickTimestampIndex, System.currentTimeMillis());
-		}
-
-		long min = 0;
-
-		for (int i = 0; i < tickTimestamps.size(); ++i)
-		{
-			if (min == 0)
-			{
-				min = tickTimestamps.get(i) + 600 * ((tickTimestampIndex - i + 5) % 5);
-			}
-			else
-			{
-				min = Math.min(min, tickTimestamps.get(i) + 600 * ((tickTimestampIndex - i + 5) % 5));
-			}
-		}
-
-		tickTimestampIndex = (tickTimestampIndex + 1) % 5;
-
-		lastTick = min;
-
 		++gameTick;
 
 		if (gameTick % 10 == 3)
@@ -395,7 +371,9 @@ public class CerberusHelperPlugin extends Plugin
 		echoLavaGraphics.removeIf(GraphicsObject::finished);
 	}
 
-	@Subscribe(priority = Float.MAX_VALUE)
+	/*
+		Routed, so it only runs while the player is in Cerberus' regions.
+	 */
 	private void onProjectileMoved(final ProjectileMoved event)
 	{
 		if (!inArena || cerberus == null)
@@ -481,7 +459,6 @@ public class CerberusHelperPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
 	private void onAnimationChanged(final AnimationChanged event)
 	{
 		if (!inArena || cerberus == null)
@@ -536,10 +513,7 @@ public class CerberusHelperPlugin extends Plugin
 			case ANIMATION_ID_STAND_UP:
 				cerberus = new Cerberus(cerberus.getNpc(), config.killingEchoCerberus());
 				gameTick = 0;
-				lastTick = System.currentTimeMillis();
 				upcomingAttacks.clear();
-				tickTimestamps.clear();
-				tickTimestampIndex = 0;
 				cerberus.doProjectileOrAnimation(gameTick, Cerberus.Attack.SPAWN);
 				break;
 			case ANIMATION_ID_IDLE:
@@ -566,7 +540,6 @@ public class CerberusHelperPlugin extends Plugin
 		}
 	}
 
-	@Subscribe(priority = Float.MAX_VALUE)
 	private void onGraphicsObjectCreated(final GraphicsObjectCreated event)
 	{
 		if (!inArena)
@@ -598,11 +571,8 @@ public class CerberusHelperPlugin extends Plugin
 			cerberus = new Cerberus(npc, config.killingEchoCerberus());
 
 			gameTick = 0;
-			tickTimestampIndex = 0;
-			lastTick = System.currentTimeMillis();
 
 			upcomingAttacks.clear();
-			tickTimestamps.clear();
 			
 			allPrayersDeactivated = false;
 		}
@@ -952,11 +922,6 @@ public class CerberusHelperPlugin extends Plugin
 		}
 	}
 
-	private boolean inCerberusRegion()
-	{
-		return REGION_IDS.contains(MiscUtilities.getPlayerRegionID());
-	}
-
 	private void inAreaPastFlames()
 	{
 		if (!inArena)
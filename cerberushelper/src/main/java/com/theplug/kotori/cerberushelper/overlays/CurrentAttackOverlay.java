@@ -42,6 +42,7 @@ import com.theplug.kotori.cerberushelper.CerberusHelperPlugin;
 import com.theplug.kotori.cerberushelper.util.ImageManager;
 import com.theplug.kotori.cerberushelper.util.InfoBoxComponent;
 import com.theplug.kotori.kotoriutils.methods.PrayerInteractions;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.Client;
 import net.runelite.api.Prayer;
 import net.runelite.client.ui.FontManager;
@@ -109,7 +110,7 @@ public final class CurrentAttackOverlay extends Overlay
 
 		if (config.showCurrentAttackTimer())
 		{
-			final double timeUntilAttack = Math.max((double) ((plugin.getUpcomingAttacks().get(0).getTick() - plugin.getGameTick()) * 600L - (System.currentTimeMillis() - plugin.getLastTick())) / 1000, 0);
+			final double timeUntilAttack = TickClock.millisUntil(plugin.getUpcomingAttacks().get(0).getTick() - plugin.getGameTick()) / 1000.0;
 
 			infoBoxComponent.setText(String.format("+%.1fs", timeUntilAttack));
 		}
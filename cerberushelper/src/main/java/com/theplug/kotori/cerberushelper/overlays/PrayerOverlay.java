@@ -42,6 +42,7 @@ import com.theplug.kotori.cerberushelper.CerberusHelperPlugin;
 import com.theplug.kotori.cerberushelper.domain.CerberusAttack;
 import com.theplug.kotori.kotoriutils.overlay.OverlayUtility;
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.Client;
 import net.runelite.api.Point;
 import net.runelite.api.Prayer;
@@ -130,21 +131,19 @@ public class PrayerOverlay extends Overlay
 			return;
 		}
 
-		final long lastTick = plugin.getLastTick();
-
 		int baseX = (int) prayerWidget.getBounds().getX();
 		baseX += (int) (prayerWidget.getBounds().getWidth() / 2);
 		baseX -= BOX_WIDTH / 2;
 
 		int baseY = (int) prayerWidget.getBounds().getY() - tick * TICK_PIXEL_SIZE - BOX_HEIGHT;
-		baseY += (int) (TICK_PIXEL_SIZE - ((lastTick + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE));
+		baseY += (int) (TickClock.fractionIntoTick() * TICK_PIXEL_SIZE);
 
 		if (baseY > (int) prayerWidget.getBounds().getY() - BOX_HEIGHT)
 		{
 			return;
 		}
 
-		if (System.currentTimeMillis() - lastTick > 600)
+		if (TickClock.millisIntoTick() > TickClock.TICK_LENGTH)
 		{
 			lastBoxBaseYMap.put(prayerWidget, baseY);
 		}
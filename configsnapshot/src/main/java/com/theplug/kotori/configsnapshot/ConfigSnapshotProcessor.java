@@ -0,0 +1,166 @@
+package com.theplug.kotori.configsnapshot;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/*
+	Writes a <Name>Snapshot class next to every @ConfigGroup interface, holding the value of each of its config items in a final field.
+	Reading an item from RuneLite's config proxy goes through a reflective invocation handler and the config manager's string cache,
+	which adds up when overlays read dozens of items every frame. A snapshot is built once from the proxy and then read as plain fields.
+	Plugins keep the current snapshot in a volatile field and swap in a new one when a ConfigChanged event arrives for their group.
+	The accessors have the same names as the config methods, so a snapshot reads the same as the config it was taken from.
+	Only annotation names are used, so the processor doesn't depend on the RuneLite client.
+ */
+@SupportedAnnotationTypes(ConfigSnapshotProcessor.CONFIG_GROUP)
+public class ConfigSnapshotProcessor extends AbstractProcessor
+{
+	static final String CONFIG_GROUP = "net.runelite.client.config.ConfigGroup";
+	private static final String CONFIG_ITEM = "net.runelite.client.config.ConfigItem";
+	private static final String SUFFIX = "Snapshot";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() != ElementKind.INTERFACE)
+				{
+					continue;
+				}
+
+				try
+				{
+					writeSnapshot((TypeElement) element);
+				}
+				catch (IOException e)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Unable to write the config snapshot: " + e.getMessage(), element);
+				}
+			}
+		}
+		return false;
+	}
+
+	private void writeSnapshot(TypeElement config) throws IOException
+	{
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(config);
+		String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+		String configName = config.getSimpleName().toString();
+		String snapshotName = configName + SUFFIX;
+		String visibility = config.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+
+		List<ExecutableElement> items = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(config.getEnclosedElements()))
+		{
+			if (isConfigItem(method))
+			{
+				items.add(method);
+			}
+		}
+
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(
+			packageName.isEmpty() ? snapshotName : packageName + "." + snapshotName, config);
+		try (Writer out = file.openWriter())
+		{
+			if (!packageName.isEmpty())
+			{
+				out.write("package " + packageName + ";\n\n");
+			}
+
+			out.write("/*\n\tImmutable copy of every " + configName + " item, generated by " + getClass().getSimpleName() + ".\n */\n");
+			out.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+			out.write(visibility + "final class " + snapshotName + "\n{\n");
+			out.write("\t" + visibility + "static final String GROUP = \"" + groupName(config) + "\";\n\n");
+
+			for (ExecutableElement item : items)
+			{
+				out.write("\tprivate final " + item.getReturnType() + " " + item.getSimpleName() + ";\n");
+			}
+
+			out.write("\n\t" + visibility + snapshotName + "(" + config.getQualifiedName() + " config)\n\t{\n");
+			for (ExecutableElement item : items)
+			{
+				out.write("\t\tthis." + item.getSimpleName() + " = config." + item.getSimpleName() + "();\n");
+			}
+			out.write("\t}\n");
+
+			for (ExecutableElement item : items)
+			{
+				out.write("\n\t" + visibility + item.getReturnType() + " " + item.getSimpleName() + "()\n\t{\n");
+				out.write("\t\treturn " + item.getSimpleName() + ";\n\t}\n");
+			}
+			out.write("}\n");
+		}
+	}
+
+	/*
+		Config items are the methods annotated with @ConfigItem that take nothing and return a value, which leaves out setters.
+	 */
+	private static boolean isConfigItem(ExecutableElement method)
+	{
+		return !method.getModifiers().contains(Modifier.STATIC)
+			&& method.getParameters().isEmpty()
+			&& method.getReturnType().getKind() != TypeKind.VOID
+			&& findAnnotation(method, CONFIG_ITEM) != null;
+	}
+
+	private static String groupName(TypeElement config)
+	{
+		AnnotationMirror group = findAnnotation(config, CONFIG_GROUP);
+		if (group == null)
+		{
+			return "";
+		}
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : group.getElementValues().entrySet())
+		{
+			if (value.getKey().getSimpleName().contentEquals("value"))
+			{
+				return String.valueOf(value.getValue().getValue());
+			}
+		}
+		return "";
+	}
+
+	private static AnnotationMirror findAnnotation(Element element, String name)
+	{
+		for (AnnotationMirror annotation : element.getAnnotationMirrors())
+		{
+			TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+			if (type.getQualifiedName().contentEquals(name))
+			{
+				return annotation;
+			}
+		}
+		return null;
+	}
+}
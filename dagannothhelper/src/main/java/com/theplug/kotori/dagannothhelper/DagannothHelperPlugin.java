@@ -32,6 +32,7 @@ import com.theplug.kotori.dagannothhelper.overlay.InfoboxOverlay;
 import com.theplug.kotori.dagannothhelper.overlay.PrayerOverlay;
 import com.theplug.kotori.dagannothhelper.overlay.SceneOverlay;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.*;
 import com.theplug.kotori.kotoriutils.rlapi.Spells;
 import lombok.Getter;
@@ -68,7 +69,7 @@ public class DagannothHelperPlugin extends Plugin
 
 	public static final int ECHO_ACID_POOL_PROJECTILE = 3034;
 
-	private static final Set<Integer> WATERBITH_REGIONS = Set.of(11588, 11589);
+	private static final int[] WATERBITH_REGIONS = {11588, 11589};
 
 	@Inject
 	private Client client;
@@ -99,9 +100,6 @@ public class DagannothHelperPlugin extends Plugin
 
 	private boolean atDks;
 
-	@Getter
-	private long lastTickTime;
-
 	private boolean prayersDeactivated;
 	private int lastAttackStyle = -1;
 	private Set<Prayer> lastOffensivePrayers = null;
@@ -177,7 +175,12 @@ public class DagannothHelperPlugin extends Plugin
 	@Override
 	public void startUp()
 	{
-		if (client.getGameState() != GameState.LOGGED_IN || !atDks())
+		RegionEventRouter.register(this, WATERBITH_REGIONS);
+		RegionEventRouter.subscribe(this, ClientTick.class, this::onClientTick);
+		RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+		RegionEventRouter.subscribe(this, ProjectileMoved.class, this::onProjectileMoved);
+
+		if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
 		{
 			return;
 		}
@@ -200,6 +203,12 @@ public class DagannothHelperPlugin extends Plugin
 
 	@Override
 	public void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		atDks = false;
 
@@ -260,7 +269,7 @@ public class DagannothHelperPlugin extends Plugin
 		switch (gameState)
 		{
 			case LOGGED_IN:
-				if (atDks())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!atDks)
 					{
@@ -271,13 +280,13 @@ public class DagannothHelperPlugin extends Plugin
 				{
 					if (atDks)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
 			case LOGIN_SCREEN:
 			case HOPPING:
-				shutDown();
+				stop();
 				break;
 		}
 	}
@@ -289,7 +298,6 @@ public class DagannothHelperPlugin extends Plugin
 		{
 			return;
 		}
-		lastTickTime = System.currentTimeMillis();
 
 		if (dagannothKings.isEmpty())
 		{
@@ -315,10 +323,12 @@ public class DagannothHelperPlugin extends Plugin
 		echoAcidProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
 	}
 
-	@Subscribe
+	/*
+		The routed listeners below only run while the player is at the Dagannoth Kings.
+	 */
 	private void onClientTick(final ClientTick event)
 	{
-		if (!atDks || client.getGameState() != GameState.LOGGED_IN || client.getLocalPlayer() == null || spellToLeftClick == null)
+		if (client.getGameState() != GameState.LOGGED_IN || client.getLocalPlayer() == null || spellToLeftClick == null)
 		{
 			return;
 		}
@@ -326,14 +336,8 @@ public class DagannothHelperPlugin extends Plugin
 		SpellInteractions.createOneClickAttackSpell(spellToLeftClick);
 	}
 
-	@Subscribe(priority = Float.MAX_VALUE)
 	private void onAnimationChanged(final AnimationChanged event)
 	{
-		if (!atDks)
-		{
-			return;
-		}
-
 		Actor actor = event.getActor();
 		int animation = actor.getAnimation();
 		// Animation of death is faster than waiting on NpcDespawned event
@@ -356,14 +360,8 @@ public class DagannothHelperPlugin extends Plugin
 		}
 	}
 
-	@Subscribe(priority = Float.MAX_VALUE)
 	private void onProjectileMoved(final ProjectileMoved event)
 	{
-		if (!atDks)
-		{
-			return;
-		}
-
 		Projectile projectile = event.getProjectile();
 
 		if (dagannothKings.isEmpty())
@@ -438,11 +436,6 @@ public class DagannothHelperPlugin extends Plugin
 		}
 	}
 
-	private boolean atDks()
-	{
-		return WATERBITH_REGIONS.contains(MiscUtilities.getPlayerRegionID());
-	}
-
 	private void deactivatePrayers()
 	{
 		if (prayersDeactivated)
@@ -33,6 +33,7 @@ import com.theplug.kotori.dagannothhelper.DagannothHelperPlugin;
 import com.theplug.kotori.dagannothhelper.entity.DagannothKing;
 import com.theplug.kotori.kotoriutils.overlay.OverlayUtility;
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.*;
 import net.runelite.api.Point;
 import net.runelite.api.widgets.Widget;
@@ -165,7 +166,7 @@ public class PrayerOverlay extends Overlay
 		baseX -= BOX_WIDTH / 2;
 
 		int baseY = (int) prayerWidget.getBounds().getY() - tick * TICK_PIXEL_SIZE - BOX_HEIGHT;
-		baseY += (int) (TICK_PIXEL_SIZE - ((plugin.getLastTickTime() + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE));
+		baseY += (int) (TickClock.fractionIntoTick() * TICK_PIXEL_SIZE);
 
 		final Rectangle boxRectangle = new Rectangle(BOX_WIDTH, BOX_HEIGHT);
 		boxRectangle.translate(baseX, baseY);
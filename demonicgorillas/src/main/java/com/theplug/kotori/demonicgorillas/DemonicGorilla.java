@@ -25,8 +25,7 @@
  */
 package com.theplug.kotori.demonicgorillas;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.function.Predicate;
 
 import com.theplug.kotori.kotoriutils.ReflectionLibrary;
 import lombok.AccessLevel;
@@ -34,6 +33,7 @@ import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
 
 class DemonicGorilla
 {
@@ -61,13 +61,18 @@ class DemonicGorilla
 		BOULDER
 	}
 
+	static final int REGULAR_ATTACK_STYLES = styleBit(AttackStyle.MELEE) | styleBit(AttackStyle.RANGED) | styleBit(AttackStyle.MAGIC);
+
 	private final Client client;
 	@Getter(AccessLevel.PACKAGE)
 	private final NPC npc;
 
+	// Bit set of the attack styles the next attack can still be, see styleBit
+	private int nextPosibleAttackStyles;
+
+	// Whether the gorilla could step onto a tile this tick, kept so the movement check doesn't build a new predicate every tick
 	@Getter(AccessLevel.PACKAGE)
-	@Setter(AccessLevel.PACKAGE)
-	private List<AttackStyle> nextPosibleAttackStyles;
+	private final Predicate<WorldPoint> walkable;
 
 	@Getter(AccessLevel.PACKAGE)
 	@Setter(AccessLevel.PACKAGE)
@@ -121,16 +126,53 @@ class DemonicGorilla
 	@Setter(AccessLevel.PACKAGE)
 	private int disabledMeleeMovementForTicks;
 
-	DemonicGorilla(NPC npc, Client client)
+	DemonicGorilla(NPC npc, Client client, GorillaSpatialHash spatialHash)
 	{
 		this.client = client;
 		this.npc = npc;
-		this.nextPosibleAttackStyles = Arrays.asList(ALL_REGULAR_ATTACK_STYLES);
+		this.nextPosibleAttackStyles = REGULAR_ATTACK_STYLES;
+		this.walkable = tile -> !spatialHash.isBlocked(tile, npc.getIndex());
 		this.nextAttackTick = -100;
 		this.attacksUntilSwitch = ATTACKS_PER_SWITCH;
 		this.recentProjectileId = -1;
 	}
 
+	static int styleBit(AttackStyle style)
+	{
+		return style == null ? 0 : 1 << style.ordinal();
+	}
+
+	boolean canUseAttackStyle(AttackStyle style)
+	{
+		return (nextPosibleAttackStyles & styleBit(style)) != 0;
+	}
+
+	int getPossibleAttackStyleCount()
+	{
+		return Integer.bitCount(nextPosibleAttackStyles);
+	}
+
+	/*
+		Narrows the next attack down to the style, leaving no possible styles if it was already ruled out.
+	 */
+	void restrictAttackStyles(AttackStyle style)
+	{
+		nextPosibleAttackStyles &= styleBit(style);
+	}
+
+	void excludeAttackStyle(AttackStyle style)
+	{
+		nextPosibleAttackStyles &= ~styleBit(style);
+	}
+
+	/*
+		Every regular style except the excluded bits is possible again, as after a style switch.
+	 */
+	void resetAttackStyles(int excludedStyles)
+	{
+		nextPosibleAttackStyles = REGULAR_ATTACK_STYLES & ~excludedStyles;
+	}
+
 	HeadIcon getOverheadIcon()
 	{
 		return ReflectionLibrary.getNpcOverheadIcon(npc);
@@ -30,8 +30,6 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.geom.Arc2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
@@ -102,13 +100,10 @@ public class DemonicGorillaOverlay extends Overlay
 				{
 					point = new Point(point.getX(), point.getY());
 
-					List<DemonicGorilla.AttackStyle> attackStyles = gorilla.getNextPosibleAttackStyles();
-					List<BufferedImage> icons = new ArrayList<>();
-					int totalWidth = (attackStyles.size() - 1) * OVERLAY_ICON_MARGIN;
-					for (DemonicGorilla.AttackStyle attackStyle : attackStyles)
+					int totalWidth = (gorilla.getPossibleAttackStyleCount() - 1) * OVERLAY_ICON_MARGIN;
+					for (DemonicGorilla.AttackStyle attackStyle : DemonicGorilla.ALL_REGULAR_ATTACK_STYLES)
 					{
-						BufferedImage icon = getIcon(attackStyle);
-						icons.add(icon);
+						BufferedImage icon = gorilla.canUseAttackStyle(attackStyle) ? getIcon(attackStyle) : null;
 						if (icon != null)
 						{
 							totalWidth += icon.getWidth();
@@ -117,8 +112,13 @@ public class DemonicGorillaOverlay extends Overlay
 
 					int bgPadding = 4;
 					int currentPosX = 0;
-					for (BufferedImage icon : icons)
+					for (DemonicGorilla.AttackStyle attackStyle : DemonicGorilla.ALL_REGULAR_ATTACK_STYLES)
 					{
+						BufferedImage icon = gorilla.canUseAttackStyle(attackStyle) ? getIcon(attackStyle) : null;
+						if (icon == null)
+						{
+							continue;
+						}
 						setProgressIcon(graphics, point, icon, totalWidth, bgPadding, currentPosX,
 							COLOR_ICON_BACKGROUND, OVERLAY_ICON_DISTANCE, COLOR_ICON_BORDER, COLOR_ICON_BORDER_FILL);
 						Arc2D.Double arc = new Arc2D.Double(
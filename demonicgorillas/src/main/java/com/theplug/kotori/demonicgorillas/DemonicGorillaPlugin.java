@@ -28,10 +28,9 @@ package com.theplug.kotori.demonicgorillas;
 import com.google.common.collect.ImmutableSet;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 
-import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
 import com.theplug.kotori.kotoriutils.rlapi.GraphicIDPlus;
 import com.theplug.kotori.kotoriutils.rlapi.WorldAreaExtended;
@@ -84,13 +83,13 @@ public class DemonicGorillaPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private Map<NPC, DemonicGorilla> gorillas;
 
-	private List<WorldPoint> recentBoulders;
+	private GorillaSpatialHash spatialHash;
 
 	private List<PendingGorillaAttack> pendingAttacks;
 
 	private Map<Player, MemorizedPlayer> memorizedPlayers;
 	private ArrayList<Projectile> gorillaProjectiles;
-	private static final Set<Integer> REGION_IDS = Set.of(8280, 8536);
+	private static final int[] REGION_IDS = {8280, 8536};
 	private boolean atGorillas;
 
 	private static final int DEMONIC_GORILLA_AOE_ATTACK = 7228;
@@ -98,7 +97,10 @@ public class DemonicGorillaPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
-		if (client.getGameState() != GameState.LOGGED_IN || !atDemonicGorillas())
+		RegionEventRouter.register(this, REGION_IDS);
+		RegionEventRouter.subscribe(this, ProjectileMoved.class, this::onProjectileMoved);
+
+		if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
 		{
 			return;
 		}
@@ -108,12 +110,18 @@ public class DemonicGorillaPlugin extends Plugin
 
 	@Override
 	protected void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		atGorillas = false;
 		
 		overlayManager.remove(overlay);
 		gorillas = null;
-		recentBoulders = null;
+		spatialHash = null;
 		pendingAttacks = null;
 		memorizedPlayers = null;
 		gorillaProjectiles = null;
@@ -125,7 +133,7 @@ public class DemonicGorillaPlugin extends Plugin
 		
 		overlayManager.add(overlay);
 		gorillas = new HashMap<>();
-		recentBoulders = new ArrayList<>();
+		spatialHash = new GorillaSpatialHash();
 		pendingAttacks = new ArrayList<>();
 		gorillaProjectiles = new ArrayList<>();
 		memorizedPlayers = new HashMap<>();
@@ -134,7 +142,7 @@ public class DemonicGorillaPlugin extends Plugin
 
 	private void clear()
 	{
-		recentBoulders.clear();
+		spatialHash.clear();
 		pendingAttacks.clear();
 		memorizedPlayers.clear();
 		gorillas.clear();
@@ -142,7 +150,7 @@ public class DemonicGorillaPlugin extends Plugin
 
 	private void reset()
 	{
-		recentBoulders.clear();
+		spatialHash.clearBoulders();
 		pendingAttacks.clear();
 		resetGorillas();
 		resetPlayers();
@@ -155,7 +163,7 @@ public class DemonicGorillaPlugin extends Plugin
 		{
 			if (isNpcGorilla(npc.getId()))
 			{
-				gorillas.put(npc, new DemonicGorilla(npc, client));
+				gorillas.put(npc, new DemonicGorilla(npc, client, spatialHash));
 			}
 		}
 	}
@@ -163,6 +171,7 @@ public class DemonicGorillaPlugin extends Plugin
 	private void resetPlayers()
 	{
 		memorizedPlayers.clear();
+		spatialHash.clearPlayers();
 		for (Player player : NPCInteractions.getPlayers())
 		{
 			memorizedPlayers.put(player, new MemorizedPlayer(player));
@@ -179,15 +188,12 @@ public class DemonicGorillaPlugin extends Plugin
 			npcId == NpcID.MM2_DEMON_GORILLA_2_MAGIC;
 	}
 
-	private void checkGorillaAttackStyleSwitch(DemonicGorilla gorilla, final DemonicGorilla.AttackStyle... protectedStyles)
+	private void checkGorillaAttackStyleSwitch(DemonicGorilla gorilla, int protectedStyles)
 	{
 		if (gorilla.getAttacksUntilSwitch() <= 0 ||
-			gorilla.getNextPosibleAttackStyles().isEmpty())
+			gorilla.getPossibleAttackStyleCount() == 0)
 		{
-			gorilla.setNextPosibleAttackStyles(Arrays
-				.stream(DemonicGorilla.ALL_REGULAR_ATTACK_STYLES)
-				.filter(x -> Arrays.stream(protectedStyles).noneMatch(y -> x == y))
-				.collect(Collectors.toList()));
+			gorilla.resetAttackStyles(protectedStyles);
 			gorilla.setAttacksUntilSwitch(DemonicGorilla.ATTACKS_PER_SWITCH);
 			gorilla.setChangedAttackStyleThisTick(true);
 		}
@@ -232,11 +238,7 @@ public class DemonicGorillaPlugin extends Plugin
 		if (attackStyle == DemonicGorilla.AttackStyle.BOULDER)
 		{
 			// The gorilla can't throw boulders when it's meleeing
-			gorilla.setNextPosibleAttackStyles(gorilla
-				.getNextPosibleAttackStyles()
-				.stream()
-				.filter(x -> x != DemonicGorilla.AttackStyle.MELEE)
-				.collect(Collectors.toList()));
+			gorilla.excludeAttackStyle(DemonicGorilla.AttackStyle.MELEE);
 		}
 		else
 		{
@@ -277,28 +279,21 @@ public class DemonicGorillaPlugin extends Plugin
 				pendingAttacks.add(new PendingGorillaAttack(gorilla, attackStyle, target, damagesOnTick));
 			}
 
-			gorilla.setNextPosibleAttackStyles(gorilla
-				.getNextPosibleAttackStyles()
-				.stream()
-				.filter(x -> x == attackStyle)
-				.collect(Collectors.toList()));
+			gorilla.restrictAttackStyles(attackStyle);
 
-			if (gorilla.getNextPosibleAttackStyles().isEmpty())
+			if (gorilla.getPossibleAttackStyleCount() == 0)
 			{
 				// Sometimes the gorilla can switch attack style before it's supposed to
 				// if someone was fighting it earlier and then left, so we just
 				// reset the counter in that case.
 
-				gorilla.setNextPosibleAttackStyles(Arrays
-					.stream(DemonicGorilla.ALL_REGULAR_ATTACK_STYLES)
-					.filter(x -> x == attackStyle)
-					.collect(Collectors.toList()));
+				gorilla.resetAttackStyles(~DemonicGorilla.styleBit(attackStyle));
 				gorilla.setAttacksUntilSwitch(DemonicGorilla.ATTACKS_PER_SWITCH -
 					(correctPrayer ? 1 : 0));
 			}
 		}
 
-		checkGorillaAttackStyleSwitch(gorilla, protectedStyle);
+		checkGorillaAttackStyleSwitch(gorilla, DemonicGorilla.styleBit(protectedStyle));
 
 		int tickCounter = client.getTickCount();
 		gorilla.setNextAttackTick(tickCounter + DemonicGorilla.ATTACK_RATE);
@@ -307,249 +302,223 @@ public class DemonicGorillaPlugin extends Plugin
 	private void checkGorillaAttacks()
 	{
 		int tickCounter = client.getTickCount();
+		spatialHash.indexGorillas(gorillas.values());
 		for (DemonicGorilla gorilla : gorillas.values())
 		{
-			Player interacting = (Player) gorilla.getNpc().getInteracting();
-			MemorizedPlayer mp = memorizedPlayers.get(interacting);
+			updateGorilla(gorilla, tickCounter);
+		}
+	}
 
-			if (gorilla.getLastTickInteracting() != null && interacting == null)
-			{
-				gorilla.setInitiatedCombat(false);
-			}
-			else if (mp != null && mp.getLastWorldArea() != null &&
-				!gorilla.isInitiatedCombat() &&
-				tickCounter < gorilla.getNextAttackTick() &&
-				gorilla.getNpc().getWorldArea().isInMeleeDistance(mp.getLastWorldArea()))
-			{
-				gorilla.setInitiatedCombat(true);
-				gorilla.setNextAttackTick(tickCounter + 1);
-			}
+	/*
+		Advances one gorilla's attack style state by a tick. It only looks at its own target and, through the spatial hash,
+		at the tiles around it, so the cost doesn't grow with the number of gorillas and players nearby.
+	 */
+	private void updateGorilla(DemonicGorilla gorilla, int tickCounter)
+	{
+		Player interacting = (Player) gorilla.getNpc().getInteracting();
+		MemorizedPlayer mp = memorizedPlayers.get(interacting);
 
-			int animationId = gorilla.getNpc().getAnimation();
+		if (gorilla.getLastTickInteracting() != null && interacting == null)
+		{
+			gorilla.setInitiatedCombat(false);
+		}
+		else if (mp != null && mp.getLastWorldArea() != null &&
+			!gorilla.isInitiatedCombat() &&
+			tickCounter < gorilla.getNextAttackTick() &&
+			gorilla.getNpc().getWorldArea().isInMeleeDistance(mp.getLastWorldArea()))
+		{
+			gorilla.setInitiatedCombat(true);
+			gorilla.setNextAttackTick(tickCounter + 1);
+		}
 
-			if (gorilla.isTakenDamageRecently() &&
-				tickCounter >= gorilla.getNextAttackTick() + 4)
-			{
-				// The gorilla was flinched, so its next attack gets delayed
-				gorilla.setNextAttackTick(tickCounter + DemonicGorilla.ATTACK_RATE / 2);
-				gorilla.setInitiatedCombat(true);
+		int animationId = gorilla.getNpc().getAnimation();
 
-				if (mp != null && mp.getLastWorldArea() != null &&
-					!gorilla.getNpc().getWorldArea().isInMeleeDistance(mp.getLastWorldArea()) &&
-					!gorilla.getNpc().getWorldArea().intersectsWith(mp.getLastWorldArea()))
+		if (gorilla.isTakenDamageRecently() &&
+			tickCounter >= gorilla.getNextAttackTick() + 4)
+		{
+			// The gorilla was flinched, so its next attack gets delayed
+			gorilla.setNextAttackTick(tickCounter + DemonicGorilla.ATTACK_RATE / 2);
+			gorilla.setInitiatedCombat(true);
+
+			if (mp != null && mp.getLastWorldArea() != null &&
+				!gorilla.getNpc().getWorldArea().isInMeleeDistance(mp.getLastWorldArea()) &&
+				!gorilla.getNpc().getWorldArea().intersectsWith(mp.getLastWorldArea()))
+			{
+				// Gorillas stop meleeing when they get flinched
+				// and the target isn't in melee distance
+				gorilla.excludeAttackStyle(DemonicGorilla.AttackStyle.MELEE);
+				if (interacting != null)
 				{
-					// Gorillas stop meleeing when they get flinched
-					// and the target isn't in melee distance
-					gorilla.setNextPosibleAttackStyles(gorilla
-						.getNextPosibleAttackStyles()
-						.stream()
-						.filter(x -> x != DemonicGorilla.AttackStyle.MELEE)
-						.collect(Collectors.toList()));
-					if (interacting != null)
-					{
-						checkGorillaAttackStyleSwitch(gorilla, DemonicGorilla.AttackStyle.MELEE,
-							getProtectedStyle(interacting));
-					}
+					checkGorillaAttackStyleSwitch(gorilla, DemonicGorilla.styleBit(DemonicGorilla.AttackStyle.MELEE) |
+						DemonicGorilla.styleBit(getProtectedStyle(interacting)));
 				}
 			}
-			else if (animationId != gorilla.getLastTickAnimation())
+		}
+		else if (animationId != gorilla.getLastTickAnimation())
+		{
+			if (animationId == AnimationID.DEMONIC_GORILLA_PUNCH)
 			{
-				if (animationId == AnimationID.DEMONIC_GORILLA_PUNCH)
-				{
-					onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MELEE);
-				}
-				else if (animationId == AnimationID.DEMONIC_GORILLA_MAGIC)
-				{
-					onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MAGIC);
-				}
-				else if (animationId == AnimationID.DEMONIC_GORILLA_RANGE)
+				onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MELEE);
+			}
+			else if (animationId == AnimationID.DEMONIC_GORILLA_MAGIC)
+			{
+				onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MAGIC);
+			}
+			else if (animationId == AnimationID.DEMONIC_GORILLA_RANGE)
+			{
+				onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.RANGED);
+			}
+			else if (animationId == DEMONIC_GORILLA_AOE_ATTACK && interacting != null &&
+				(gorilla.canUseAttackStyle(DemonicGorilla.AttackStyle.MAGIC) || gorilla.canUseAttackStyle(DemonicGorilla.AttackStyle.RANGED)))
+			{
+				// Note that AoE animation is the same as prayer switch animation
+				// so we need to check if the prayer was switched or not.
+				// It also does this animation when it spawns, so
+				// we need the interacting != null check.
+
+				if (gorilla.getOverheadIcon() == gorilla.getLastTickOverheadIcon())
 				{
-					onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.RANGED);
+					// Confirmed, the gorilla used the AoE attack
+					onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.BOULDER);
 				}
-				else if (animationId == DEMONIC_GORILLA_AOE_ATTACK && interacting != null &&
-					gorilla.getNextPosibleAttackStyles().stream().anyMatch(x -> x == DemonicGorilla.AttackStyle.MAGIC || x == DemonicGorilla.AttackStyle.RANGED))
+				else
 				{
-					// Note that AoE animation is the same as prayer switch animation
-					// so we need to check if the prayer was switched or not.
-					// It also does this animation when it spawns, so
-					// we need the interacting != null check.
-
-					if (gorilla.getOverheadIcon() == gorilla.getLastTickOverheadIcon())
+					if (tickCounter >= gorilla.getNextAttackTick())
 					{
-						// Confirmed, the gorilla used the AoE attack
-						onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.BOULDER);
-					}
-					else
-					{
-						if (tickCounter >= gorilla.getNextAttackTick())
-						{
-							gorilla.setChangedPrayerThisTick(true);
+						gorilla.setChangedPrayerThisTick(true);
 
-							// This part is more complicated because the gorilla may have
-							// used an attack, but the prayer switch animation takes
-							// priority over normal attack animations.
+						// This part is more complicated because the gorilla may have
+						// used an attack, but the prayer switch animation takes
+						// priority over normal attack animations.
 
-							int projectileId = gorilla.getRecentProjectileId();
-							if (projectileId == GraphicIDPlus.DEMONIC_GORILLA_MAGIC)
-							{
-								onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MAGIC);
-							}
-							else if (projectileId == GraphicIDPlus.DEMONIC_GORILLA_RANGED)
+						int projectileId = gorilla.getRecentProjectileId();
+						if (projectileId == GraphicIDPlus.DEMONIC_GORILLA_MAGIC)
+						{
+							onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MAGIC);
+						}
+						else if (projectileId == GraphicIDPlus.DEMONIC_GORILLA_RANGED)
+						{
+							onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.RANGED);
+						}
+						else if (mp != null)
+						{
+							if (spatialHash.hasBoulderIn(mp.getLastWorldArea()))
 							{
-								onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.RANGED);
+								// A boulder started falling on the gorillas target,
+								// so we assume it was the gorilla who shot it
+								onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.BOULDER);
 							}
-							else if (mp != null)
+							else if (!mp.getRecentHitsplats().isEmpty())
 							{
-								WorldArea lastPlayerArea = mp.getLastWorldArea();
-								if (lastPlayerArea != null && recentBoulders.stream()
-									.anyMatch(x -> x.distanceTo(lastPlayerArea) == 0))
-								{
-									// A boulder started falling on the gorillas target,
-									// so we assume it was the gorilla who shot it
-									onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.BOULDER);
-								}
-								else if (!mp.getRecentHitsplats().isEmpty())
-								{
-									// It wasn't any of the three other attacks,
-									// but the player took damage, so we assume
-									// it's a melee attack
-									onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MELEE);
-								}
+								// It wasn't any of the three other attacks,
+								// but the player took damage, so we assume
+								// it's a melee attack
+								onGorillaAttack(gorilla, DemonicGorilla.AttackStyle.MELEE);
 							}
 						}
-
-						// The next attack tick is always delayed if the
-						// gorilla switched prayer
-						gorilla.setNextAttackTick(tickCounter + DemonicGorilla.ATTACK_RATE);
-						gorilla.setChangedPrayerThisTick(true);
 					}
+
+					// The next attack tick is always delayed if the
+					// gorilla switched prayer
+					gorilla.setNextAttackTick(tickCounter + DemonicGorilla.ATTACK_RATE);
+					gorilla.setChangedPrayerThisTick(true);
 				}
 			}
+		}
 
-			if (gorilla.getDisabledMeleeMovementForTicks() > 0)
-			{
-				gorilla.setDisabledMeleeMovementForTicks(gorilla.getDisabledMeleeMovementForTicks() - 1);
-			}
-			else if (gorilla.isInitiatedCombat() &&
-				gorilla.getNpc().getInteracting() != null &&
-				!gorilla.isChangedAttackStyleThisTick() &&
-				gorilla.getNextPosibleAttackStyles().size() >= 2 &&
-				gorilla.getNextPosibleAttackStyles().stream()
-					.anyMatch(x -> x == DemonicGorilla.AttackStyle.MELEE))
+		if (gorilla.getDisabledMeleeMovementForTicks() > 0)
+		{
+			gorilla.setDisabledMeleeMovementForTicks(gorilla.getDisabledMeleeMovementForTicks() - 1);
+		}
+		else if (gorilla.isInitiatedCombat() &&
+			gorilla.getNpc().getInteracting() != null &&
+			!gorilla.isChangedAttackStyleThisTick() &&
+			gorilla.getPossibleAttackStyleCount() >= 2 &&
+			gorilla.canUseAttackStyle(DemonicGorilla.AttackStyle.MELEE))
+		{
+			// If melee is a possibility, we can check if the gorilla
+			// is or isn't moving toward the player to determine if
+			// it is actually attempting to melee or not.
+			// We only run this check if the gorilla is in combat
+			// because otherwise it attempts to travel to melee
+			// distance before attacking its target.
+
+			if (mp != null && mp.getLastWorldArea() != null && gorilla.getLastWorldArea() != null)
 			{
-				// If melee is a possibility, we can check if the gorilla
-				// is or isn't moving toward the player to determine if
-				// it is actually attempting to melee or not.
-				// We only run this check if the gorilla is in combat
-				// because otherwise it attempts to travel to melee
-				// distance before attacking its target.
-
-				if (mp != null && mp.getLastWorldArea() != null && gorilla.getLastWorldArea() != null)
+				// Gorillas can't normally walk through other gorillas
+				// or other players.
+				// There is a special case where if a player walked through
+				// a gorilla, or a player walked through another player,
+				// the tiles that were walked through becomes
+				// walkable, but I didn't feel like it's necessary to handle
+				// that special case as it should rarely happen.
+				WorldArea predictedNewArea = WorldAreaExtended.calculateNextTravellingPoint(
+					client, gorilla.getLastWorldArea(), mp.getLastWorldArea(), true, gorilla.getWalkable());
+				if (predictedNewArea != null)
 				{
-					WorldArea predictedNewArea = WorldAreaExtended.calculateNextTravellingPoint(
-						client, gorilla.getLastWorldArea(), mp.getLastWorldArea(), true, x ->
-						{
-							// Gorillas can't normally walk through other gorillas
-							// or other players
-							final WorldArea area1 = new WorldArea(x, 1, 1);
-							return gorillas.values().stream().noneMatch(y ->
-							{
-								if (y == gorilla)
-								{
-									return false;
-								}
-								final WorldArea area2 =
-									y.getNpc().getIndex() < gorilla.getNpc().getIndex() ?
-										y.getNpc().getWorldArea() : y.getLastWorldArea();
-								return area2 != null && area1.intersectsWith(area2);
-							}) && memorizedPlayers.values().stream().noneMatch(y ->
-							{
-								final WorldArea area2 = y.getLastWorldArea();
-								return area2 != null && area1.intersectsWith(area2);
-							});
-
-							// There is a special case where if a player walked through
-							// a gorilla, or a player walked through another player,
-							// the tiles that were walked through becomes
-							// walkable, but I didn't feel like it's necessary to handle
-							// that special case as it should rarely happen.
-						});
-					if (predictedNewArea != null)
+					int distance = gorilla.getNpc().getWorldArea().distanceTo(mp.getLastWorldArea());
+					WorldPoint predictedMovement = predictedNewArea.toWorldPoint();
+					if (distance <= DemonicGorilla.MAX_ATTACK_RANGE && mp.getLastWorldArea().hasLineOfSightTo(client.getTopLevelWorldView(), gorilla.getLastWorldArea()))
 					{
-						int distance = gorilla.getNpc().getWorldArea().distanceTo(mp.getLastWorldArea());
-						WorldPoint predictedMovement = predictedNewArea.toWorldPoint();
-						if (distance <= DemonicGorilla.MAX_ATTACK_RANGE && mp.getLastWorldArea().hasLineOfSightTo(client.getTopLevelWorldView(), gorilla.getLastWorldArea()))
+						if (predictedMovement.distanceTo(gorilla.getLastWorldArea().toWorldPoint()) != 0)
 						{
-							if (predictedMovement.distanceTo(gorilla.getLastWorldArea().toWorldPoint()) != 0)
+							if (predictedMovement.distanceTo(gorilla.getNpc().getWorldLocation()) == 0)
 							{
-								if (predictedMovement.distanceTo(gorilla.getNpc().getWorldLocation()) == 0)
-								{
-									gorilla.setNextPosibleAttackStyles(gorilla
-										.getNextPosibleAttackStyles()
-										.stream()
-										.filter(x -> x == DemonicGorilla.AttackStyle.MELEE)
-										.collect(Collectors.toList()));
-								}
-								else
-								{
-									gorilla.setNextPosibleAttackStyles(gorilla
-										.getNextPosibleAttackStyles()
-										.stream()
-										.filter(x -> x != DemonicGorilla.AttackStyle.MELEE)
-										.collect(Collectors.toList()));
-								}
+								gorilla.restrictAttackStyles(DemonicGorilla.AttackStyle.MELEE);
 							}
-							else if (tickCounter >= gorilla.getNextAttackTick() &&
-								gorilla.getRecentProjectileId() == -1 &&
-								recentBoulders.stream().noneMatch(x -> x.distanceTo(mp.getLastWorldArea()) == 0))
+							else
 							{
-								gorilla.setNextPosibleAttackStyles(gorilla
-									.getNextPosibleAttackStyles()
-									.stream()
-									.filter(x -> x == DemonicGorilla.AttackStyle.MELEE)
-									.collect(Collectors.toList()));
+								gorilla.excludeAttackStyle(DemonicGorilla.AttackStyle.MELEE);
 							}
 						}
+						else if (tickCounter >= gorilla.getNextAttackTick() &&
+							gorilla.getRecentProjectileId() == -1 &&
+							!spatialHash.hasBoulderIn(mp.getLastWorldArea()))
+						{
+							gorilla.restrictAttackStyles(DemonicGorilla.AttackStyle.MELEE);
+						}
 					}
 				}
 			}
+		}
 
-			if (gorilla.isTakenDamageRecently())
+		if (gorilla.isTakenDamageRecently())
+		{
+			gorilla.setInitiatedCombat(true);
+		}
+
+		if (gorilla.getOverheadIcon() != gorilla.getLastTickOverheadIcon())
+		{
+			if (gorilla.isChangedAttackStyleLastTick() ||
+				gorilla.isChangedAttackStyleThisTick())
 			{
-				gorilla.setInitiatedCombat(true);
+				// Apparently if it changes attack style and changes
+				// prayer on the same tick or 1 tick apart, it won't
+				// be able to move for the next 2 ticks if it attempts
+				// to melee
+				gorilla.setDisabledMeleeMovementForTicks(2);
 			}
-
-			if (gorilla.getOverheadIcon() != gorilla.getLastTickOverheadIcon())
+			else
 			{
-				if (gorilla.isChangedAttackStyleLastTick() ||
-					gorilla.isChangedAttackStyleThisTick())
-				{
-					// Apparently if it changes attack style and changes
-					// prayer on the same tick or 1 tick apart, it won't
-					// be able to move for the next 2 ticks if it attempts
-					// to melee
-					gorilla.setDisabledMeleeMovementForTicks(2);
-				}
-				else
-				{
-					// If it didn't change attack style lately,
-					// it's only for the next 1 tick
-					gorilla.setDisabledMeleeMovementForTicks(1);
-				}
+				// If it didn't change attack style lately,
+				// it's only for the next 1 tick
+				gorilla.setDisabledMeleeMovementForTicks(1);
 			}
-			gorilla.setLastTickAnimation(gorilla.getNpc().getAnimation());
-			gorilla.setLastWorldArea(gorilla.getNpc().getWorldArea());
-			gorilla.setLastTickInteracting(gorilla.getNpc().getInteracting());
-			gorilla.setTakenDamageRecently(false);
-			gorilla.setChangedPrayerThisTick(false);
-			gorilla.setChangedAttackStyleLastTick(gorilla.isChangedAttackStyleThisTick());
-			gorilla.setChangedAttackStyleThisTick(false);
-			gorilla.setLastTickOverheadIcon(gorilla.getOverheadIcon());
-			gorilla.setRecentProjectileId(-1);
 		}
+		gorilla.setLastTickAnimation(gorilla.getNpc().getAnimation());
+		gorilla.setLastWorldArea(gorilla.getNpc().getWorldArea());
+		gorilla.setLastTickInteracting(gorilla.getNpc().getInteracting());
+		gorilla.setTakenDamageRecently(false);
+		gorilla.setChangedPrayerThisTick(false);
+		gorilla.setChangedAttackStyleLastTick(gorilla.isChangedAttackStyleThisTick());
+		gorilla.setChangedAttackStyleThisTick(false);
+		gorilla.setLastTickOverheadIcon(gorilla.getOverheadIcon());
+		gorilla.setRecentProjectileId(-1);
 	}
 
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in the gorilla regions.
+	 */
 	private void onProjectileMoved(ProjectileMoved event)
 	{
 		if (!atGorillas)
@@ -575,7 +544,7 @@ public class DemonicGorillaPlugin extends Plugin
 
 		if (projectileId == GraphicIDPlus.DEMONIC_GORILLA_BOULDER)
 		{
-			recentBoulders.add(loc);
+			spatialHash.addBoulder(loc);
 		}
 		else
 		{
@@ -623,7 +592,7 @@ public class DemonicGorillaPlugin extends Plugin
 				if (shouldDecreaseCounter)
 				{
 					gorilla.setAttacksUntilSwitch(gorilla.getAttacksUntilSwitch() - 1);
-					checkGorillaAttackStyleSwitch(gorilla);
+					checkGorillaAttackStyleSwitch(gorilla, 0);
 				}
 
 				it.remove();
@@ -635,7 +604,9 @@ public class DemonicGorillaPlugin extends Plugin
 	{
 		for (MemorizedPlayer mp : memorizedPlayers.values())
 		{
-			mp.setLastWorldArea(mp.getPlayer().getWorldArea());
+			WorldArea area = mp.getPlayer().getWorldArea();
+			spatialHash.movePlayer(mp.getLastWorldArea(), area);
+			mp.setLastWorldArea(area);
 			mp.getRecentHitsplats().clear();
 		}
 	}
@@ -677,7 +648,7 @@ public class DemonicGorillaPlugin extends Plugin
 		switch(gs)
 		{
 			case LOGGED_IN:
-				if (atDemonicGorillas())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!atGorillas)
 					{
@@ -688,7 +659,7 @@ public class DemonicGorillaPlugin extends Plugin
 				{
 					if (atGorillas)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -698,7 +669,7 @@ public class DemonicGorillaPlugin extends Plugin
 			case LOGIN_SCREEN:
 				if (atGorillas)
 				{
-					shutDown();
+					stop();
 				}
 				break;
 			default:
@@ -715,7 +686,11 @@ public class DemonicGorillaPlugin extends Plugin
 		}
 
 		Player player = event.getPlayer();
-		memorizedPlayers.put(player, new MemorizedPlayer(player));
+		MemorizedPlayer previous = memorizedPlayers.put(player, new MemorizedPlayer(player));
+		if (previous != null)
+		{
+			spatialHash.removePlayer(previous.getLastWorldArea());
+		}
 	}
 
 	@Subscribe
@@ -726,7 +701,11 @@ public class DemonicGorillaPlugin extends Plugin
 			return;
 		}
 
-		memorizedPlayers.remove(event.getPlayer());
+		MemorizedPlayer mp = memorizedPlayers.remove(event.getPlayer());
+		if (mp != null)
+		{
+			spatialHash.removePlayer(mp.getLastWorldArea());
+		}
 	}
 
 	@Subscribe
@@ -746,7 +725,7 @@ public class DemonicGorillaPlugin extends Plugin
 				resetPlayers();
 			}
 
-			gorillas.put(npc, new DemonicGorilla(npc, client));
+			gorillas.put(npc, new DemonicGorilla(npc, client, spatialHash));
 		}
 	}
 
@@ -773,7 +752,7 @@ public class DemonicGorillaPlugin extends Plugin
 		checkGorillaAttacks();
 		checkPendingAttacks();
 		updatePlayers();
-		recentBoulders.clear();
+		spatialHash.clearBoulders();
 		clearProjectileArray();
 	}
 
@@ -781,9 +760,4 @@ public class DemonicGorillaPlugin extends Plugin
 	{
 		gorillaProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
 	}
-	
-	private boolean atDemonicGorillas()
-	{
-		return REGION_IDS.contains(MiscUtilities.getPlayerRegionID());
-	}
 }
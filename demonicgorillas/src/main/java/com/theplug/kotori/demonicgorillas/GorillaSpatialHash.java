@@ -0,0 +1,185 @@
+package com.theplug.kotori.demonicgorillas;
+
+import java.util.Arrays;
+import java.util.Collection;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+
+/*
+	Players, gorillas and boulder impacts bucketed by the tile they are on, so each gorilla only looks at the tiles next to it
+	instead of scanning every gorilla, player and boulder. A bucket is the plane and the low 7 bits of the tile's x and y, which
+	never collide inside one 104x104 scene. Player tiles move with the players, gorilla tiles are rebuilt at the start of every
+	tick and boulder impacts are kept until the end of the tick. The buckets are plain arrays, so nothing is allocated per query.
+ */
+class GorillaSpatialHash
+{
+	private static final int TILE_BITS = 7;
+	private static final int TILE_MASK = (1 << TILE_BITS) - 1;
+	private static final int BUCKET_COUNT = 4 << (TILE_BITS * 2);
+	private static final int NO_GORILLA_BELOW = Integer.MAX_VALUE;
+	private static final int NO_GORILLA_ABOVE = -1;
+
+	private final int[] players = new int[BUCKET_COUNT];
+	// Lowest npc index of the gorillas on the tile now, and highest npc index of the gorillas that were on it last tick
+	private final int[] gorillasNow = new int[BUCKET_COUNT];
+	private final int[] gorillasLastTick = new int[BUCKET_COUNT];
+	private final boolean[] boulders = new boolean[BUCKET_COUNT];
+
+	private int[] gorillaBuckets = new int[64];
+	private int gorillaBucketCount;
+	private int[] boulderBuckets = new int[16];
+	private int boulderBucketCount;
+
+	GorillaSpatialHash()
+	{
+		Arrays.fill(gorillasNow, NO_GORILLA_BELOW);
+		Arrays.fill(gorillasLastTick, NO_GORILLA_ABOVE);
+	}
+
+	void movePlayer(WorldArea from, WorldArea to)
+	{
+		addPlayer(from, -1);
+		addPlayer(to, 1);
+	}
+
+	void removePlayer(WorldArea area)
+	{
+		addPlayer(area, -1);
+	}
+
+	/*
+		Places every gorilla on the tiles it stands on now and the tiles it stood on last tick.
+	 */
+	void indexGorillas(Collection<DemonicGorilla> gorillas)
+	{
+		clearGorillas();
+		for (DemonicGorilla gorilla : gorillas)
+		{
+			int index = gorilla.getNpc().getIndex();
+			addGorilla(gorilla.getNpc().getWorldArea(), index, gorillasNow);
+			addGorilla(gorilla.getLastWorldArea(), index, gorillasLastTick);
+		}
+	}
+
+	void addBoulder(WorldPoint point)
+	{
+		int bucket = bucket(point.getX(), point.getY(), point.getPlane());
+		if (!boulders[bucket])
+		{
+			boulders[bucket] = true;
+			boulderBuckets = track(boulderBuckets, boulderBucketCount++, bucket);
+		}
+	}
+
+	/*
+		Whether the gorilla with the npc index can't walk onto the tile this tick. The server moves npcs in index order, so a
+		gorilla with a lower index has already moved and blocks its new tiles, while one with a higher index still blocks the
+		tiles it stood on last tick. Players block the tiles they stood on last tick.
+	 */
+	boolean isBlocked(WorldPoint tile, int npcIndex)
+	{
+		int bucket = bucket(tile.getX(), tile.getY(), tile.getPlane());
+		return players[bucket] > 0 || gorillasNow[bucket] < npcIndex || gorillasLastTick[bucket] > npcIndex;
+	}
+
+	boolean hasBoulderIn(WorldArea area)
+	{
+		if (boulderBucketCount == 0 || area == null)
+		{
+			return false;
+		}
+
+		for (int x = area.getX(); x < area.getX() + area.getWidth(); x++)
+		{
+			for (int y = area.getY(); y < area.getY() + area.getHeight(); y++)
+			{
+				if (boulders[bucket(x, y, area.getPlane())])
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	void clearBoulders()
+	{
+		for (int i = 0; i < boulderBucketCount; i++)
+		{
+			boulders[boulderBuckets[i]] = false;
+		}
+		boulderBucketCount = 0;
+	}
+
+	void clearPlayers()
+	{
+		Arrays.fill(players, 0);
+	}
+
+	void clear()
+	{
+		clearPlayers();
+		clearGorillas();
+		clearBoulders();
+	}
+
+	private void clearGorillas()
+	{
+		for (int i = 0; i < gorillaBucketCount; i++)
+		{
+			gorillasNow[gorillaBuckets[i]] = NO_GORILLA_BELOW;
+			gorillasLastTick[gorillaBuckets[i]] = NO_GORILLA_ABOVE;
+		}
+		gorillaBucketCount = 0;
+	}
+
+	private void addPlayer(WorldArea area, int delta)
+	{
+		if (area == null)
+		{
+			return;
+		}
+
+		for (int x = area.getX(); x < area.getX() + area.getWidth(); x++)
+		{
+			for (int y = area.getY(); y < area.getY() + area.getHeight(); y++)
+			{
+				players[bucket(x, y, area.getPlane())] += delta;
+			}
+		}
+	}
+
+	private void addGorilla(WorldArea area, int index, int[] gorillaTiles)
+	{
+		if (area == null)
+		{
+			return;
+		}
+
+		boolean lowest = gorillaTiles == gorillasNow;
+		for (int x = area.getX(); x < area.getX() + area.getWidth(); x++)
+		{
+			for (int y = area.getY(); y < area.getY() + area.getHeight(); y++)
+			{
+				int bucket = bucket(x, y, area.getPlane());
+				gorillaTiles[bucket] = lowest ? Math.min(gorillaTiles[bucket], index) : Math.max(gorillaTiles[bucket], index);
+				gorillaBuckets = track(gorillaBuckets, gorillaBucketCount++, bucket);
+			}
+		}
+	}
+
+	private static int[] track(int[] buckets, int position, int bucket)
+	{
+		if (position == buckets.length)
+		{
+			buckets = Arrays.copyOf(buckets, buckets.length * 2);
+		}
+		buckets[position] = bucket;
+		return buckets;
+	}
+
+	private static int bucket(int x, int y, int plane)
+	{
+		return ((plane & 3) << (TILE_BITS * 2)) | ((x & TILE_MASK) << TILE_BITS) | (y & TILE_MASK);
+	}
+}
@@ -44,6 +44,8 @@ import net.runelite.client.ui.overlay.OverlayPosition;
 
 public class EffectTimersOverlay extends Overlay
 {
+	private static final TimerType[] TIMER_TYPES = TimerType.values();
+
 	@Inject
 	private TimerManager timerManager;
 
@@ -96,7 +98,7 @@ public class EffectTimersOverlay extends Overlay
 		}
 
 		int offset = 0;
-		for (TimerType timerType : TimerType.values())
+		for (TimerType timerType : TIMER_TYPES)
 		{
 			switch (timerType)
 			{
@@ -168,6 +170,10 @@ public class EffectTimersOverlay extends Overlay
 	{
 		String text;
 		Timer timer = timerManager.getTimerFor(actor, timerType);
+		if (timer == null)
+		{
+			return false;
+		}
 		switch (config.timeMode())
 		{
 
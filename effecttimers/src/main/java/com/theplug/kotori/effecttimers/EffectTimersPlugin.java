@@ -25,11 +25,14 @@
 package com.theplug.kotori.effecttimers;
 
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.chat.ChatDispatcher;
+import com.theplug.kotori.kotoriutils.chat.ChatMatch;
 import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
 import com.theplug.kotori.effecttimers.utils.PvPUtil;
 import com.theplug.kotori.effecttimers.utils.WorldTypeExtended;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
+import com.theplug.kotori.kotoriutils.zones.MapLocations;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
@@ -115,6 +118,7 @@ public class EffectTimersPlugin extends Plugin
 	public void shutDown()
 	{
 		keyManager.unregisterKeyListener(hotkeyListener);
+		ChatDispatcher.unregisterAll(this);
 		overlayManager.remove(overlay);
 		timerManager.shutDown();
 		prayerTracker.shutDown();
@@ -125,6 +129,9 @@ public class EffectTimersPlugin extends Plugin
 	{
 		overlayManager.add(overlay);
 		keyManager.registerKeyListener(hotkeyListener);
+		ChatDispatcher.unregisterAll(this);
+		ChatDispatcher.register(this, ChatMessageType.GAMEMESSAGE, ChatMatch.CONTAINS, "Your Tele Block has been removed",
+			(event, text) -> timerManager.jumpToCooldown(client.getLocalPlayer(), TimerType.TELEBLOCK));
 		initializedPlugin = true;
 	}
 
@@ -132,6 +139,7 @@ public class EffectTimersPlugin extends Plugin
 	private void onGameTick(GameTick gameTick)
 	{
 		prayerTracker.gameTick();
+		timerManager.gameTick(client.getTickCount());
 
 		if (fakeSpotAnim != -1)
 		{
@@ -156,12 +164,12 @@ public class EffectTimersPlugin extends Plugin
 				timerManager.removeTimerFor(actor, TimerType.TELEBLOCK);
 			}
 			else if (WorldType.isPvpWorld(worldTypes) &&
-				MapLocations.getPvpSafeZones(actorLoc.getPlane()).contains(actorLoc.getX(), actorLoc.getY()))
+				MapLocations.isInPvpSafeZone(actorLoc))
 			{
 				timerManager.removeTimerFor(actor, TimerType.TELEBLOCK);
 			}
 			else if (WorldTypeExtended.isDeadmanWorld(worldTypes) &&
-				MapLocations.getDeadmanSafeZones(actorLoc.getPlane()).contains(actorLoc.getX(), actorLoc.getY()))
+				MapLocations.isInDeadmanSafeZone(actorLoc))
 			{
 				timerManager.removeTimerFor(actor, TimerType.TELEBLOCK);
 			}
@@ -228,18 +236,6 @@ public class EffectTimersPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	private void onChatMessage(ChatMessage event)
-	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE
-			|| !event.getMessage().contains("Your Tele Block has been removed"))
-		{
-			return;
-		}
-
-		timerManager.jumpToCooldown(client.getLocalPlayer(), TimerType.TELEBLOCK);
-	}
-
 	private boolean isAtVorkath()
 	{
 		return VORKATH_REGION == MiscUtilities.getPlayerRegionID();
@@ -270,10 +266,7 @@ public class EffectTimersPlugin extends Plugin
 	@Subscribe
 	private void onActorDeath(ActorDeath event)
 	{
-		for (TimerType type : TimerType.values())
-		{
-			timerManager.removeTimerFor(event.getActor(), type);
-		}
+		timerManager.removeTimersFor(event.getActor());
 	}
 	
 	@Subscribe
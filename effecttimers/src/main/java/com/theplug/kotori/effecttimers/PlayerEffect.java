@@ -24,6 +24,7 @@
  */
 package com.theplug.kotori.effecttimers;
 
+import com.theplug.kotori.kotoriutils.lookup.IdIndex;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -64,15 +65,13 @@ public enum PlayerEffect
 	@Getter(AccessLevel.PACKAGE)
 	private final TimerType type;
 
+	private static final IdIndex<PlayerEffect> SPOT_ANIMS = IdIndex.of(PlayerEffect.class, PlayerEffect::getSpotAnimId);
+
+	/*
+		POISON and VENOM have no spot anim, so their -1 placeholder never matches and a -1 returns null.
+	 */
 	static PlayerEffect getFromSpotAnim(int spotAnim)
 	{
-		for (PlayerEffect effect : values())
-		{
-			if (effect.getSpotAnimId() == spotAnim)
-			{
-				return effect;
-			}
-		}
-		return null;
+		return SPOT_ANIMS.get(spotAnim);
 	}
 }
@@ -24,28 +24,36 @@
  */
 package com.theplug.kotori.effecttimers;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
 import net.runelite.api.*;
 
+/*
+	Remembers the overhead prayer and spot anim every actor had on the previous tick.
+	Two snapshots are kept and swapped each tick, so recording a tick only overwrites primitive slots addressed by the
+	actor's index and nothing is allocated once the arrays have grown to the highest index in use.
+ */
 @Slf4j
 @Singleton
 class PrayerTracker
 {
+	private static final int UNKNOWN = -1337;
+
 	@Inject
 	private Client client;
-	private final Map<Actor, HashMap<String, Integer>> lastTick = new HashMap<>();
-	private final Map<Actor, HashMap<String, Integer>> newTick = new HashMap<>();
+	private Snapshot lastTick = new Snapshot();
+	private Snapshot newTick = new Snapshot();
 
 	public void gameTick()
 	{
-		lastTick.clear();
-		lastTick.putAll(newTick);
+		Snapshot swap = lastTick;
+		lastTick = newTick;
+		newTick = swap;
 		newTick.clear();
+
 		for (Player p : NPCInteractions.getPlayers())
 		{
 			processActor(p);
@@ -63,30 +71,30 @@ class PrayerTracker
 			return;
 		}
 
-		if (!newTick.containsKey(actor))
-		{
-			newTick.put(actor, new HashMap<>());
-		}
+		int prayerIcon = UNKNOWN;
 		if (actor instanceof Player)
 		{
-			newTick.get(actor).put("PrayerIcon",
-				((Player) actor).getOverheadIcon() == null ? -1 : ((Player) actor).getOverheadIcon().ordinal());
+			HeadIcon overheadIcon = ((Player) actor).getOverheadIcon();
+			prayerIcon = overheadIcon == null ? -1 : overheadIcon.ordinal();
 		}
-		IterableHashTable<ActorSpotAnim> actorSpotAnims = actor.getSpotAnims();
-		for (ActorSpotAnim a: actorSpotAnims)
+
+		int spotAnim = UNKNOWN;
+		for (ActorSpotAnim a : actor.getSpotAnims())
 		{
-			newTick.get(actor).put("SpotAnim", a.getId());
+			spotAnim = a.getId();
 		}
+
+		newTick.put(actor, prayerIcon, spotAnim);
 	}
 
 	int getPrayerIconLastTick(Actor p)
 	{
-		return lastTick.getOrDefault(p, new HashMap<>()).getOrDefault("PrayerIcon", -1337);
+		return lastTick.getPrayerIcon(p);
 	}
 
 	int getSpotanimLastTick(Actor p)
 	{
-		return lastTick.getOrDefault(p, new HashMap<>()).getOrDefault("SpotAnim", -1337);
+		return lastTick.getSpotAnim(p);
 	}
 	
 	public void shutDown()
@@ -95,4 +103,102 @@ class PrayerTracker
 		newTick.clear();
 	}
 
+	private static int indexOf(Actor actor)
+	{
+		return actor instanceof NPC ? ((NPC) actor).getIndex() : ((Player) actor).getId();
+	}
+
+	/*
+		One tick worth of actor state. Players and npcs have separate index spaces so each gets its own set of slots.
+	 */
+	private static final class Snapshot
+	{
+		private final Slots players = new Slots();
+		private final Slots npcs = new Slots();
+
+		private void put(Actor actor, int prayerIcon, int spotAnim)
+		{
+			slotsFor(actor).put(indexOf(actor), actor, prayerIcon, spotAnim);
+		}
+
+		private int getPrayerIcon(Actor actor)
+		{
+			int slot = slotsFor(actor).find(indexOf(actor), actor);
+			return slot == -1 ? UNKNOWN : slotsFor(actor).prayerIcons[slot];
+		}
+
+		private int getSpotAnim(Actor actor)
+		{
+			int slot = slotsFor(actor).find(indexOf(actor), actor);
+			return slot == -1 ? UNKNOWN : slotsFor(actor).spotAnims[slot];
+		}
+
+		private Slots slotsFor(Actor actor)
+		{
+			return actor instanceof NPC ? npcs : players;
+		}
+
+		private void clear()
+		{
+			players.clear();
+			npcs.clear();
+		}
+	}
+
+	/*
+		Index-addressed slots plus a list of the indexes written this tick, so clearing only touches slots that were used.
+		The owner is kept next to the values so an index that was handed to a different actor does not read stale data.
+	 */
+	private static final class Slots
+	{
+		private Actor[] owners = new Actor[64];
+		private int[] prayerIcons = new int[64];
+		private int[] spotAnims = new int[64];
+		private int[] written = new int[64];
+		private int writtenCount;
+
+		private void put(int index, Actor actor, int prayerIcon, int spotAnim)
+		{
+			if (index < 0)
+			{
+				return;
+			}
+			if (index >= owners.length)
+			{
+				int length = Integer.highestOneBit(index) << 1;
+				owners = Arrays.copyOf(owners, length);
+				prayerIcons = Arrays.copyOf(prayerIcons, length);
+				spotAnims = Arrays.copyOf(spotAnims, length);
+			}
+			if (owners[index] == null)
+			{
+				if (writtenCount == written.length)
+				{
+					written = Arrays.copyOf(written, writtenCount * 2);
+				}
+				written[writtenCount++] = index;
+			}
+			owners[index] = actor;
+			prayerIcons[index] = prayerIcon;
+			spotAnims[index] = spotAnim;
+		}
+
+		private int find(int index, Actor actor)
+		{
+			if (index < 0 || index >= owners.length || owners[index] != actor)
+			{
+				return -1;
+			}
+			return index;
+		}
+
+		private void clear()
+		{
+			for (int i = 0; i < writtenCount; i++)
+			{
+				owners[written[i]] = null;
+			}
+			writtenCount = 0;
+		}
+	}
 }
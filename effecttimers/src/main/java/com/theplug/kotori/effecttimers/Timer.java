@@ -79,6 +79,14 @@ public class Timer
 		return client.getTickCount() - ticksStart;
 	}
 
+	/*
+		The first tick on which this timer reports INACTIVE. Moves whenever the start or length is changed.
+	 */
+	int getExpiryTick()
+	{
+		return ticksStart + ticksLength + cooldownLength + 1;
+	}
+
 	public TimerState getTimerState()
 	{
 		int ticksElapsed = getTicksElapsed();
@@ -24,30 +24,51 @@
  */
 package com.theplug.kotori.effecttimers;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Actor;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
 
+/*
+	Timers are stored in fixed slots, one row of TimerType slots per actor, addressed by the actor's index in the client's
+	player or npc array. Reads are two array loads and never allocate. Each row remembers the actor it belongs to, so an index
+	that gets reused by a different actor reads as empty until the old timers are cleaned up.
+
+	Expiry is driven by a hashed timing wheel of packed slot references. Every timer is filed under the tick it expires on,
+	and each game tick only the bucket for that tick is looked at. Timers that were extended or restarted since they were filed
+	are moved to their new bucket instead of being removed.
+ */
 @Slf4j
 @Singleton
 public class TimerManager
 {
+	private static final int TIMER_TYPES = TimerType.values().length;
+	private static final int MAX_PLAYERS = 2048;
+	private static final int MAX_NPCS = 65536;
+
+	// Must be a power of two. Timers longer than the wheel just get looked at once per lap.
+	private static final int WHEEL_SIZE = 128;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	// Slot reference layout: bit 0 is set for npcs, bits 1-4 are the timer type and the rest is the actor index
+	private static final int NPC_FLAG = 1;
+	private static final int TYPE_SHIFT = 1;
+	private static final int TYPE_MASK = 0xF;
+	private static final int INDEX_SHIFT = 5;
+
 	@Inject
 	private EffectTimersPlugin plugin;
-	private HashMap<Actor, HashMap<TimerType, Timer>> timerMap = new HashMap<>();
 
-	private HashMap<TimerType, Timer> getTimersFor(Actor actor)
-	{
-		if (!timerMap.containsKey(actor) || timerMap.get(actor) == null)
-		{
-			return null;
-		}
-		return timerMap.get(actor);
-	}
+	private final TimerTable players = new TimerTable(MAX_PLAYERS);
+	private final TimerTable npcs = new TimerTable(MAX_NPCS);
+
+	private final int[][] wheel = new int[WHEEL_SIZE][8];
+	private final int[] wheelSizes = new int[WHEEL_SIZE];
+	private int[] sweepBuffer = new int[8];
+	private int lastSweptTick = -1;
 
 	public boolean isTimerValid(Actor actor, TimerType type)
 	{
@@ -71,56 +92,69 @@ public class TimerManager
 
 	public Timer getTimerFor(Actor actor, TimerType type)
 	{
-		HashMap<TimerType, Timer> mapping = getTimersFor(actor);
-		if (mapping == null)
+		TimerTable table = tableFor(actor);
+		if (table == null)
 		{
 			return null;
 		}
-		if (mapping.get(type) == null)
-		{
-			mapping.put(type, new Timer(plugin, null));
-		}
-		return mapping.get(type);
+		Timer[] row = table.getRow(indexOf(actor), actor);
+		return row == null ? null : row[type.ordinal()];
 	}
-	
+
 	public void removeTimerFor(Actor actor, TimerType type)
 	{
-		HashMap<TimerType, Timer> mapping = getTimersFor(actor);
-		if (mapping == null)
+		TimerTable table = tableFor(actor);
+		if (table == null)
 		{
 			return;
 		}
-		if (mapping.get(type) == null)
+		table.remove(indexOf(actor), actor, type.ordinal());
+	}
+
+	public void removeTimersFor(Actor actor)
+	{
+		TimerTable table = tableFor(actor);
+		if (table == null)
 		{
 			return;
 		}
-		mapping.remove(type);
-		
-		if (mapping.isEmpty())
-		{
-			timerMap.remove(actor);
-		}
+		table.removeRow(indexOf(actor), actor);
 	}
 
 	public void setTimerFor(Actor actor, TimerType type, Timer timer)
 	{
 		timer.setTimerTypeIfNull(type);
-		HashMap<TimerType, Timer> mapping = getTimersFor(actor);
-		if (mapping == null)
+		TimerTable table = tableFor(actor);
+		if (table == null)
+		{
+			return;
+		}
+		int index = indexOf(actor);
+		Timer[] row = table.getRow(index, actor);
+		if (row == null)
 		{
 			return;
 		}
-		mapping.put(type, timer);
+		row[type.ordinal()] = timer;
+		schedule(actor instanceof NPC, index, type.ordinal(), timer.getExpiryTick());
 	}
-	
+
 	public void addTimerFor(Actor actor, TimerType type, Timer timer)
 	{
 		timer.setTimerTypeIfNull(type);
-		if (!timerMap.containsKey(actor) || timerMap.get(actor) == null)
+		TimerTable table = tableFor(actor);
+		if (table == null)
 		{
-			timerMap.put(actor, new HashMap<>());
+			return;
 		}
-		timerMap.get(actor).put(type, timer);
+		int index = indexOf(actor);
+		Timer[] row = table.getOrCreateRow(index, actor);
+		if (row == null)
+		{
+			return;
+		}
+		row[type.ordinal()] = timer;
+		schedule(actor instanceof NPC, index, type.ordinal(), timer.getExpiryTick());
 	}
 
 	public void jumpToCooldown(Actor actor, TimerType type)
@@ -133,8 +167,9 @@ public class TimerManager
 		timer.setStartMillis(System.currentTimeMillis());
 		timer.setTicksStart(plugin.getClient().getTickCount());
 		timer.setTicksLength(0);
+		schedule(actor instanceof NPC, indexOf(actor), type.ordinal(), timer.getExpiryTick());
 	}
-	
+
 	public void modifyTimerLength(Actor actor, TimerType type, int newLength)
 	{
 		Timer timer = getTimerFor(actor, type);
@@ -143,57 +178,240 @@ public class TimerManager
 			return;
 		}
 		timer.setTicksLength(newLength);
+		schedule(actor instanceof NPC, indexOf(actor), type.ordinal(), timer.getExpiryTick());
 	}
-	
+
 	public boolean timerMapContainsActor(Actor actor)
 	{
-		return timerMap.containsKey(actor);
+		TimerTable table = tableFor(actor);
+		return table != null && table.getRow(indexOf(actor), actor) != null;
 	}
 
+	/*
+		Advances the timing wheel up to the current tick, clearing every timer that has run out since the last call.
+	 */
+	public void gameTick(int tickCount)
+	{
+		if (lastSweptTick == -1 || tickCount - lastSweptTick > WHEEL_SIZE)
+		{
+			// First tick, or the wheel fell more than a lap behind so every bucket is due
+			lastSweptTick = tickCount - WHEEL_SIZE;
+		}
+
+		while (lastSweptTick < tickCount)
+		{
+			lastSweptTick++;
+			sweepBucket(lastSweptTick & WHEEL_MASK);
+		}
+	}
+
+	/*
+		Full sweep of every stored timer, used when the tick count can no longer be trusted to be continuous.
+	 */
 	public void clearExpiredTimers()
 	{
-		if (timerMap.isEmpty())
+		players.clearExpired();
+		npcs.clearExpired();
+	}
+
+	public void shutDown()
+	{
+		players.clear();
+		npcs.clear();
+		Arrays.fill(wheelSizes, 0);
+		lastSweptTick = -1;
+	}
+
+	private void sweepBucket(int bucket)
+	{
+		int size = wheelSizes[bucket];
+		if (size == 0)
 		{
 			return;
 		}
-		//Store the keys of timerMap in an ArrayList for future removal of entry after iteration of the map.
-		ArrayList<Actor> timerMapKeys = new ArrayList<>();
-		for (Map.Entry<Actor, HashMap<TimerType, Timer>> actorEntry : timerMap.entrySet())
+
+		// Swap the bucket out first, timers that are not done yet may be filed straight back into it
+		int[] entries = wheel[bucket];
+		wheel[bucket] = sweepBuffer;
+		wheelSizes[bucket] = 0;
+		sweepBuffer = entries;
+
+		for (int i = 0; i < size; i++)
 		{
-			Actor keyActor = actorEntry.getKey();
-			HashMap<TimerType, Timer> valueTimerMap = actorEntry.getValue();
-			//Store the keys of valueTimerMap in an ArrayList for future removal of inactive timers after iteration of the map.
-			ArrayList<TimerType> timerHashMapKeys = new ArrayList<>();
-			for (Map.Entry<TimerType, Timer> timerEntry : valueTimerMap.entrySet())
+			int entry = entries[i];
+			boolean npc = (entry & NPC_FLAG) != 0;
+			int type = (entry >>> TYPE_SHIFT) & TYPE_MASK;
+			int index = entry >>> INDEX_SHIFT;
+
+			TimerTable table = npc ? npcs : players;
+			Timer timer = table.get(index, type);
+			if (timer == null)
 			{
-				TimerType keyTimerType = timerEntry.getKey();
-				Timer valueTimer = timerEntry.getValue();
-				//Find inactive timers and mark down their key values.
-				if (valueTimer.getTimerState().equals(Timer.TimerState.INACTIVE))
-				{
-					timerHashMapKeys.add(keyTimerType);
-				}
+				continue;
 			}
-			//Remove the timer entries from valueTimerMap now that we're done searching for inactive timers.
-			for (TimerType key : timerHashMapKeys)
+
+			if (timer.getTimerState() == Timer.TimerState.INACTIVE)
 			{
-				valueTimerMap.remove(key);
+				table.removeSlot(index, type);
 			}
-			//Now check if the TimerType, Timer hashmap is empty after removal of inactive timers. If empty, then mark down the TimerMap entry for future removal.
-			if (valueTimerMap.isEmpty())
+			else
 			{
-				timerMapKeys.add(keyActor);
+				schedule(npc, index, type, timer.getExpiryTick());
 			}
 		}
-		//Remove the timerMap entry
-		for (Actor key : timerMapKeys)
+	}
+
+	private void schedule(boolean npc, int index, int type, int expiryTick)
+	{
+		if (lastSweptTick != -1 && expiryTick <= lastSweptTick)
+		{
+			// Already due, pick it up on the next sweep rather than a lap later
+			expiryTick = lastSweptTick + 1;
+		}
+
+		int bucket = expiryTick & WHEEL_MASK;
+		int size = wheelSizes[bucket];
+		int[] entries = wheel[bucket];
+		if (size == entries.length)
 		{
-			timerMap.remove(key);
+			entries = Arrays.copyOf(entries, size * 2);
+			wheel[bucket] = entries;
 		}
+		entries[size] = (index << INDEX_SHIFT) | (type << TYPE_SHIFT) | (npc ? NPC_FLAG : 0);
+		wheelSizes[bucket] = size + 1;
 	}
-	
-	public void shutDown()
+
+	private TimerTable tableFor(Actor actor)
 	{
-		timerMap.clear();
+		if (actor instanceof Player)
+		{
+			return players;
+		}
+		if (actor instanceof NPC)
+		{
+			return npcs;
+		}
+		return null;
+	}
+
+	private static int indexOf(Actor actor)
+	{
+		return actor instanceof NPC ? ((NPC) actor).getIndex() : ((Player) actor).getId();
+	}
+
+	/*
+		Rows of timer slots for one kind of actor. The row array starts small and grows to the highest index seen,
+		so a handful of npcs with timers does not cost a 65536 entry array.
+	 */
+	private static final class TimerTable
+	{
+		private final int maxActors;
+		private Timer[][] rows = new Timer[64][];
+		private Actor[] owners = new Actor[64];
+
+		private TimerTable(int maxActors)
+		{
+			this.maxActors = maxActors;
+		}
+
+		private Timer[] getRow(int index, Actor actor)
+		{
+			if (index < 0 || index >= rows.length || owners[index] != actor)
+			{
+				return null;
+			}
+			return rows[index];
+		}
+
+		private Timer get(int index, int type)
+		{
+			Timer[] row = index < rows.length ? rows[index] : null;
+			return row == null ? null : row[type];
+		}
+
+		private Timer[] getOrCreateRow(int index, Actor actor)
+		{
+			if (index < 0 || index >= maxActors)
+			{
+				return null;
+			}
+			if (index >= rows.length)
+			{
+				int length = Math.min(maxActors, Integer.highestOneBit(index) << 1);
+				rows = Arrays.copyOf(rows, length);
+				owners = Arrays.copyOf(owners, length);
+			}
+
+			Timer[] row = rows[index];
+			if (row == null || owners[index] != actor)
+			{
+				// Index was free or got reused by another actor, whatever was stored for the old one is gone
+				row = new Timer[TIMER_TYPES];
+				rows[index] = row;
+				owners[index] = actor;
+			}
+			return row;
+		}
+
+		private void remove(int index, Actor actor, int type)
+		{
+			if (getRow(index, actor) != null)
+			{
+				removeSlot(index, type);
+			}
+		}
+
+		private void removeSlot(int index, int type)
+		{
+			Timer[] row = rows[index];
+			row[type] = null;
+			for (Timer timer : row)
+			{
+				if (timer != null)
+				{
+					return;
+				}
+			}
+			rows[index] = null;
+			owners[index] = null;
+		}
+
+		private void removeRow(int index, Actor actor)
+		{
+			if (getRow(index, actor) != null)
+			{
+				rows[index] = null;
+				owners[index] = null;
+			}
+		}
+
+		private void clearExpired()
+		{
+			for (int index = 0; index < rows.length; index++)
+			{
+				Timer[] row = rows[index];
+				if (row == null)
+				{
+					continue;
+				}
+				for (int type = 0; type < row.length; type++)
+				{
+					if (row[type] != null && row[type].getTimerState() == Timer.TimerState.INACTIVE)
+					{
+						removeSlot(index, type);
+						if (rows[index] == null)
+						{
+							break;
+						}
+					}
+				}
+			}
+		}
+
+		private void clear()
+		{
+			Arrays.fill(rows, null);
+			Arrays.fill(owners, null);
+		}
 	}
 }
@@ -46,6 +46,10 @@ class WaveOverlay extends Overlay
 	private final FightCaveConfig config;
 	private final FightCavePlugin plugin;
 	private final PanelComponent panelComponent = new PanelComponent();
+	// Kept between frames so their layout is only measured again when the wave changes
+	private final TableComponent currentWaveTable = new TableComponent();
+	private final TableComponent nextWaveTable = new TableComponent();
+	private int tableWave = -1;
 
 	@Inject
 	private WaveOverlay(final FightCaveConfig config, final FightCavePlugin plugin)
@@ -53,6 +57,8 @@ class WaveOverlay extends Overlay
 		this.config = config;
 		this.plugin = plugin;
 		setPosition(OverlayPosition.TOP_RIGHT);
+		currentWaveTable.setColumnAlignments(TableAlignment.CENTER);
+		nextWaveTable.setColumnAlignments(TableAlignment.CENTER);
 	}
 
 	private static Collection<String> buildWaveLines(final Map<WaveMonster, Integer> wave)
@@ -86,41 +92,49 @@ class WaveOverlay extends Overlay
 		final int currentWave = plugin.getCurrentWave();
 		final int waveIndex = currentWave - 1;
 
+		if (currentWave != tableWave)
+		{
+			tableWave = currentWave;
+			setWaveRows(currentWaveTable, waveIndex);
+			setWaveRows(nextWaveTable, waveIndex + 1);
+		}
+
 		if (config.waveDisplay() == WaveDisplayMode.CURRENT
 			|| config.waveDisplay() == WaveDisplayMode.BOTH)
 		{
-			final Map<WaveMonster, Integer> waveContents = FightCavePlugin.getWAVES().get(waveIndex);
-
-			addWaveInfo("Wave " + plugin.getCurrentWave(), waveContents);
+			addWaveInfo("Wave " + plugin.getCurrentWave(), currentWaveTable);
 		}
 
 		if ((config.waveDisplay() == WaveDisplayMode.NEXT
 			|| config.waveDisplay() == WaveDisplayMode.BOTH)
 			&& currentWave != FightCavePlugin.MAX_WAVE)
 		{
-			final Map<WaveMonster, Integer> waveContents = FightCavePlugin.getWAVES().get(waveIndex + 1);
-
-			addWaveInfo("Next wave", waveContents);
+			addWaveInfo("Next wave", nextWaveTable);
 		}
 
 		return panelComponent.render(graphics);
 	}
 
-	private void addWaveInfo(final String headerText, final Map<WaveMonster, Integer> waveContents)
+	private static void setWaveRows(final TableComponent tableComponent, final int waveIndex)
 	{
-		panelComponent.getChildren().add(TitleComponent.builder()
-			.text(headerText)
-			.color(HEADER_COLOR)
-			.build());
-
-
-		TableComponent tableComponent = new TableComponent();
-		tableComponent.setColumnAlignments(TableAlignment.CENTER);
+		tableComponent.getRows().clear();
+		if (waveIndex < 0 || waveIndex >= FightCavePlugin.getWAVES().size())
+		{
+			return;
+		}
 
-		for (String line : buildWaveLines(waveContents))
+		for (String line : buildWaveLines(FightCavePlugin.getWAVES().get(waveIndex)))
 		{
 			tableComponent.addRow(line);
 		}
+	}
+
+	private void addWaveInfo(final String headerText, final TableComponent tableComponent)
+	{
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text(headerText)
+			.color(HEADER_COLOR)
+			.build());
 
 		if (!tableComponent.isEmpty())
 		{
@@ -33,6 +33,7 @@ package com.theplug.kotori.gauntlethelper;
 import com.theplug.kotori.gauntlethelper.module.boss.BossModule;
 import com.theplug.kotori.gauntlethelper.module.maze.MazeModule;
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.KotoriUtils;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -40,7 +41,9 @@ import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
+import net.runelite.client.plugins.PluginDependency;
 import net.runelite.client.plugins.PluginDescriptor;
 
 @PluginDescriptor(
@@ -49,6 +52,7 @@ import net.runelite.client.plugins.PluginDescriptor;
 	tags = {"the", "gauntlet"},
 	enabledByDefault = false
 )
+@PluginDependency(KotoriUtils.class)
 public final class GauntletHelperPlugin extends Plugin
 {
 	private static final int VARBIT_MAZE = 9178;
@@ -62,6 +66,11 @@ public final class GauntletHelperPlugin extends Plugin
 	private MazeModule mazeModule;
 	@Inject
 	private BossModule bossModule;
+	@Inject
+	private GauntletHelperConfig config;
+
+	// Plain copy of the config items, swapped for a new one whenever the config group changes
+	private volatile GauntletHelperConfigSnapshot configSnapshot;
 
 	@Provides
 	GauntletHelperConfig provideConfig(final ConfigManager configManager)
@@ -69,9 +78,16 @@ public final class GauntletHelperPlugin extends Plugin
 		return configManager.getConfig(GauntletHelperConfig.class);
 	}
 
+	public GauntletHelperConfigSnapshot getConfigSnapshot()
+	{
+		return configSnapshot;
+	}
+
 	@Override
 	protected void startUp()
 	{
+		configSnapshot = new GauntletHelperConfigSnapshot(config);
+
 		if (client.getGameState() != GameState.LOGGED_IN)
 		{
 			return;
@@ -96,6 +112,16 @@ public final class GauntletHelperPlugin extends Plugin
 		bossModule.stop();
 	}
 
+	// Runs before the modules' handlers, so they see the new snapshot
+	@Subscribe(priority = 1)
+	void onConfigChanged(final ConfigChanged event)
+	{
+		if (GauntletHelperConfigSnapshot.GROUP.equals(event.getGroup()))
+		{
+			configSnapshot = new GauntletHelperConfigSnapshot(config);
+		}
+	}
+
 	@Subscribe
 	void onVarbitChanged(final VarbitChanged event)
 	{
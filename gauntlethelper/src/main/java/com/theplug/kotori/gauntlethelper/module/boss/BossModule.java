@@ -27,7 +27,8 @@
 
 package com.theplug.kotori.gauntlethelper.module.boss;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
+import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import com.theplug.kotori.gauntlethelper.module.Module;
 import com.theplug.kotori.gauntlethelper.module.overlay.TimerOverlay;
 
@@ -48,6 +49,7 @@ import net.runelite.api.gameval.NpcID;
 import net.runelite.api.events.*;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -134,7 +136,9 @@ public final class BossModule implements Module
 	@Inject
 	private Client client;
 	@Inject
-	private GauntletHelperConfig config;
+	private GauntletHelperPlugin plugin;
+
+	private GauntletHelperConfigSnapshot config;
 	@Inject
 	private NpcOverlayService npcOverlayService;
 	@Inject
@@ -179,6 +183,7 @@ public final class BossModule implements Module
 	@Override
 	public void start()
 	{
+		config = plugin.getConfigSnapshot();
 		eventBus.register(this);
 		npcOverlayService.registerHighlighter(npcHighlighter);
 		overlayManager.add(timerOverlay);
@@ -219,6 +224,15 @@ public final class BossModule implements Module
 		inversePrayerAttack = false;
 	}
 
+	@Subscribe
+	void onConfigChanged(final ConfigChanged event)
+	{
+		if (event.getGroup().equals(GauntletHelperConfigSnapshot.GROUP))
+		{
+			config = plugin.getConfigSnapshot();
+		}
+	}
+
 	@Subscribe
 	void onGameTick(final GameTick event)
 	{
@@ -27,7 +27,7 @@
 
 package com.theplug.kotori.gauntlethelper.module.boss;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
 import com.theplug.kotori.gauntlethelper.GauntletHelperConfig.TileOutline;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 
@@ -51,7 +51,8 @@ import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 class BossOverlay extends Overlay
 {
 	private final Client client;
-	private final GauntletHelperConfig config;
+	private final GauntletHelperPlugin plugin;
+	private GauntletHelperConfigSnapshot config;
 	private final BossModule bossModule;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 
@@ -63,14 +64,13 @@ class BossOverlay extends Overlay
 	public BossOverlay(
 		final Client client,
 		final GauntletHelperPlugin plugin,
-		final GauntletHelperConfig config,
 		final BossModule bossModule,
 		final ModelOutlineRenderer modelOutlineRenderer)
 	{
 		super(plugin);
 
 		this.client = client;
-		this.config = config;
+		this.plugin = plugin;
 		this.bossModule = bossModule;
 		this.modelOutlineRenderer = modelOutlineRenderer;
 
@@ -82,6 +82,8 @@ class BossOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		config = plugin.getConfigSnapshot();
+
 		hunllef = bossModule.getHunllef();
 
 		if (hunllef == null)
@@ -1,6 +1,7 @@
 package com.theplug.kotori.gauntlethelper.module.boss;
 
 import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import com.theplug.kotori.kotoriutils.methods.PrayerInteractions;
 import net.runelite.api.Client;
@@ -26,7 +27,8 @@ class PrayerInfoBoxOverlay extends Overlay
     private static final Color NOT_ACTIVATED_BACKGROUND_COLOR = new Color(150, 0, 0, 150);
 
     private final Client client;
-    private final GauntletHelperConfig config;
+    private final GauntletHelperPlugin plugin;
+    private GauntletHelperConfigSnapshot config;
     private final BossModule bossModule;
     private final SpriteManager spriteManager;
 
@@ -39,14 +41,13 @@ class PrayerInfoBoxOverlay extends Overlay
     @Inject
     PrayerInfoBoxOverlay(final Client client,
                          final GauntletHelperPlugin plugin,
-                         final GauntletHelperConfig config,
                          final BossModule bossModule,
                          final SpriteManager spriteManager)
     {
         super(plugin);
 
         this.client = client;
-        this.config = config;
+        this.plugin = plugin;
         this.bossModule = bossModule;
         this.spriteManager = spriteManager;
 
@@ -68,6 +69,8 @@ class PrayerInfoBoxOverlay extends Overlay
     @Override
     public Dimension render(Graphics2D graphics2D)
     {
+        config = plugin.getConfigSnapshot();
+
         final GauntletHelperConfig.PrayerHighlightMode prayerHighlightMode = config.prayerOverlay();
 
         if (prayerHighlightMode == GauntletHelperConfig.PrayerHighlightMode.NONE || prayerHighlightMode == GauntletHelperConfig.PrayerHighlightMode.WIDGET)
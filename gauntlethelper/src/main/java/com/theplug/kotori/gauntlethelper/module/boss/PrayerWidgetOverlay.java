@@ -1,6 +1,7 @@
 package com.theplug.kotori.gauntlethelper.module.boss;
 
 import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import com.theplug.kotori.kotoriutils.overlay.OverlayUtility;
 import net.runelite.api.Client;
@@ -19,20 +20,20 @@ import java.awt.*;
 class PrayerWidgetOverlay extends Overlay
 {
     private final Client client;
-    private final GauntletHelperConfig config;
+    private final GauntletHelperPlugin plugin;
+    private GauntletHelperConfigSnapshot config;
     private final BossModule bossModule;
 
     @Inject
     PrayerWidgetOverlay(
             final Client client,
             final GauntletHelperPlugin plugin,
-            final GauntletHelperConfig config,
             final BossModule bossModule)
     {
         super(plugin);
 
         this.client = client;
-        this.config = config;
+        this.plugin = plugin;
         this.bossModule = bossModule;
 
         setPosition(OverlayPosition.DYNAMIC);
@@ -44,6 +45,8 @@ class PrayerWidgetOverlay extends Overlay
     @Override
     public Dimension render(Graphics2D graphics)
     {
+        config = plugin.getConfigSnapshot();
+
         final GauntletHelperConfig.PrayerHighlightMode prayerHighlightMode = config.prayerOverlay();
 
         if (prayerHighlightMode == GauntletHelperConfig.PrayerHighlightMode.NONE ||
@@ -27,7 +27,8 @@
 
 package com.theplug.kotori.gauntlethelper.module.maze;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
+import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import com.theplug.kotori.gauntlethelper.module.Module;
 import com.theplug.kotori.gauntlethelper.module.overlay.TimerOverlay;
 import java.awt.Color;
@@ -40,6 +41,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
+import com.theplug.kotori.kotoriutils.methods.SceneObjectIndex;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.ChatMessageType;
@@ -118,7 +120,9 @@ public final class MazeModule implements Module
 	@Inject
 	private ClientThread clientThread;
 	@Inject
-	private GauntletHelperConfig config;
+	private GauntletHelperPlugin plugin;
+
+	private GauntletHelperConfigSnapshot config;
 	@Inject
 	private NpcOverlayService npcOverlayService;
 	@Inject
@@ -137,11 +141,22 @@ public final class MazeModule implements Module
 	@Override
 	public void start()
 	{
+		config = plugin.getConfigSnapshot();
 		eventBus.register(this);
 		npcOverlayService.registerHighlighter(npcHighlighter);
 		overlayManager.add(mazeOverlay);
 		overlayManager.add(minimapOverlay);
 		overlayManager.add(timerOverlay);
+
+		// Objects already in the scene, the ones loaded after this arrive through onGameObjectSpawned
+		for (final int id : GAME_OBJECT_IDS_RESOURCE)
+		{
+			SceneObjectIndex.getGameObjects(id).forEach(this::addGameObject);
+		}
+		for (final int id : GAME_OBJECT_IDS_UTILITY)
+		{
+			SceneObjectIndex.getGameObjects(id).forEach(this::addGameObject);
+		}
 	}
 
 	@Override
@@ -166,6 +181,8 @@ public final class MazeModule implements Module
 			return;
 		}
 
+		config = plugin.getConfigSnapshot();
+
 		clientThread.invoke(() -> {
 			switch (event.getKey())
 			{
@@ -243,6 +260,12 @@ public final class MazeModule implements Module
 
 	@Subscribe
 	void onGameObjectSpawned(final GameObjectSpawned event)
+	{
+		addGameObject(event.getGameObject());
+	}
+
+	@Subscribe
+	void onGameObjectDespawned(final GameObjectDespawned event)
 	{
 		final GameObject gameObject = event.getGameObject();
 
@@ -250,28 +273,28 @@ public final class MazeModule implements Module
 
 		if (GAME_OBJECT_IDS_RESOURCE.contains(id))
 		{
-			resourceGameObjects.add(new ResourceGameObject(gameObject, skillIconManager, config.resourceIconSize()));
+			resourceGameObjects.removeIf(o -> o.getGameObject() == gameObject);
 		}
 		else if (GAME_OBJECT_IDS_UTILITY.contains(id))
 		{
-			utilities.add(gameObject);
+			utilities.remove(gameObject);
 		}
 	}
 
-	@Subscribe
-	void onGameObjectDespawned(final GameObjectDespawned event)
+	private void addGameObject(final GameObject gameObject)
 	{
-		final GameObject gameObject = event.getGameObject();
-
 		final int id = gameObject.getId();
 
 		if (GAME_OBJECT_IDS_RESOURCE.contains(id))
 		{
-			resourceGameObjects.removeIf(o -> o.getGameObject() == gameObject);
+			if (resourceGameObjects.stream().noneMatch(o -> o.getGameObject() == gameObject))
+			{
+				resourceGameObjects.add(new ResourceGameObject(gameObject, skillIconManager, config.resourceIconSize()));
+			}
 		}
 		else if (GAME_OBJECT_IDS_UTILITY.contains(id))
 		{
-			utilities.remove(gameObject);
+			utilities.add(gameObject);
 		}
 	}
 
@@ -27,7 +27,7 @@
 
 package com.theplug.kotori.gauntlethelper.module.maze;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -50,7 +50,8 @@ import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 class MazeOverlay extends Overlay
 {
 	private final Client client;
-	private final GauntletHelperConfig config;
+	private final GauntletHelperPlugin plugin;
+	private GauntletHelperConfigSnapshot config;
 	private final MazeModule mazeModule;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final ResourceManager resourceManager;
@@ -59,7 +60,6 @@ class MazeOverlay extends Overlay
 	MazeOverlay(
 		final Client client,
 		final GauntletHelperPlugin plugin,
-		final GauntletHelperConfig config,
 		final MazeModule mazeModule,
 		final ModelOutlineRenderer modelOutlineRenderer,
 		final ResourceManager resourceManager)
@@ -67,7 +67,7 @@ class MazeOverlay extends Overlay
 		super(plugin);
 
 		this.client = client;
-		this.config = config;
+		this.plugin = plugin;
 		this.mazeModule = mazeModule;
 		this.modelOutlineRenderer = modelOutlineRenderer;
 		this.resourceManager = resourceManager;
@@ -80,6 +80,8 @@ class MazeOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		config = plugin.getConfigSnapshot();
+
 		renderResources(graphics2D);
 		renderUtilities();
 		return null;
@@ -27,7 +27,7 @@
 
 package com.theplug.kotori.gauntlethelper.module.maze;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
+import com.theplug.kotori.gauntlethelper.GauntletHelperConfigSnapshot;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
@@ -43,20 +43,20 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 @Singleton
 class MinimapOverlay extends Overlay
 {
-	private final GauntletHelperConfig config;
+	private final GauntletHelperPlugin plugin;
+	private GauntletHelperConfigSnapshot config;
 	private final MazeModule mazeModule;
 	private final ResourceManager resourceManager;
 
 	@Inject
 	MinimapOverlay(
 		final GauntletHelperPlugin plugin,
-		final GauntletHelperConfig config,
 		final MazeModule mazeModule,
 		final ResourceManager resourceManager)
 	{
 		super(plugin);
 
-		this.config = config;
+		this.plugin = plugin;
 		this.mazeModule = mazeModule;
 		this.resourceManager = resourceManager;
 
@@ -68,6 +68,8 @@ class MinimapOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		config = plugin.getConfigSnapshot();
+
 		if (config.minimapResourceOverlay())
 		{
 			renderMinimapResourceIcons(graphics2D, mazeModule.getResourceGameObjects());
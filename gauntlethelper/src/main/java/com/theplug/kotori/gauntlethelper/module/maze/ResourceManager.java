@@ -108,7 +108,7 @@ class ResourceManager
 	boolean hasAcquired(final Resource resource)
 	{
 		final ResourceCounter resourceCounter = counterByResource.get(resource);
-		return resourceCounter == null ? config.resourceRemoveAcquired() : resourceCounter.hasAcquiredTarget();
+		return resourceCounter == null ? plugin.getConfigSnapshot().resourceRemoveAcquired() : resourceCounter.hasAcquiredTarget();
 	}
 
 	private void parseNpcChatMessage(final String message)
@@ -28,7 +28,6 @@
 
 package com.theplug.kotori.gauntlethelper.module.overlay;
 
-import com.theplug.kotori.gauntlethelper.GauntletHelperConfig;
 import com.theplug.kotori.gauntlethelper.GauntletHelperPlugin;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -56,7 +55,7 @@ import net.runelite.client.ui.overlay.components.TitleComponent;
 @Singleton
 public final class TimerOverlay extends OverlayPanel
 {
-	private final GauntletHelperConfig config;
+	private final GauntletHelperPlugin plugin;
 	private final ChatMessageManager chatMessageManager;
 
 	private final PanelComponent timerComponent;
@@ -69,11 +68,11 @@ public final class TimerOverlay extends OverlayPanel
 	private long lastElapsed;
 
 	@Inject
-	TimerOverlay(final GauntletHelperPlugin plugin, final GauntletHelperConfig config, final ChatMessageManager chatMessageManager)
+	TimerOverlay(final GauntletHelperPlugin plugin, final ChatMessageManager chatMessageManager)
 	{
 		super(plugin);
 
-		this.config = config;
+		this.plugin = plugin;
 		this.chatMessageManager = chatMessageManager;
 
 		timerComponent = new PanelComponent();
@@ -103,7 +102,7 @@ public final class TimerOverlay extends OverlayPanel
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		if (!config.timerOverlay() || timeGauntletStart == -1)
+		if (!plugin.getConfigSnapshot().timerOverlay() || timeGauntletStart == -1)
 		{
 			return null;
 		}
@@ -154,7 +153,7 @@ public final class TimerOverlay extends OverlayPanel
 
 	public void onPlayerDeath()
 	{
-		if (!config.timerChatMessage())
+		if (!plugin.getConfigSnapshot().timerChatMessage())
 		{
 			return;
 		}
@@ -121,9 +121,6 @@ public class GrotesqueGuardiansPlugin extends Plugin
 	@Getter
 	private boolean onRoof;
 
-	@Getter
-	private long lastTickTime;
-
 	@Getter
 	@Setter
 	private boolean flashOnExplosion;
@@ -272,8 +269,6 @@ public class GrotesqueGuardiansPlugin extends Plugin
 			return;
 		}
 
-		lastTickTime = System.currentTimeMillis();
-
 		clearExpiredGraphicObjectSets();
 
 		if (guardians.isEmpty())
@@ -44,6 +44,7 @@ import com.theplug.kotori.grotesqueguardians.entity.Guardian;
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
 import net.runelite.api.*;
 import com.theplug.kotori.kotoriutils.rlapi.InterfaceTab;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.widgets.Widget;
 import com.theplug.kotori.grotesqueguardians.GrotesqueGuardiansConfig;
 import com.theplug.kotori.grotesqueguardians.GrotesqueGuardiansPlugin;
@@ -168,7 +169,7 @@ public class PrayerOverlay extends Overlay
 		baseX -= BOX_WIDTH / 2;
 
 		int baseY = (int) prayerWidget.getBounds().getY() - tick * TICK_PIXEL_SIZE - BOX_HEIGHT;
-		baseY += (int) (TICK_PIXEL_SIZE - ((plugin.getLastTickTime() + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE));
+		baseY += (int) (TickClock.fractionIntoTick() * TICK_PIXEL_SIZE);
 
 		final Rectangle boxRectangle = new Rectangle(BOX_WIDTH, BOX_HEIGHT);
 		boxRectangle.translate(baseX, baseY);
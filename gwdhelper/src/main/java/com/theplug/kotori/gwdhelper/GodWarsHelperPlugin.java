@@ -25,6 +25,7 @@ package com.theplug.kotori.gwdhelper;
 
 import com.google.inject.Provides;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -37,6 +38,7 @@ import net.runelite.api.events.*;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDependency;
@@ -62,7 +64,7 @@ public class GodWarsHelperPlugin extends Plugin
 	public static final int ARMA_REGION = 11346;
 	public static final int SARA_REGION = 11602;
 	public static final int ZAMMY_REGION = 11603;
-	public static final Set<Integer> GWD_REGION_IDS = Set.of(GENERAL_REGION,ARMA_REGION,SARA_REGION,ZAMMY_REGION);
+	private static final int[] GWD_REGION_IDS = {GENERAL_REGION, ARMA_REGION, SARA_REGION, ZAMMY_REGION};
 	public static final int SERGEANT_STRONGSTACK_AUTO = 6154;
 	public static final int SERGEANT_STEELWILL_AUTO = 7071;
 	public static final int SERGEANT_GRIMSPIKE_AUTO = 7073;
@@ -123,7 +125,10 @@ public class GodWarsHelperPlugin extends Plugin
 	private KeyManager keyManager;
 
 	@Inject
-	private GodWarsHelperConfig config;
+	private GodWarsHelperConfig liveConfig;
+
+	// Plain copy of the config items, swapped for a new one whenever the config group changes
+	private volatile GodWarsHelperConfigSnapshot config;
 
 	@Getter(AccessLevel.PACKAGE)
 	private final Set<NPCContainer> npcContainers = new HashSet<>();
@@ -168,18 +173,25 @@ public class GodWarsHelperPlugin extends Plugin
 	private boolean isFlightGearHotkeyPressed;
 	private boolean isArmadylGearHotkeyPressed;
 
-	@Getter(AccessLevel.PACKAGE)
-	private long lastTickTime;
-
 	@Provides
 	GodWarsHelperConfig getConfig(ConfigManager configManager)
 	{
 		return configManager.getConfig(GodWarsHelperConfig.class);
 	}
 
+	GodWarsHelperConfigSnapshot getConfigSnapshot()
+	{
+		return config;
+	}
+
 	@Override
 	public void startUp()
 	{
+		config = new GodWarsHelperConfigSnapshot(liveConfig);
+		RegionEventRouter.register(this, GWD_REGION_IDS);
+		RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+		RegionEventRouter.subscribe(this, ClientTick.class, this::onClientTick);
+
 		if (client.getGameState() != GameState.LOGGED_IN || !regionCheck())
 		{
 			return;
@@ -206,6 +218,12 @@ public class GodWarsHelperPlugin extends Plugin
 
 	@Override
 	public void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		npcContainers.clear();
 		overlayManager.remove(timersOverlay);
@@ -230,6 +248,15 @@ public class GodWarsHelperPlugin extends Plugin
 		set5EquippedOnce = false;
 	}
 
+	@Subscribe
+	private void onConfigChanged(ConfigChanged event)
+	{
+		if (GodWarsHelperConfigSnapshot.GROUP.equals(event.getGroup()))
+		{
+			config = new GodWarsHelperConfigSnapshot(liveConfig);
+		}
+	}
+
 	@Subscribe
 	private void onGameStateChanged(GameStateChanged event)
 	{
@@ -249,7 +276,7 @@ public class GodWarsHelperPlugin extends Plugin
 				{
 					if (validRegion)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -257,7 +284,7 @@ public class GodWarsHelperPlugin extends Plugin
 			case HOPPING:
 				if (validRegion)
 				{
-					shutDown();
+					stop();
 				}
 				break;
 			default:
@@ -287,7 +314,9 @@ public class GodWarsHelperPlugin extends Plugin
 		removeNpc(event.getNpc());
 	}
 	
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in one of the God Wars boss regions.
+	 */
 	private void onAnimationChanged(AnimationChanged event)
 	{
 		//Used to check for NPC death animations because it's faster than waiting for the NPC to despawn.
@@ -365,7 +394,6 @@ public class GodWarsHelperPlugin extends Plugin
 			return;
 		}
 		
-		lastTickTime = System.currentTimeMillis();
 		handleBosses();
 		bossRoomCheck();
 		autoDefensivePrayers();
@@ -375,7 +403,9 @@ public class GodWarsHelperPlugin extends Plugin
 		gearSwitch();
 	}
 	
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in one of the God Wars boss regions.
+	 */
 	public void onClientTick(ClientTick event)
 	{
 		if (!validRegion || client.getGameState() != GameState.LOGGED_IN || client.getLocalPlayer() == null)
@@ -445,8 +475,8 @@ public class GodWarsHelperPlugin extends Plugin
 	private boolean regionCheck()
 	{
 		lastRegion = currentRegion;
-		currentRegion = MiscUtilities.getPlayerRegionID();
-		return GWD_REGION_IDS.contains(currentRegion);
+		currentRegion = RegionEventRouter.getCurrentRegion();
+		return RegionEventRouter.isActive(this);
 	}
 	
 	private void bossRoomCheck()
@@ -25,6 +25,7 @@
 package com.theplug.kotori.gwdhelper;
 
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.Client;
 import net.runelite.api.Point;
 import net.runelite.api.Prayer;
@@ -48,14 +49,13 @@ public class TimersOverlay extends Overlay
 	private static final int BOX_HEIGHT = 5;
 
 	private final GodWarsHelperPlugin plugin;
-	private final GodWarsHelperConfig config;
+	private GodWarsHelperConfigSnapshot config;
 	private final Client client;
 
 	@Inject
-	TimersOverlay(final GodWarsHelperPlugin plugin, final GodWarsHelperConfig config, final Client client)
+	TimersOverlay(final GodWarsHelperPlugin plugin, final Client client)
 	{
 		this.plugin = plugin;
-		this.config = config;
 		this.client = client;
 
 		setPosition(OverlayPosition.DYNAMIC);
@@ -66,6 +66,8 @@ public class TimersOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		config = plugin.getConfigSnapshot();
+
 		// Maps each tick to a set of attacks and their priorities
 		TreeMap<Integer, TreeMap<Integer, Prayer>> tickAttackMap = new TreeMap<>();
 
@@ -189,7 +191,7 @@ public class TimersOverlay extends Overlay
 		baseX -= BOX_WIDTH / 2;
 
 		int baseY = (int) prayerWidget.getBounds().getY() - tick * TICK_PIXEL_SIZE - BOX_HEIGHT;
-		baseY += (int) (TICK_PIXEL_SIZE - ((plugin.getLastTickTime() + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE));
+		baseY += (int) (TickClock.fractionIntoTick() * TICK_PIXEL_SIZE);
 
 		final Rectangle boxRectangle = new Rectangle(BOX_WIDTH, BOX_HEIGHT);
 		boxRectangle.translate(baseX, baseY);
@@ -2,7 +2,9 @@ package com.theplug.kotori.hallowedhelper;
 
 import com.google.inject.Provides;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
+import com.theplug.kotori.kotoriutils.methods.SceneObjectIndex;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +28,8 @@ import java.awt.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 //        name = "<html>Hallowed <font size=\"\" color=\"red\"<b>BETA</font></b></html>",
 @PluginDescriptor(
@@ -301,7 +304,7 @@ public class HallowedHelperPlugin extends Plugin {
     );
 
     private final int bridge_id = 39527;
-    private final int portal_id = 39533;
+    private static final int portal_id = 39533;
     private static final Set<Integer> STAIRS_IDS = Set.of(
             38462,
             38464,
@@ -330,6 +333,14 @@ public class HallowedHelperPlugin extends Plugin {
             39539
     );
 
+    // Every game object id addGameObject keeps, so a floor reload looks these up in the scene index instead of sweeping the tiles
+    private static final int[] TRACKED_GAME_OBJECT_IDS = IntStream.concat(
+            Stream.of(SWORD_STATUES, CROSSBOWMAN_STATUE_IDS, WIZARD_STATUE_2TICK_IDS, WIZARD_STATUE_3TICK_IDS, CHEST_IDS, FLOOR_GATE_IDS, STAIRS_IDS)
+                    .flatMap(Set::stream)
+                    .mapToInt(Integer::intValue),
+            IntStream.of(portal_id))
+            .toArray();
+
     private static final int BLUE_PORTAL_START_ID = 1815;
     private static final int YELLOW_PORTAL_START_ID = 1816;
     
@@ -454,7 +465,9 @@ public class HallowedHelperPlugin extends Plugin {
     private int graphic = -1;
 
     boolean waitforspot = false;
-    @Subscribe
+    /*
+        Routed, like the graphics and game object listeners, so it only runs while the player is in the Sepulchre.
+     */
     private void onAnimationChanged(final AnimationChanged event)
     {
         if(!playerInSepulchre)
@@ -500,7 +513,7 @@ public class HallowedHelperPlugin extends Plugin {
     }
 
 
-    private static final Set<Integer> REGION_IDS = Set.of(
+    private static final int[] REGION_IDS = {
             8794, 8795, 8796, 8797, 8798,
             9050, 9051, 9052, 9053, 9054,
             9306, 9307, 9308, 9309, 9310,
@@ -508,66 +521,32 @@ public class HallowedHelperPlugin extends Plugin {
             9818, 9819, 9820, 9821, 9822,
             10074, 10075, 10076, 10077, 10078,
             10330, 10331, 10332, 10333, 10334
-    );
-
-
-    private boolean isInSepulchreRegion()
-    {
-        return REGION_IDS.contains(WorldPoint.fromLocalInstance(client, client.getLocalPlayer().getLocalLocation()).getRegionID());
-    }
+    };
 
 
     private void locateSepulchreGameObjects()
     {
-    //    final LocatableQueryResults<GameObject> locatableQueryResults = new GameObjectQuery().result(client);
+        final int plane = client.getTopLevelWorldView().getPlane();
 
-        List<Tile> tilesList = new ArrayList<>();
-        Scene scene = client.getTopLevelWorldView().getScene();
-        Tile[][][] tiles = scene.getTiles();
-        int z = client.getTopLevelWorldView().getPlane();
-        for (int x = 0; x < Constants.SCENE_SIZE;x++)
+        for (final int id : TRACKED_GAME_OBJECT_IDS)
         {
-            for (int y = 0; y < Constants.SCENE_SIZE;y++)
+            for (final GameObject gameObject : SceneObjectIndex.getGameObjects(id))
             {
-                Tile tile = tiles[z][x][y];
-                if (tile == null)
+                if (gameObject.getPlane() == plane)
                 {
-                    continue;
+                    addGameObject(gameObject);
                 }
-                tilesList.add(tile);
             }
         }
 
-        Collection<GameObject> gameObjs = new ArrayList<>();
-        for (Tile tile : tilesList)
+        for (final GroundObject groundObject : SceneObjectIndex.getGroundObjects(bridge_id))
         {
-            GameObject[] gameObjects = tile.getGameObjects();
-            if (gameObjects != null)
+            if (groundObject.getPlane() == plane)
             {
-                gameObjs.addAll(Arrays.asList(gameObjects));
+                addGroundObject(groundObject);
             }
         }
 
-        Collection<GameObject> gameResults = gameObjs.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
-
-        for (final GameObject gameObject : gameResults)
-        {
-            addGameObject(gameObject);
-        }
-
-    //    final LocatableQueryResults<GroundObject> groundObjectResults = new GroundObjectQuery().result(client);
-
-        Collection<GroundObject> groundObjs = new ArrayList<>();
-        for (Tile tile : tilesList)
-        {
-            groundObjs.add(tile.getGroundObject());
-        }
-
-        for (final GroundObject groundObject : groundObjs)
-        {
-            addGroundObject(groundObject);
-        }
-
         for (final GraphicsObject graphicsObject : client.getTopLevelWorldView().getGraphicsObjects())
         {
             addgraphicsobject(graphicsObject);
@@ -607,7 +586,6 @@ public class HallowedHelperPlugin extends Plugin {
         }
     }
 
-    @Subscribe
     private void onGraphicsObjectCreated(GraphicsObjectCreated g)
     {
         if (!playerInSepulchre)
@@ -722,7 +700,11 @@ public class HallowedHelperPlugin extends Plugin {
     protected void startUp() {
         Rotation.init(config.SafeTileColor(), config.UnsafeTileColor(), Color.BLUE, Color.YELLOW);
         LocalDateTime l = LocalDateTime.now();
-        if (client.getGameState() != GameState.LOGGED_IN || !isInSepulchreRegion())
+        RegionEventRouter.register(this, REGION_IDS);
+        RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+        RegionEventRouter.subscribe(this, GraphicsObjectCreated.class, this::onGraphicsObjectCreated);
+        RegionEventRouter.subscribe(this, GameObjectSpawned.class, this::onGameObjectSpawned);
+        if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
         {
             return;
         }
@@ -736,6 +718,11 @@ public class HallowedHelperPlugin extends Plugin {
 
     @Override
     protected void shutDown() {
+        RegionEventRouter.unregisterAll(this);
+        stop();
+    }
+
+    private void stop() {
         overlayManager.remove(hallowedhelperoverlay);
         overlayManager.remove(infoPanel);
         clearSepulchreGameObjects();
@@ -749,7 +736,7 @@ public class HallowedHelperPlugin extends Plugin {
         switch (gameState)
         {
             case LOGGED_IN:
-                if (isInSepulchreRegion())
+                if (RegionEventRouter.isActive(this))
                 {
                     playerInSepulchre = true;
                     getFloor();
@@ -757,13 +744,13 @@ public class HallowedHelperPlugin extends Plugin {
                 }
                 else if (playerInSepulchre)
                 {
-                    shutDown();
+                    stop();
                 }
                 break;
             case LOGIN_SCREEN:
                 if (playerInSepulchre)
                 {
-                    shutDown();
+                    stop();
                 }
                 break;
             default:
@@ -1221,7 +1208,6 @@ public class HallowedHelperPlugin extends Plugin {
         return null;
     }
 
-    @Subscribe
     private void onGameObjectSpawned(GameObjectSpawned event)
     {
         if (!playerInSepulchre)
@@ -1552,13 +1538,6 @@ public class HallowedHelperPlugin extends Plugin {
         }
     }
 
-    @Subscribe
-    private void onProjectileMoved(ProjectileMoved event)
-    {
-        //Projectile p = event.getProjectile();
-        //log.info(p.getId() + " <P> Moved");
-    }
-
     @Subscribe
     private void onGroundObjectSpawned(GroundObjectSpawned event)
     {
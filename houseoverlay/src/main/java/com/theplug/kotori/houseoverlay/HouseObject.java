@@ -0,0 +1,54 @@
+package com.theplug.kotori.houseoverlay;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.api.Renderable;
+import net.runelite.api.TileObject;
+
+/*
+    An object in the house with its label resolved from the object definition when it spawned, and again when its impostor changes.
+    The overlay only reads the stored label, so it never has to look up definitions while drawing.
+ */
+@Getter(AccessLevel.PACKAGE)
+class HouseObject
+{
+    private final TileObject object;
+    private final Renderable renderable;
+    private final boolean decorative;
+    // Height the label is drawn at instead of the model height, or -1 to use the model height
+    private final int labelHeight;
+
+    @Setter(AccessLevel.PACKAGE)
+    private boolean impostor;
+    @Setter(AccessLevel.PACKAGE)
+    private String name;
+    @Setter(AccessLevel.PACKAGE)
+    private String lastAction = "";
+
+    HouseObject(TileObject object, Renderable renderable, boolean decorative, int labelHeight)
+    {
+        this.object = object;
+        this.renderable = renderable;
+        this.decorative = decorative;
+        this.labelHeight = labelHeight;
+    }
+
+    int getId()
+    {
+        return object.getId();
+    }
+
+    /*
+        Objects without a name are known but not drawn, so a later impostor change can still give them a label.
+     */
+    boolean isLabelled()
+    {
+        return name != null;
+    }
+
+    int getModelHeight()
+    {
+        return labelHeight == -1 ? renderable.getModelHeight() : labelHeight;
+    }
+}
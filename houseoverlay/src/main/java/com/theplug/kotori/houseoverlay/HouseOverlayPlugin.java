@@ -3,6 +3,8 @@
 package com.theplug.kotori.houseoverlay;
 
 import com.google.inject.Provides;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.gameval.InventoryID;
@@ -18,6 +20,9 @@ import net.runelite.client.ui.overlay.OverlayManager;
 
 import javax.inject.Inject;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @PluginDescriptor(
         name = "<html><font color=#6b8af6>[P]</font> House Overlay</html>",
@@ -149,6 +154,8 @@ public class HouseOverlayPlugin extends Plugin
         overlayManager.add(overlay);
         init_fairy_rings();
         checkWeaponSlot();
+        // Objects that spawned before we knew we were in the house
+        clientThread.invoke(this::addSceneObjects);
     }
 
     @Override
@@ -157,8 +164,9 @@ public class HouseOverlayPlugin extends Plugin
         inHouse = false;
         overlayManager.remove(overlay);
         cached_fairy_ring_names.clear();
-        gameObjectCollection.clear();
-        decorativeObjectCollection.clear();
+        houseObjects.clear();
+        labelledObjects.clear();
+        impostorLabelsStale = false;
         fairy_ring_has_staff = false;
     }
 
@@ -166,8 +174,38 @@ public class HouseOverlayPlugin extends Plugin
     public boolean inHouse = false;
     public int currentanimation = 0;
     public boolean fairy_ring_has_staff = false;
-    public Collection<GameObject> gameObjectCollection = new ArrayList<>();
-    public Collection<DecorativeObject> decorativeObjectCollection = new ArrayList<>();
+
+    private static final int EXIT_PORTAL_ID = 4525;
+    private static final int JEWELLERY_BOX_ID = 29156;
+    private static final int PORTAL_FOCUS_ID = 13640;
+    // Anything below this is not a house object, your own player for example
+    private static final int MIN_HOUSE_OBJECT_ID = 1300;
+    // Height the labels of low or oddly shaped models are drawn at
+    private static final int FIXED_LABEL_HEIGHT = 65;
+    private static final Set<Integer> REJUVENATION_POOL_IDS = Set.of(29241, 40848, 49993);
+    private static final Set<Integer> FAIRY_RING_IDS = Set.of(29228, 29229, 40779);
+    private static final Set<Integer> MOUNTED_JEWELLERY_IDS = Set.of(
+            33411, 33412, 33413, 33414, 33415, 33419, //Xeric's Talisman
+            33416, 33417, 33418, 33420, //Digsite Pendant
+            13523 //Glory
+    );
+    private static final Set<Integer> PORTAL_NEXUS_IDS = Stream.of(
+            IntStream.of(27097),
+            IntStream.rangeClosed(33354, 33410),
+            IntStream.rangeClosed(33423, 33431),
+            IntStream.rangeClosed(37547, 37557),
+            IntStream.rangeClosed(37559, 37569),
+            IntStream.rangeClosed(37571, 37580),
+            IntStream.rangeClosed(41413, 41415))
+            .flatMapToInt(ids -> ids)
+            .boxed()
+            .collect(Collectors.toUnmodifiableSet());
+
+    // One object per id, the same as the overlay always drew
+    private final Map<Integer, HouseObject> houseObjects = new HashMap<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final List<HouseObject> labelledObjects = new ArrayList<>();
+    private boolean impostorLabelsStale;
     
     @Subscribe
     private void onAnimationChanged(final AnimationChanged event)
@@ -204,10 +242,16 @@ public class HouseOverlayPlugin extends Plugin
         GameObject spawnedGameObject = event.getGameObject();
         if (spawnedGameObject != null)
         {
-            if (!gameObjectCollection.stream().anyMatch(o -> o.getId() == spawnedGameObject.getId()))
-            {
-                gameObjectCollection.add(spawnedGameObject);
-            }
+            addGameObject(spawnedGameObject);
+        }
+    }
+
+    @Subscribe
+    private void onGameObjectDespawned(GameObjectDespawned event)
+    {
+        if (inHouse)
+        {
+            removeHouseObject(event.getGameObject());
         }
     }
 
@@ -221,13 +265,231 @@ public class HouseOverlayPlugin extends Plugin
         DecorativeObject spawnedDecorativeObject = event.getDecorativeObject();
         if (spawnedDecorativeObject != null)
         {
-            if (!decorativeObjectCollection.stream().anyMatch(o -> o.getId() == spawnedDecorativeObject.getId()))
+            addDecorativeObject(spawnedDecorativeObject);
+        }
+    }
+
+    @Subscribe
+    private void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+    {
+        if (inHouse)
+        {
+            removeHouseObject(event.getDecorativeObject());
+        }
+    }
+
+    /*
+        Impostors like the portal nexus and fairy ring show the last destination through varbits, so their labels are
+        resolved again on the next tick instead of on every one of the many varbit changes.
+     */
+    @Subscribe
+    private void onVarbitChanged(VarbitChanged event)
+    {
+        if (inHouse)
+        {
+            impostorLabelsStale = true;
+        }
+    }
+
+    @Subscribe
+    private void onGameTick(GameTick event)
+    {
+        if (!impostorLabelsStale)
+        {
+            return;
+        }
+        impostorLabelsStale = false;
+
+        boolean changed = false;
+        for (HouseObject houseObject : houseObjects.values())
+        {
+            if (houseObject.isImpostor())
+            {
+                resolveLabel(houseObject);
+                changed = true;
+            }
+        }
+        if (changed)
+        {
+            updateLabelledObjects();
+        }
+    }
+
+    private void addSceneObjects()
+    {
+        if (!inHouse)
+        {
+            return;
+        }
+
+        for (Tile[][] plane : client.getTopLevelWorldView().getScene().getTiles())
+        {
+            for (Tile[] column : plane)
             {
-                decorativeObjectCollection.add(spawnedDecorativeObject);
+                for (Tile tile : column)
+                {
+                    if (tile == null)
+                    {
+                        continue;
+                    }
+                    GameObject[] gameObjects = tile.getGameObjects();
+                    if (gameObjects != null)
+                    {
+                        for (GameObject gameObject : gameObjects)
+                        {
+                            if (gameObject != null)
+                            {
+                                addGameObject(gameObject);
+                            }
+                        }
+                    }
+                    if (tile.getDecorativeObject() != null)
+                    {
+                        addDecorativeObject(tile.getDecorativeObject());
+                    }
+                }
             }
         }
     }
 
+    private void addGameObject(GameObject gameObject)
+    {
+        if (houseObjects.containsKey(gameObject.getId()))
+        {
+            return;
+        }
+
+        int id = gameObject.getId();
+        boolean fixedHeight = id == EXIT_PORTAL_ID || REJUVENATION_POOL_IDS.contains(id) || PORTAL_NEXUS_IDS.contains(id);
+        addHouseObject(new HouseObject(gameObject, gameObject.getRenderable(), false, fixedHeight ? FIXED_LABEL_HEIGHT : -1));
+    }
+
+    private void addDecorativeObject(DecorativeObject decorativeObject)
+    {
+        if (houseObjects.containsKey(decorativeObject.getId()))
+        {
+            return;
+        }
+
+        addHouseObject(new HouseObject(decorativeObject, decorativeObject.getRenderable(), true, -1));
+    }
+
+    private void addHouseObject(HouseObject houseObject)
+    {
+        resolveLabel(houseObject);
+        houseObjects.put(houseObject.getId(), houseObject);
+        if (houseObject.isLabelled())
+        {
+            labelledObjects.add(houseObject);
+        }
+    }
+
+    private void removeHouseObject(TileObject object)
+    {
+        HouseObject houseObject = houseObjects.get(object.getId());
+        if (houseObject != null && houseObject.getObject() == object)
+        {
+            houseObjects.remove(object.getId());
+            labelledObjects.remove(houseObject);
+        }
+    }
+
+    private void updateLabelledObjects()
+    {
+        labelledObjects.clear();
+        for (HouseObject houseObject : houseObjects.values())
+        {
+            if (houseObject.isLabelled())
+            {
+                labelledObjects.add(houseObject);
+            }
+        }
+    }
+
+    /*
+        Works out the name and last used destination shown above an object, leaving the name null for objects that aren't drawn.
+     */
+    private void resolveLabel(HouseObject houseObject)
+    {
+        int id = houseObject.getId();
+        houseObject.setLastAction("");
+        houseObject.setName(null);
+
+        if (id < MIN_HOUSE_OBJECT_ID || id == PORTAL_FOCUS_ID)
+        {
+            return;
+        }
+
+        if (id == EXIT_PORTAL_ID)
+        {
+            houseObject.setName("Exit");
+            return;
+        }
+        if (REJUVENATION_POOL_IDS.contains(id))
+        {
+            houseObject.setName("Rejuvenation Pool");
+            return;
+        }
+
+        ObjectComposition def = client.getObjectDefinition(id);
+        if (def == null)
+        {
+            houseObject.setName("");
+            return;
+        }
+        if (def.getImpostorIds() != null)
+        {
+            houseObject.setImpostor(true);
+            ObjectComposition impostor = def.getImpostor();
+            if (impostor == null)
+            {
+                return;
+            }
+            def = impostor;
+        }
+
+        String[] actions = def.getActions();
+        if (actions == null)
+        {
+            return;
+        }
+
+        if (id == JEWELLERY_BOX_ID)
+        {
+            houseObject.setLastAction(actions[2] == null ? "" : actions[2]);
+        }
+        else if (MOUNTED_JEWELLERY_IDS.contains(id) || PORTAL_NEXUS_IDS.contains(id))
+        {
+            if (actions[0] != null)
+            {
+                houseObject.setLastAction(actions[0]);
+            }
+        }
+        else if (FAIRY_RING_IDS.contains(id))
+        {
+            for (String action : actions)
+            {
+                if (action != null && action.toLowerCase().contains("last"))
+                {
+                    String code = action.replace(")", "").replace("(", "!");
+                    houseObject.setLastAction("Last: " + get_fairy_ring_name(code.split("!")[1]));
+                    break;
+                }
+            }
+        }
+
+        //WhiteList Portals
+        if (actions[0] == null || !actions[0].equals("Enter"))
+        {
+            if (actions[1] == null || actions[1].equals("Jars"))
+            {
+                return;
+            }
+        }
+
+        houseObject.setName(def.getName().replace(" Portal", ""));
+    }
+
     @Subscribe
     private void onGameStateChanged(GameStateChanged event)
     {
@@ -0,0 +1,235 @@
+package com.theplug.kotori.inferno;
+
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.Constants;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+
+/*
+	Scene sized lookup tables for the Inferno arena, addressed by scene tile.
+
+	Line of sight only depends on the arena's collision data, which does not change during a wave, so every result is memoized
+	for as long as the scene and its collision flags stay the same. NPCs mostly stand still or walk over the same tiles, so after
+	the first few ticks of a wave nearly every line of sight check is a table hit.
+	Obstacles (tiles covered by NPCs) are rebuilt every tick into a bitmap so membership is a single array read.
+ */
+class ArenaGrid
+{
+	static final int SIZE = Constants.SCENE_SIZE;
+
+	// Largest NPC size that fits in the memo key, bigger NPCs are checked directly
+	private static final int MAX_CACHED_NPC_SIZE = 7;
+	private static final int MAX_LOS_ENTRIES = 1 << 20;
+
+	private int baseX = -1;
+	private int baseY = -1;
+	private int plane = -1;
+	private int collisionHash;
+
+	private final long[] obstacles = new long[(SIZE * SIZE + 63) >> 6];
+	private final long[] previousObstacles = new long[obstacles.length];
+
+	// Bumped whenever a line of sight or obstacle lookup could start returning something different
+	private int version;
+
+	// Open addressing table, key is target cell | npc cell << 14 | npc size << 28, which is never 0
+	private int[] losKeys = new int[1 << 12];
+	private boolean[] losValues = new boolean[1 << 12];
+	private int losSize;
+
+	/*
+		Called once per tick. Drops every memoized line of sight result if the scene moved or any collision flag changed,
+		returning true if it did so obstacles can be placed again against the new scene.
+	 */
+	boolean update(Client client)
+	{
+		WorldView worldView = client.getTopLevelWorldView();
+		int newPlane = worldView.getPlane();
+		int newHash = 0;
+		CollisionData[] collisionMaps = worldView.getCollisionMaps();
+		if (collisionMaps != null && collisionMaps[newPlane] != null)
+		{
+			newHash = Arrays.deepHashCode(collisionMaps[newPlane].getFlags());
+		}
+
+		if (worldView.getBaseX() != baseX || worldView.getBaseY() != baseY || newPlane != plane || newHash != collisionHash)
+		{
+			baseX = worldView.getBaseX();
+			baseY = worldView.getBaseY();
+			plane = newPlane;
+			collisionHash = newHash;
+			clearLineOfSight();
+			return true;
+		}
+		return false;
+	}
+
+	void clear()
+	{
+		baseX = -1;
+		baseY = -1;
+		plane = -1;
+		Arrays.fill(obstacles, 0);
+		clearLineOfSight();
+	}
+
+	int getVersion()
+	{
+		return version;
+	}
+
+	int getBaseX()
+	{
+		return baseX;
+	}
+
+	int getBaseY()
+	{
+		return baseY;
+	}
+
+	int getPlane()
+	{
+		return plane;
+	}
+
+	/*
+		Scene cell of a world tile, or -1 if it is outside the scene.
+	 */
+	int toCell(int worldX, int worldY)
+	{
+		int sceneX = worldX - baseX;
+		int sceneY = worldY - baseY;
+		if (sceneX < 0 || sceneY < 0 || sceneX >= SIZE || sceneY >= SIZE)
+		{
+			return -1;
+		}
+		return sceneX * SIZE + sceneY;
+	}
+
+	int cellX(int cell)
+	{
+		return baseX + cell / SIZE;
+	}
+
+	int cellY(int cell)
+	{
+		return baseY + cell % SIZE;
+	}
+
+	void setObstacles(List<WorldPoint> points)
+	{
+		System.arraycopy(obstacles, 0, previousObstacles, 0, obstacles.length);
+		Arrays.fill(obstacles, 0);
+		for (WorldPoint point : points)
+		{
+			int cell = toCell(point.getX(), point.getY());
+			if (cell != -1)
+			{
+				obstacles[cell >> 6] |= 1L << cell;
+			}
+		}
+
+		if (!Arrays.equals(obstacles, previousObstacles))
+		{
+			version++;
+		}
+	}
+
+	boolean isObstacle(int worldX, int worldY)
+	{
+		int cell = toCell(worldX, worldY);
+		return cell != -1 && (obstacles[cell >> 6] & (1L << cell)) != 0;
+	}
+
+	boolean isObstacle(WorldPoint point)
+	{
+		return isObstacle(point.getX(), point.getY());
+	}
+
+	/*
+		Same result as new WorldArea(target, 1, 1).hasLineOfSightTo(worldView, area), memoized per target tile, area and size.
+	 */
+	boolean hasLineOfSight(Client client, WorldPoint target, WorldArea area)
+	{
+		int targetCell = toCell(target.getX(), target.getY());
+		int areaCell = toCell(area.getX(), area.getY());
+		int size = area.getWidth();
+		if (targetCell == -1 || areaCell == -1 || size != area.getHeight() || size > MAX_CACHED_NPC_SIZE
+			|| target.getPlane() != plane || area.getPlane() != plane)
+		{
+			return new WorldArea(target, 1, 1).hasLineOfSightTo(client.getTopLevelWorldView(), area);
+		}
+
+		int key = targetCell | (areaCell << 14) | (size << 28);
+		int mask = losKeys.length - 1;
+		int slot = mix(key) & mask;
+		while (losKeys[slot] != 0)
+		{
+			if (losKeys[slot] == key)
+			{
+				return losValues[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		boolean hasLos = new WorldArea(target, 1, 1).hasLineOfSightTo(client.getTopLevelWorldView(), area);
+		if (losSize >= MAX_LOS_ENTRIES)
+		{
+			// Should never happen inside the arena, but keep the table bounded
+			clearLineOfSight();
+		}
+		else if ((losSize + 1) * 2 > losKeys.length)
+		{
+			growLineOfSight();
+		}
+		putLineOfSight(key, hasLos);
+		return hasLos;
+	}
+
+	private void putLineOfSight(int key, boolean value)
+	{
+		int mask = losKeys.length - 1;
+		int slot = mix(key) & mask;
+		while (losKeys[slot] != 0)
+		{
+			slot = (slot + 1) & mask;
+		}
+		losKeys[slot] = key;
+		losValues[slot] = value;
+		losSize++;
+	}
+
+	private void growLineOfSight()
+	{
+		int[] oldKeys = losKeys;
+		boolean[] oldValues = losValues;
+		losKeys = new int[oldKeys.length * 2];
+		losValues = new boolean[oldKeys.length * 2];
+		losSize = 0;
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] != 0)
+			{
+				putLineOfSight(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	private void clearLineOfSight()
+	{
+		Arrays.fill(losKeys, 0);
+		losSize = 0;
+		version++;
+	}
+
+	private static int mix(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
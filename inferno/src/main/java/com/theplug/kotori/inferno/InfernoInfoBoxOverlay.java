@@ -48,7 +48,7 @@ public class InfernoInfoBoxOverlay extends Overlay
 	private static final Color NOT_ACTIVATED_BACKGROUND_COLOR = new Color(150, 0, 0, 150);
 	private final Client client;
 	private final InfernoPlugin plugin;
-	private final InfernoConfig config;
+	private InfernoConfigSnapshot config;
 	private final SpriteManager spriteManager;
 	private final PanelComponent imagePanelComponent = new PanelComponent();
 	private BufferedImage prayMeleeSprite;
@@ -56,11 +56,10 @@ public class InfernoInfoBoxOverlay extends Overlay
 	private BufferedImage prayMagicSprite;
 
 	@Inject
-	private InfernoInfoBoxOverlay(final Client client, final InfernoPlugin plugin, final InfernoConfig config, final SpriteManager spriteManager)
+	private InfernoInfoBoxOverlay(final Client client, final InfernoPlugin plugin, final SpriteManager spriteManager)
 	{
 		this.client = client;
 		this.plugin = plugin;
-		this.config = config;
 		this.spriteManager = spriteManager;
 		setPosition(OverlayPosition.BOTTOM_RIGHT);
 		setPriority(Overlay.PRIORITY_HIGHEST);
@@ -69,6 +68,8 @@ public class InfernoInfoBoxOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		config = plugin.getConfigSnapshot();
+
 		if (config.prayerDisplayMode() != InfernoPrayerDisplayMode.BOTTOM_RIGHT
 			&& config.prayerDisplayMode() != InfernoPrayerDisplayMode.BOTH)
 		{
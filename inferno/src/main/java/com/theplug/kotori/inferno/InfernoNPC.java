@@ -70,10 +70,13 @@ class InfernoNPC
 	private int idleTicks;
 	private int lastAnimation;
 	private boolean lastCanAttack;
-	//0 = not in LOS, 1 = in LOS after move, 2 = in LOS
-	private final Map<WorldPoint, Integer> safeSpotCache;
+	private final ArenaGrid arena;
+	//Indexed by arena cell, 0 = not cached, 1 = not in LOS, 2 = in LOS after move, 3 = in LOS
+	private final byte[] safeSpotCache = new byte[ArenaGrid.SIZE * ArenaGrid.SIZE];
+	private int[] safeSpotCacheCells = new int[64];
+	private int safeSpotCacheSize;
 
-	InfernoNPC(NPC npc)
+	InfernoNPC(NPC npc, ArenaGrid arena)
 	{
 		this.npc = npc;
 		this.type = Type.typeFromId(npc.getId());
@@ -82,7 +85,7 @@ class InfernoNPC
 		this.lastAnimation = -1;
 		this.lastCanAttack = false;
 		this.idleTicks = 0;
-		this.safeSpotCache = new HashMap<>();
+		this.arena = arena;
 	}
 
 	void updateNextAttack(Attack nextAttack, int ticksTillNextAttack)
@@ -99,43 +102,36 @@ class InfernoNPC
 
 	boolean canAttack(Client client, WorldPoint target)
 	{
-		if (safeSpotCache.containsKey(target))
+		final int cell = arena.toCell(target.getX(), target.getY());
+		if (cell != -1 && safeSpotCache[cell] != 0)
 		{
-			return safeSpotCache.get(target) == 2;
+			return safeSpotCache[cell] == 3;
 		}
 
-		boolean hasLos = new WorldArea(target, 1, 1).hasLineOfSightTo(client.getTopLevelWorldView(), this.getNpc().getWorldArea());
-		boolean hasRange = this.getType().getDefaultAttack() == Attack.MELEE ? this.getNpc().getWorldArea().isInMeleeDistance(target)
-			: this.getNpc().getWorldArea().distanceTo(target) <= this.getType().getRange();
+		final WorldArea npcArea = this.getNpc().getWorldArea();
+		boolean hasLos = arena.hasLineOfSight(client, target, npcArea);
+		boolean hasRange = this.getType().getDefaultAttack() == Attack.MELEE ? npcArea.isInMeleeDistance(target)
+			: npcArea.distanceTo(target) <= this.getType().getRange();
 
 		if (hasLos && hasRange)
 		{
-			safeSpotCache.put(target, 2);
+			cacheSafeSpot(cell, 3);
 		}
 
 		return hasLos && hasRange;
 	}
 
-	boolean canMoveToAttack(Client client, WorldPoint target, List<WorldPoint> obstacles)
+	boolean canMoveToAttack(Client client, WorldPoint target)
 	{
-		if (safeSpotCache.containsKey(target))
+		final int cell = arena.toCell(target.getX(), target.getY());
+		if (cell != -1 && safeSpotCache[cell] != 0)
 		{
-			return safeSpotCache.get(target) == 1 || safeSpotCache.get(target) == 2;
-		}
-
-		final List<WorldPoint> realObstacles = new ArrayList<>();
-		for (WorldPoint obstacle : obstacles)
-		{
-			if (this.getNpc().getWorldArea().toWorldPointList().contains(obstacle))
-			{
-				continue;
-			}
-
-			realObstacles.add(obstacle);
+			return safeSpotCache[cell] == 2 || safeSpotCache[cell] == 3;
 		}
 
+		final WorldArea npcArea = this.getNpc().getWorldArea();
 		final WorldArea targetArea = new WorldArea(target, 1, 1);
-		WorldArea currentWorldArea = this.getNpc().getWorldArea();
+		WorldArea currentWorldArea = npcArea;
 
 		int steps = 0;
 		while (true)
@@ -147,38 +143,30 @@ class InfernoNPC
 				return false;
 			}
 
-			final WorldArea predictedWorldArea = WorldAreaExtended.calculateNextTravellingPoint(client, currentWorldArea, targetArea, true, x ->
-			{
-				for (WorldPoint obstacle : realObstacles)
-				{
-					if (new WorldArea(x, 1, 1).intersectsWith(new WorldArea(obstacle, 1, 1)))
-					{
-						return false;
-					}
-				}
-				return true;
-			});
+			// Tiles under this NPC itself never block it
+			final WorldArea predictedWorldArea = WorldAreaExtended.calculateNextTravellingPoint(client, currentWorldArea, targetArea, true,
+				x -> !arena.isObstacle(x) || npcArea.contains(x));
 
 			// Will only happen when NPC is underneath player or moving out of scene (but this will never show on overlay)
 			if (predictedWorldArea == null)
 			{
-				safeSpotCache.put(target, 1);
+				cacheSafeSpot(cell, 2);
 				return true;
 			}
 
 			if (predictedWorldArea == currentWorldArea)
 			{
-				safeSpotCache.put(target, 0);
+				cacheSafeSpot(cell, 1);
 				return false;
 			}
 
-			boolean hasLos = new WorldArea(target, 1, 1).hasLineOfSightTo(client.getTopLevelWorldView(), predictedWorldArea);
+			boolean hasLos = arena.hasLineOfSight(client, target, predictedWorldArea);
 			boolean hasRange = this.getType().getDefaultAttack() == Attack.MELEE ? predictedWorldArea.isInMeleeDistance(target)
 				: predictedWorldArea.distanceTo(target) <= this.getType().getRange();
 
 			if (hasLos && hasRange)
 			{
-				safeSpotCache.put(target, 1);
+				cacheSafeSpot(cell, 2);
 				return true;
 			}
 
@@ -186,15 +174,41 @@ class InfernoNPC
 		}
 	}
 
+	private void cacheSafeSpot(int cell, int value)
+	{
+		if (cell == -1)
+		{
+			return;
+		}
+		if (safeSpotCache[cell] == 0)
+		{
+			if (safeSpotCacheSize == safeSpotCacheCells.length)
+			{
+				safeSpotCacheCells = Arrays.copyOf(safeSpotCacheCells, safeSpotCacheSize * 2);
+			}
+			safeSpotCacheCells[safeSpotCacheSize++] = cell;
+		}
+		safeSpotCache[cell] = (byte) value;
+	}
+
+	private void clearSafeSpotCache()
+	{
+		for (int i = 0; i < safeSpotCacheSize; i++)
+		{
+			safeSpotCache[safeSpotCacheCells[i]] = 0;
+		}
+		safeSpotCacheSize = 0;
+	}
+
 	private boolean couldAttackPrevTick(Client client, WorldPoint lastPlayerLocation)
 	{
-		return new WorldArea(lastPlayerLocation, 1, 1).hasLineOfSightTo(client.getTopLevelWorldView(), this.getNpc().getWorldArea());
+		return arena.hasLineOfSight(client, lastPlayerLocation, this.getNpc().getWorldArea());
 	}
 
 	void gameTick(Client client, WorldPoint lastPlayerLocation, boolean finalPhase, int ticksSinceFinalPhase)
 	{
 		int npcAnimationId = ReflectionLibrary.getNpcAnimationId(this.getNpc());
-		safeSpotCache.clear();
+		clearSafeSpotCache();
 		this.idleTicks += 1;
 
 		if (ticksTillNextAttack > 0)
@@ -18,6 +18,7 @@ import javax.inject.Inject;
 import com.theplug.kotori.kotoriutils.methods.PrayerInteractions;
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
 import com.theplug.kotori.kotoriutils.rlapi.WidgetInfoPlus;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.Perspective;
@@ -40,15 +41,14 @@ public class InfernoOverlay extends Overlay
 	private static final int BOX_HEIGHT = 5;
 
 	private final InfernoPlugin plugin;
-	private final InfernoConfig config;
+	private InfernoConfigSnapshot config;
 	private final Client client;
 
 	@Inject
-	private InfernoOverlay(final Client client, final InfernoPlugin plugin, final InfernoConfig config)
+	private InfernoOverlay(final Client client, final InfernoPlugin plugin)
 	{
 		this.client = client;
 		this.plugin = plugin;
-		this.config = config;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 		setPriority(Overlay.PRIORITY_HIGHEST);
@@ -57,6 +57,8 @@ public class InfernoOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		config = plugin.getConfigSnapshot();
+
 		final Widget meleePrayerWidget = client.getWidget(WidgetInfoPlus.PRAYER_PROTECT_FROM_MELEE.getId());
 		final Widget rangePrayerWidget = client.getWidget(WidgetInfoPlus.PRAYER_PROTECT_FROM_MISSILES.getId());
 		final Widget magicPrayerWidget = client.getWidget(WidgetInfoPlus.PRAYER_PROTECT_FROM_MAGIC.getId());
@@ -90,7 +92,7 @@ public class InfernoOverlay extends Overlay
 					OverlayUtil.renderPolygon(graphics, infernoNPC.getNpc().getConvexHull(), Color.RED);
 				}
 				if (config.indicateTemporarySafespotted() && plugin.isNormalSafespots(infernoNPC)
-					&& infernoNPC.canMoveToAttack(client, client.getLocalPlayer().getWorldLocation(), plugin.getObstacles()))
+					&& infernoNPC.canMoveToAttack(client, client.getLocalPlayer().getWorldLocation()))
 				{
 					OverlayUtil.renderPolygon(graphics, infernoNPC.getNpc().getConvexHull(), Color.YELLOW);
 				}
@@ -382,16 +384,17 @@ public class InfernoOverlay extends Overlay
 
 	private void renderIndividualTilesSafespots(Graphics2D graphics)
 	{
-		for (WorldPoint worldPoint : plugin.getSafeSpotMap().keySet())
+		final SafespotGrid safeSpotGrid = plugin.getSafeSpotGrid();
+		for (int i = 0; i < safeSpotGrid.size(); i++)
 		{
-			final int safeSpotId = plugin.getSafeSpotMap().get(worldPoint);
+			final int safeSpotId = safeSpotGrid.getId(i);
 
 			if (safeSpotId > 6)
 			{
 				continue;
 			}
 
-			final LocalPoint localPoint = LocalPoint.fromWorld(client.getTopLevelWorldView(), worldPoint);
+			final LocalPoint localPoint = LocalPoint.fromWorld(client.getTopLevelWorldView(), safeSpotGrid.getX(i), safeSpotGrid.getY(i));
 
 			if (localPoint == null)
 			{
@@ -495,7 +498,7 @@ public class InfernoOverlay extends Overlay
 		baseX -= BOX_WIDTH / 2;
 
 		int baseY = (int) prayerWidget.getBounds().getY() - ticksUntilAttack * TICK_PIXEL_SIZE - BOX_HEIGHT;
-		baseY += (int) (TICK_PIXEL_SIZE - ((plugin.getLastTick() + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE));
+		baseY += (int) (TickClock.fractionIntoTick() * TICK_PIXEL_SIZE);
 
 		final Rectangle boxRectangle = new Rectangle(BOX_WIDTH, BOX_HEIGHT);
 		boxRectangle.translate(baseX, baseY);
@@ -25,12 +25,15 @@
 package com.theplug.kotori.inferno;
 
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.chat.ChatDispatcher;
+import com.theplug.kotori.kotoriutils.chat.ChatMatch;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.ReflectionLibrary;
 import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
 import net.runelite.client.game.NPCManager;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,9 +47,9 @@ import net.runelite.api.GameState;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.NPC;
 import net.runelite.api.gameval.NpcID;
+import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.AnimationChanged;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcDespawned;
@@ -106,7 +109,10 @@ public class InfernoPlugin extends Plugin
 	private InfernoOverlay prayerOverlay;
 
 	@Inject
-	private InfernoConfig config;
+	private InfernoConfig liveConfig;
+
+	// Plain copy of the config items, swapped for a new one whenever the config group changes
+	private volatile InfernoConfigSnapshot config;
 
 	@Getter(AccessLevel.PACKAGE)
 	private InfernoConfig.FontStyle fontStyle = InfernoConfig.FontStyle.BOLD;
@@ -149,6 +155,18 @@ public class InfernoPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private InfernoNPC centralNibbler = null;
 
+	@Getter(AccessLevel.PACKAGE)
+	private final ArenaGrid arenaGrid = new ArenaGrid();
+
+	// Safespot id after adding a prayer to the current id, indexed by the current id
+	private static final int[] ADD_MELEE = {1, 1, 4, 5, 4, 5, 7, 7};
+	private static final int[] ADD_MAGIC = {3, 5, 6, 3, 4, 7, 6, 7};
+	private static final int[] ADD_RANGED = {2, 4, 2, 6, 7, 5, 6, 7};
+
+	private int[] safespotInputs = new int[64];
+	private int[] lastSafespotInputs = new int[64];
+	private int lastSafespotInputsLength;
+
 	// 0 = total safespot
 	// 1 = pray melee
 	// 2 = pray range
@@ -158,16 +176,13 @@ public class InfernoPlugin extends Plugin
 	// 6 = pray range, magic
 	// 7 = pray all
 	@Getter(AccessLevel.PACKAGE)
-	private final Map<WorldPoint, Integer> safeSpotMap = new HashMap<>();
+	private final SafespotGrid safeSpotGrid = new SafespotGrid(arenaGrid);
 	@Getter(AccessLevel.PACKAGE)
 	private final Map<Integer, List<WorldPoint>> safeSpotAreas = new HashMap<>();
 
 	@Getter(AccessLevel.PACKAGE)
 	List<InfernoBlobDeathSpot> blobDeathSpots = new ArrayList<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private long lastTick;
-
 	private InfernoSpawnTimerInfobox spawnTimerInfoBox;
 
 	public static final int JAL_NIB = 7574;
@@ -191,9 +206,15 @@ public class InfernoPlugin extends Plugin
 		return configManager.getConfig(InfernoConfig.class);
 	}
 
+	InfernoConfigSnapshot getConfigSnapshot()
+	{
+		return config;
+	}
+
 	@Override
 	protected void startUp()
 	{
+		config = new InfernoConfigSnapshot(liveConfig);
 		waveOverlay.setDisplayMode(config.waveDisplay());
 		waveOverlay.setWaveHeaderColor(config.getWaveOverlayHeaderColor());
 		waveOverlay.setWaveTextColor(config.getWaveTextColor());
@@ -209,6 +230,7 @@ public class InfernoPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
+		ChatDispatcher.unregisterAll(this);
 		overlayManager.remove(infernoOverlay);
 		overlayManager.remove(waveOverlay);
 		overlayManager.remove(jadOverlay);
@@ -223,9 +245,11 @@ public class InfernoPlugin extends Plugin
 		infernoNpcs.clear();
 		upcomingAttacks.clear();
 		obstacles.clear();
-		safeSpotMap.clear();
+		safeSpotGrid.clear();
 		safeSpotAreas.clear();
 		blobDeathSpots.clear();
+		arenaGrid.clear();
+		lastSafespotInputsLength = 0;
 
 		currentWaveNumber = -1;
 		zuk = null;
@@ -238,6 +262,9 @@ public class InfernoPlugin extends Plugin
 	
 	private void init()
 	{
+		ChatDispatcher.unregisterAll(this);
+		ChatDispatcher.register(this, ChatMessageType.GAMEMESSAGE, ChatMatch.CONTAINS, "Wave:", (event, text) -> onWaveMessage(text));
+
 		overlayManager.add(infernoOverlay);
 		overlayManager.add(jadOverlay);
 		overlayManager.add(prayerOverlay);
@@ -251,11 +278,13 @@ public class InfernoPlugin extends Plugin
 	@Subscribe
 	private void onConfigChanged(ConfigChanged event)
 	{
-		if (!"inferno".equals(event.getGroup()))
+		if (!InfernoConfigSnapshot.GROUP.equals(event.getGroup()))
 		{
 			return;
 		}
 
+		config = new InfernoConfigSnapshot(liveConfig);
+
 		if (event.getKey().endsWith("color"))
 		{
 			waveOverlay.setWaveHeaderColor(config.getWaveOverlayHeaderColor());
@@ -282,7 +311,10 @@ public class InfernoPlugin extends Plugin
 			return;
 		}
 
-		lastTick = System.currentTimeMillis();
+		if (arenaGrid.update(client))
+		{
+			arenaGrid.setObstacles(obstacles);
+		}
 
 		upcomingAttacks.clear();
 		calculateUpcomingAttacks();
@@ -290,7 +322,6 @@ public class InfernoPlugin extends Plugin
 		closestAttack = null;
 		calculateClosestAttack();
 
-		safeSpotMap.clear();
 		calculateSafespots();
 
 		safeSpotAreas.clear();
@@ -345,7 +376,7 @@ public class InfernoPlugin extends Plugin
 			case BLOB:
 				// Blobs need to be added to the end of the list because the prayer for their detection tick
 				// will be based on the upcoming attacks of other NPC's
-				infernoNpcs.add(new InfernoNPC(event.getNpc()));
+				infernoNpcs.add(new InfernoNPC(event.getNpc(), arenaGrid));
 				return;
 			case MAGE:
 				if (zuk != null && spawnTimerInfoBox != null)
@@ -389,7 +420,7 @@ public class InfernoPlugin extends Plugin
 				break;
 		}
 
-		infernoNpcs.add(0, new InfernoNPC(event.getNpc()));
+		infernoNpcs.add(0, new InfernoNPC(event.getNpc(), arenaGrid));
 	}
 
 	@Subscribe
@@ -475,20 +506,30 @@ public class InfernoPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	private void onChatMessage(ChatMessage event)
+	/*
+		The dispatcher hands over the message with its colour tags stripped and lowercased, e.g. "wave: 12".
+	 */
+	private void onWaveMessage(String message)
 	{
-		if (!isInInferno() || event.getType() != ChatMessageType.GAMEMESSAGE)
+		if (!isInInferno())
 		{
 			return;
 		}
 
-		String message = event.getMessage();
+		int start = message.indexOf("wave:") + "wave:".length();
+		while (start < message.length() && message.charAt(start) == ' ')
+		{
+			start++;
+		}
+		int end = start;
+		while (end < message.length() && Character.isDigit(message.charAt(end)))
+		{
+			end++;
+		}
 
-		if (event.getMessage().contains("Wave:"))
+		if (end > start)
 		{
-			message = message.substring(message.indexOf(": ") + 2);
-			currentWaveNumber = Integer.parseInt(message.substring(0, message.indexOf('<')));
+			currentWaveNumber = Integer.parseInt(message.substring(start, end));
 		}
 	}
 
@@ -613,23 +654,41 @@ public class InfernoPlugin extends Plugin
 
 	private void calculateSafespots()
 	{
+		if (currentWaveNumber >= 69 || config.safespotDisplayMode() == InfernoSafespotDisplayMode.OFF)
+		{
+			safeSpotGrid.clear();
+			lastSafespotInputsLength = 0;
+		}
+
 		if (currentWaveNumber < 69)
 		{
 			if (config.safespotDisplayMode() != InfernoSafespotDisplayMode.OFF)
 			{
 				int checkSize = (int) Math.floor(config.safespotsCheckSize() / 2.0);
+				final WorldPoint playerLoc = client.getLocalPlayer().getWorldLocation();
+
+				//Nothing that decides a safespot moved since last tick, so the grid is still correct
+				if (!safespotInputsChanged(playerLoc, checkSize))
+				{
+					return;
+				}
+
+				safeSpotGrid.clear();
 
 				for (int x = -checkSize; x <= checkSize; x++)
 				{
 					for (int y = -checkSize; y <= checkSize; y++)
 					{
-						final WorldPoint checkLoc = client.getLocalPlayer().getWorldLocation().dx(x).dy(y);
+						final int checkX = playerLoc.getX() + x;
+						final int checkY = playerLoc.getY() + y;
 
-						if (obstacles.contains(checkLoc))
+						if (arenaGrid.isObstacle(checkX, checkY))
 						{
 							continue;
 						}
 
+						final WorldPoint checkLoc = playerLoc.dx(x).dy(y);
+
 						for (InfernoNPC infernoNPC : infernoNpcs)
 						{
 							if (!isNormalSafespots(infernoNPC))
@@ -637,99 +696,42 @@ public class InfernoPlugin extends Plugin
 								continue;
 							}
 
-							if (!safeSpotMap.containsKey(checkLoc))
+							int safeSpotId = safeSpotGrid.get(checkX, checkY);
+							if (safeSpotId == -1)
 							{
-								safeSpotMap.put(checkLoc, 0);
+								safeSpotId = 0;
 							}
 
 							if (infernoNPC.canAttack(client, checkLoc)
-								|| infernoNPC.canMoveToAttack(client, checkLoc, obstacles))
+								|| infernoNPC.canMoveToAttack(client, checkLoc))
 							{
 								if (infernoNPC.getType().getDefaultAttack() == InfernoNPC.Attack.MELEE)
 								{
-									if (safeSpotMap.get(checkLoc) == 0)
-									{
-										safeSpotMap.put(checkLoc, 1);
-									}
-									else if (safeSpotMap.get(checkLoc) == 2)
-									{
-										safeSpotMap.put(checkLoc, 4);
-									}
-									else if (safeSpotMap.get(checkLoc) == 3)
-									{
-										safeSpotMap.put(checkLoc, 5);
-									}
-									else if (safeSpotMap.get(checkLoc) == 6)
-									{
-										safeSpotMap.put(checkLoc, 7);
-									}
+									safeSpotId = ADD_MELEE[safeSpotId];
 								}
 
 								if (infernoNPC.getType().getDefaultAttack() == InfernoNPC.Attack.MAGIC
 									|| (infernoNPC.getType() == InfernoNPC.Type.BLOB
-									&& safeSpotMap.get(checkLoc) != 2 && safeSpotMap.get(checkLoc) != 4))
+									&& safeSpotId != 2 && safeSpotId != 4))
 								{
-									if (safeSpotMap.get(checkLoc) == 0)
-									{
-										safeSpotMap.put(checkLoc, 3);
-									}
-									else if (safeSpotMap.get(checkLoc) == 1)
-									{
-										safeSpotMap.put(checkLoc, 5);
-									}
-									else if (safeSpotMap.get(checkLoc) == 2)
-									{
-										safeSpotMap.put(checkLoc, 6);
-									}
-									else if (safeSpotMap.get(checkLoc) == 5)
-									{
-										safeSpotMap.put(checkLoc, 7);
-									}
+									safeSpotId = ADD_MAGIC[safeSpotId];
 								}
 
 								if (infernoNPC.getType().getDefaultAttack() == InfernoNPC.Attack.RANGED
 									|| (infernoNPC.getType() == InfernoNPC.Type.BLOB
-									&& safeSpotMap.get(checkLoc) != 3 && safeSpotMap.get(checkLoc) != 5))
+									&& safeSpotId != 3 && safeSpotId != 5))
 								{
-									if (safeSpotMap.get(checkLoc) == 0)
-									{
-										safeSpotMap.put(checkLoc, 2);
-									}
-									else if (safeSpotMap.get(checkLoc) == 1)
-									{
-										safeSpotMap.put(checkLoc, 4);
-									}
-									else if (safeSpotMap.get(checkLoc) == 3)
-									{
-										safeSpotMap.put(checkLoc, 6);
-									}
-									else if (safeSpotMap.get(checkLoc) == 4)
-									{
-										safeSpotMap.put(checkLoc, 7);
-									}
+									safeSpotId = ADD_RANGED[safeSpotId];
 								}
 
 								if (infernoNPC.getType() == InfernoNPC.Type.JAD
 									&& infernoNPC.getNpc().getWorldArea().isInMeleeDistance(checkLoc))
 								{
-									if (safeSpotMap.get(checkLoc) == 0)
-									{
-										safeSpotMap.put(checkLoc, 1);
-									}
-									else if (safeSpotMap.get(checkLoc) == 2)
-									{
-										safeSpotMap.put(checkLoc, 4);
-									}
-									else if (safeSpotMap.get(checkLoc) == 3)
-									{
-										safeSpotMap.put(checkLoc, 5);
-									}
-									else if (safeSpotMap.get(checkLoc) == 6)
-									{
-										safeSpotMap.put(checkLoc, 7);
-									}
+									safeSpotId = ADD_MELEE[safeSpotId];
 								}
 							}
+
+							safeSpotGrid.set(checkX, checkY, safeSpotId);
 						}
 					}
 				}
@@ -737,6 +739,7 @@ public class InfernoPlugin extends Plugin
 		}
 		else if (currentWaveNumber == 69 && zukShield != null)
 		{
+
 			final WorldPoint zukShieldCurrentPosition = zukShield.getWorldLocation();
 
 			if (zukShieldLastPosition != null && zukShieldLastPosition.getX() != zukShieldCurrentPosition.getX() && zukShieldCornerTicks == -2)
@@ -810,6 +813,57 @@ public class InfernoPlugin extends Plugin
 		}
 	}
 
+	/*
+		Packs everything the normal safespot calculation reads into an int array and compares it with the previous tick.
+		That is the player tile, the check size, the arena version and the position and size of every NPC that counts towards safespots.
+	 */
+	private boolean safespotInputsChanged(WorldPoint playerLoc, int checkSize)
+	{
+		int length = 0;
+		int[] inputs = safespotInputs;
+		inputs[length++] = arenaGrid.getBaseX();
+		inputs[length++] = arenaGrid.getBaseY();
+		inputs[length++] = arenaGrid.getVersion();
+		inputs[length++] = playerLoc.getX();
+		inputs[length++] = playerLoc.getY();
+		inputs[length++] = playerLoc.getPlane();
+		inputs[length++] = checkSize;
+
+		for (InfernoNPC infernoNPC : infernoNpcs)
+		{
+			if (!isNormalSafespots(infernoNPC))
+			{
+				continue;
+			}
+
+			if (length + 5 > inputs.length)
+			{
+				inputs = Arrays.copyOf(inputs, inputs.length * 2);
+				safespotInputs = inputs;
+			}
+
+			final WorldArea area = infernoNPC.getNpc().getWorldArea();
+			inputs[length++] = infernoNPC.getNpc().getIndex();
+			inputs[length++] = area.getX();
+			inputs[length++] = area.getY();
+			inputs[length++] = area.getWidth();
+			inputs[length++] = infernoNPC.getType().ordinal();
+		}
+
+		if (length == lastSafespotInputsLength && Arrays.equals(inputs, 0, length, lastSafespotInputs, 0, length))
+		{
+			return false;
+		}
+
+		if (lastSafespotInputs.length < length)
+		{
+			lastSafespotInputs = new int[inputs.length];
+		}
+		System.arraycopy(inputs, 0, lastSafespotInputs, 0, length);
+		lastSafespotInputsLength = length;
+		return true;
+	}
+
 	private void drawZukPredictedSafespot()
 	{
 		final WorldPoint zukShieldCurrentPosition = zukShield.getWorldLocation();
@@ -901,7 +955,7 @@ public class InfernoPlugin extends Plugin
 		{
 			for (int y = yCoord - 4; y <= yCoord - 2; y++)
 			{
-				safeSpotMap.put(new WorldPoint(x, y, client.getTopLevelWorldView().getPlane()), colorSafeSpotId);
+				safeSpotGrid.set(x, y, colorSafeSpotId);
 			}
 		}
 	}
@@ -910,14 +964,11 @@ public class InfernoPlugin extends Plugin
 	{
 		if (config.safespotDisplayMode() == InfernoSafespotDisplayMode.AREA)
 		{
-			for (WorldPoint worldPoint : safeSpotMap.keySet())
+			final int plane = client.getTopLevelWorldView().getPlane();
+			for (int i = 0; i < safeSpotGrid.size(); i++)
 			{
-				if (!safeSpotAreas.containsKey(safeSpotMap.get(worldPoint)))
-				{
-					safeSpotAreas.put(safeSpotMap.get(worldPoint), new ArrayList<>());
-				}
-
-				safeSpotAreas.get(safeSpotMap.get(worldPoint)).add(worldPoint);
+				safeSpotAreas.computeIfAbsent(safeSpotGrid.getId(i), k -> new ArrayList<>())
+					.add(new WorldPoint(safeSpotGrid.getX(i), safeSpotGrid.getY(i), plane));
 			}
 		}
 
@@ -930,6 +981,7 @@ public class InfernoPlugin extends Plugin
 		{
 			obstacles.addAll(npc.getWorldArea().toWorldPointList());
 		}
+		arenaGrid.setObstacles(obstacles);
 	}
 
 	private void manageBlobDeathLocations()
@@ -147,7 +147,7 @@ class InfernoWaveMappings
 		npcNameMappingComplex = nameMapBuilderComplex.build();
 	}
 
-	static void addWaveComponent(InfernoConfig config, PanelComponent panelComponent, String header, int wave, Color titleColor, Color color)
+	static void addWaveComponent(InfernoConfigSnapshot config, PanelComponent panelComponent, String header, int wave, Color titleColor, Color color)
 	{
 		int[] monsters = waveMapping.get(wave);
 
@@ -17,7 +17,7 @@ import net.runelite.client.ui.overlay.components.PanelComponent;
 public class InfernoWaveOverlay extends Overlay
 {
 	private final InfernoPlugin plugin;
-	private final InfernoConfig config;
+	private InfernoConfigSnapshot config;
 	private final PanelComponent panelComponent;
 
 	@Setter(AccessLevel.PACKAGE)
@@ -30,10 +30,9 @@ public class InfernoWaveOverlay extends Overlay
 	private InfernoWaveDisplayMode displayMode;
 
 	@Inject
-	InfernoWaveOverlay(final InfernoPlugin plugin, final InfernoConfig config)
+	InfernoWaveOverlay(final InfernoPlugin plugin)
 	{
 		this.plugin = plugin;
-		this.config = config;
 		this.panelComponent = new PanelComponent();
 		setPosition(OverlayPosition.TOP_RIGHT);
 		setPriority(Overlay.PRIORITY_HIGHEST);
@@ -42,6 +41,8 @@ public class InfernoWaveOverlay extends Overlay
 
 	public Dimension render(final Graphics2D graphics)
 	{
+		config = plugin.getConfigSnapshot();
+
 		panelComponent.getChildren().clear();
 
 		if (displayMode == InfernoWaveDisplayMode.CURRENT ||
@@ -0,0 +1,77 @@
+package com.theplug.kotori.inferno;
+
+import java.util.Arrays;
+
+/*
+	Safespot ids for the tiles around the player, stored per scene cell of the ArenaGrid.
+	The cells that hold an id are also kept in insertion order, so iterating and clearing only touch tiles that were written.
+	Ids follow the legend on InfernoPlugin#safeSpotGrid.
+ */
+class SafespotGrid
+{
+	private static final byte NONE = -1;
+
+	private final ArenaGrid arena;
+	private final byte[] ids = new byte[ArenaGrid.SIZE * ArenaGrid.SIZE];
+	private int[] cells = new int[256];
+	private int size;
+
+	SafespotGrid(ArenaGrid arena)
+	{
+		this.arena = arena;
+		Arrays.fill(ids, NONE);
+	}
+
+	int get(int worldX, int worldY)
+	{
+		int cell = arena.toCell(worldX, worldY);
+		return cell == -1 ? NONE : ids[cell];
+	}
+
+	void set(int worldX, int worldY, int id)
+	{
+		int cell = arena.toCell(worldX, worldY);
+		if (cell == -1)
+		{
+			return;
+		}
+		if (ids[cell] == NONE)
+		{
+			if (size == cells.length)
+			{
+				cells = Arrays.copyOf(cells, size * 2);
+			}
+			cells[size++] = cell;
+		}
+		ids[cell] = (byte) id;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	int getX(int index)
+	{
+		return arena.cellX(cells[index]);
+	}
+
+	int getY(int index)
+	{
+		return arena.cellY(cells[index]);
+	}
+
+	int getId(int index)
+	{
+		return ids[cells[index]];
+	}
+
+	void clear()
+	{
+		for (int i = 0; i < size; i++)
+		{
+			ids[cells[i]] = NONE;
+		}
+		size = 0;
+	}
+}
@@ -4,8 +4,10 @@ import com.google.gson.Gson;
 import com.google.inject.Provides;
 import com.theplug.kotori.kotoripluginloader.json.Info;
 import com.theplug.kotori.kotoripluginloader.json.PluginInfo;
+import com.theplug.kotori.kotoripluginloader.json.Releases;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteProperties;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
@@ -20,12 +22,13 @@ import net.runelite.client.externalplugins.ExternalPluginManager;
 
 import javax.inject.Inject;
 import javax.swing.*;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @PluginDescriptor(
 		name = "<html><font color=#6b8af6>Kotori</font> Plugin Loader</html>",
@@ -60,6 +63,9 @@ public class KotoriPluginLoader extends Plugin
 	private ArrayList<String> loadedPluginClassPaths;
 	private List<Plugin> installedPlugins;
 	private URLClassLoader kotoriClassLoader;
+	private PluginCache pluginCache;
+	// Every init() run, so the cache is only shut down once none of them can still be writing to it
+	private CompletableFuture<Void> initTasks;
 	
 	//Popup Message Strings
 	private final String urlDownloadErrorMessage =
@@ -86,6 +92,8 @@ public class KotoriPluginLoader extends Plugin
 		pluginInfoList = new ArrayList<>();
 		loadedPluginClassPaths = new ArrayList<>();
 		installedPlugins = new ArrayList<>();
+		pluginCache = new PluginCache(new File(RuneLite.RUNELITE_DIR, "kotori").toPath());
+		initTasks = CompletableFuture.completedFuture(null);
 		if (config.autoLoadPlugins())
 		{
 			init();
@@ -103,31 +111,48 @@ public class KotoriPluginLoader extends Plugin
 		loadedPluginClassPaths = null;
 		installedPlugins = null;
 		kotoriClassLoader = null;
+		PluginCache cache = pluginCache;
+		initTasks.whenComplete((result, error) -> cache.shutDown());
+		initTasks = null;
+		pluginCache = null;
 	}
 	
 	private void init()
 	{
+		CompletableFuture<Void> initTask = new CompletableFuture<>();
+		initTasks = CompletableFuture.allOf(initTasks, initTask);
 		new Thread(() ->
 		{
-			parseJsonFile(infoJsonURL, infoJsonObject);
-			parseJsonFile(pluginsJsonURL, pluginInfoJsonObject);
-			parsePluginInfo();
-			createKotoriClassLoader();
-			if (outdatedLoaderVersion())
+			try
 			{
-				loaderOutdatedPopUp();
+				loadFromManifests();
 			}
-			else
+			finally
 			{
-				if (!config.disableTutorialMsg())
-				{
-					createMessagePopUp(tutorialMessage);
-				}
-				loadPlugins(buildPluginsToLoadList());
+				initTask.complete(null);
 			}
 		}).start();
 	}
 	
+	private void loadFromManifests()
+	{
+		parseJsonFiles();
+		parsePluginInfo();
+		createKotoriClassLoader();
+		if (outdatedLoaderVersion())
+		{
+			loaderOutdatedPopUp();
+		}
+		else
+		{
+			if (!config.disableTutorialMsg())
+			{
+				createMessagePopUp(tutorialMessage);
+			}
+			loadPlugins(buildPluginsToLoadList());
+		}
+	}
+	
 	@Subscribe
 	private void onConfigChanged(ConfigChanged event)
 	{
@@ -179,60 +204,45 @@ public class KotoriPluginLoader extends Plugin
 		}
 	}
 	
-	private void parseJsonFile(String url, Object objectToSet)
+	private void parseJsonFiles()
 	{
-		if (objectToSet != null)
+		if (infoJsonObject != null && pluginInfoJsonObject != null)
 		{
 			return;
 		}
 		
-		BufferedReader reader = null;
-		
-		for (int i = 1; i < 6; i++)
-		{
-			try
-			{
-				URL urlJsonFile = new URL(url);
-				reader = new BufferedReader(new InputStreamReader(urlJsonFile.openStream()));
-				break;
-			}
-			catch (Exception e)
-			{
-				log.error("Attempt #" + i + ". Unable to download JSON file from URL. Retrying...", e);
-			}
-		}
+		//Both files are requested at once, each one falls back to its cached copy if it can't be downloaded
+		CompletableFuture<String> infoJson = pluginCache.fetchManifest(infoJsonURL, "info.json");
+		CompletableFuture<String> pluginsJson = pluginCache.fetchManifest(pluginsJsonURL, "plugins.json");
+		String infoJsonText = infoJson.join();
+		String pluginsJsonText = pluginsJson.join();
 		
-		if (reader == null)
+		if (infoJsonText == null || pluginsJsonText == null)
 		{
 			createMessagePopUp(urlDownloadErrorMessage);
-			return;
 		}
 		
-		try
+		if (infoJsonObject == null && infoJsonText != null)
 		{
-			switch (url)
-			{
-				case pluginsJsonURL:
-					pluginInfoJsonObject = gson.fromJson(reader, PluginInfo[].class);
-					break;
-				case infoJsonURL:
-					infoJsonObject = gson.fromJson(reader, Info.class);
-					break;
-			}
+			infoJsonObject = parseJson(infoJsonText, Info.class);
 		}
-		catch (Exception e)
+		if (pluginInfoJsonObject == null && pluginsJsonText != null)
 		{
-			log.error("Unable to convert JSON file into a Java object.", e);
-			createMessagePopUp(jsonParseErrorMessage);
+			pluginInfoJsonObject = parseJson(pluginsJsonText, PluginInfo[].class);
 		}
-		
+	}
+	
+	private <T> T parseJson(String json, Class<T> type)
+	{
 		try
 		{
-			reader.close();
+			return gson.fromJson(json, type);
 		}
 		catch (Exception e)
 		{
-			log.error("Unable to close BufferedReader stream.", e);
+			log.error("Unable to convert JSON file into a Java object.", e);
+			createMessagePopUp(jsonParseErrorMessage);
+			return null;
 		}
 	}
 	
@@ -256,17 +266,24 @@ public class KotoriPluginLoader extends Plugin
 	
 	private void createKotoriClassLoader()
 	{
-		if (kotoriClassLoader != null || pluginInfoList == null)
+		if (kotoriClassLoader != null || pluginInfoJsonObject == null)
 		{
 			return;
 		}
 		
 		try
 		{
+			//Classes are loaded from the cached jars, only missing or changed jars get downloaded
+			ArrayList<Releases> latestReleases = new ArrayList<>();
+			for (PluginInfo plugin : pluginInfoJsonObject)
+			{
+				latestReleases.add(plugin.getReleases().get(plugin.getReleases().size() - 1));
+			}
+			
 			ArrayList<URL> pluginUrlsList = new ArrayList<>();
-			for (int i = 4; i < pluginInfoList.size(); i+=5)
+			for (Path pluginJar : pluginCache.cacheJars(latestReleases))
 			{
-				URL pluginUrl = new URL(pluginInfoList.get(i));
+				URL pluginUrl = pluginJar.toUri().toURL();
 				if (!pluginUrlsList.contains(pluginUrl))
 				{
 					pluginUrlsList.add(pluginUrl);
@@ -323,11 +340,21 @@ public class KotoriPluginLoader extends Plugin
 			ArrayList<Class<?>> classesToLoad = new ArrayList<>();
 			for (String classPath : pluginClassPaths)
 			{
-				if (!loadedPluginClassPaths.contains(classPath))
+				if (loadedPluginClassPaths.contains(classPath))
+				{
+					continue;
+				}
+				
+				// A plugin whose jar couldn't be cached is skipped on its own, the other plugins still load
+				try
 				{
 					classesToLoad.add(kotoriClassLoader.loadClass(classPath));
 					loadedPluginClassPaths.add(classPath);
 				}
+				catch (ClassNotFoundException | LinkageError e)
+				{
+					log.error("Unable to load plugin class " + classPath + ", skipping it.", e);
+				}
 			}
 			
 			List<Plugin> scannedPlugins = manager.loadPlugins(classesToLoad, null);
@@ -0,0 +1,448 @@
+package com.theplug.kotori.kotoripluginloader;
+
+import com.theplug.kotori.kotoripluginloader.json.Releases;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+	Local copies of the loader manifests and plugin jars, kept in the RuneLite folder so the loader starts from disk.
+	Manifests are requested with the ETag and Last-Modified of the cached copy, and the cached copy is used when the server
+	reports no change or can't be reached. Jars are stored under their release file name, which carries the version, and are
+	only downloaded when the cached file is missing or its SHA-512 doesn't match the manifest.
+ */
+@Slf4j
+class PluginCache
+{
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration MANIFEST_TIMEOUT = Duration.ofSeconds(15);
+	private static final Duration JAR_TIMEOUT = Duration.ofSeconds(60);
+	private static final int DOWNLOAD_THREADS = 4;
+	private static final String META_FILE = "manifests.properties";
+
+	private final Path manifestDir;
+	private final Path jarDir;
+	private final Properties manifestMeta = new Properties();
+	private final ExecutorService executor;
+	private final HttpClient httpClient;
+
+	PluginCache(Path cacheDir)
+	{
+		manifestDir = cacheDir.resolve("manifests");
+		jarDir = cacheDir.resolve("jars");
+
+		try
+		{
+			Files.createDirectories(manifestDir);
+			Files.createDirectories(jarDir);
+		}
+		catch (IOException e)
+		{
+			log.error("Unable to create the plugin cache folders in " + cacheDir + ".", e);
+		}
+
+		Path metaFile = manifestDir.resolve(META_FILE);
+		if (Files.isRegularFile(metaFile))
+		{
+			try (InputStream in = Files.newInputStream(metaFile))
+			{
+				manifestMeta.load(in);
+			}
+			catch (IOException e)
+			{
+				log.error("Unable to read the cached manifest headers, manifests will be downloaded in full.", e);
+			}
+		}
+
+		executor = Executors.newFixedThreadPool(DOWNLOAD_THREADS, runnable ->
+		{
+			Thread thread = new Thread(runnable, "Kotori Plugin Loader Download");
+			thread.setDaemon(true);
+			return thread;
+		});
+		httpClient = HttpClient.newBuilder()
+				.connectTimeout(CONNECT_TIMEOUT)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+	}
+
+	/*
+		Completes with the manifest text, either fresh or from the cache, or null if it is neither online nor cached.
+	 */
+	CompletableFuture<String> fetchManifest(String url, String fileName)
+	{
+		return CompletableFuture.supplyAsync(() -> downloadManifest(url, fileName), executor);
+	}
+
+	/*
+		Makes sure the jar of every release is cached with the expected hash, downloading the missing ones in parallel.
+		Returns the local jars that are ready, in the order of the releases. When a release can't be cached, the newest cached jar
+		of an earlier version of the same plugin is used instead. Cached jars no release or fallback refers to are deleted.
+	 */
+	List<Path> cacheJars(List<Releases> releases)
+	{
+		List<CompletableFuture<Path>> jars = new ArrayList<>();
+		for (Releases release : releases)
+		{
+			jars.add(CompletableFuture.supplyAsync(() -> cacheJar(release), executor));
+		}
+
+		List<Path> readyJars = new ArrayList<>();
+		Set<Path> keptJars = new HashSet<>();
+		for (int i = 0; i < releases.size(); i++)
+		{
+			Releases release = releases.get(i);
+			keptJars.add(jarDir.resolve(jarFileName(release)));
+
+			Path path = jars.get(i).join();
+			if (path == null)
+			{
+				path = previousJar(release);
+				if (path != null)
+				{
+					log.warn("Using the cached " + path.getFileName() + " until " + jarFileName(release) + " can be downloaded.");
+					keptJars.add(path);
+				}
+			}
+			if (path != null)
+			{
+				readyJars.add(path);
+			}
+		}
+		deleteOldJars(keptJars);
+
+		return readyJars;
+	}
+
+	/*
+		Lets the downloads already running finish, so a jar is never left behind half written, and stops taking new ones.
+		The loader only calls this once its init tasks are done.
+	 */
+	void shutDown()
+	{
+		executor.shutdown();
+	}
+
+	private String downloadManifest(String url, String fileName)
+	{
+		Path cached = manifestDir.resolve(fileName);
+		boolean hasCached = Files.isRegularFile(cached);
+
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(MANIFEST_TIMEOUT).GET();
+		if (hasCached)
+		{
+			String etag = manifestMeta.getProperty(fileName + ".etag");
+			if (etag != null)
+			{
+				request.header("If-None-Match", etag);
+			}
+			String lastModified = manifestMeta.getProperty(fileName + ".lastModified");
+			if (lastModified != null)
+			{
+				request.header("If-Modified-Since", lastModified);
+			}
+		}
+
+		try
+		{
+			HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() == 304 && hasCached)
+			{
+				return Files.readString(cached);
+			}
+			if (response.statusCode() == 200)
+			{
+				writeAtomically(cached, response.body().getBytes(StandardCharsets.UTF_8));
+				saveManifestMeta(fileName, response.headers());
+				return response.body();
+			}
+			log.error("Unable to download " + url + ", the server answered " + response.statusCode() + ".");
+		}
+		catch (IOException e)
+		{
+			log.error("Unable to download " + url + ".", e);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		if (!hasCached)
+		{
+			return null;
+		}
+
+		log.info("Using the cached copy of " + fileName + ".");
+		try
+		{
+			return Files.readString(cached);
+		}
+		catch (IOException e)
+		{
+			log.error("Unable to read the cached copy of " + fileName + ".", e);
+			return null;
+		}
+	}
+
+	private synchronized void saveManifestMeta(String fileName, HttpHeaders headers)
+	{
+		setOrRemove(fileName + ".etag", headers.firstValue("ETag").orElse(null));
+		setOrRemove(fileName + ".lastModified", headers.firstValue("Last-Modified").orElse(null));
+
+		try
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			manifestMeta.store(out, null);
+			writeAtomically(manifestDir.resolve(META_FILE), out.toByteArray());
+		}
+		catch (IOException e)
+		{
+			log.error("Unable to save the cached manifest headers.", e);
+		}
+	}
+
+	private void setOrRemove(String key, String value)
+	{
+		if (value == null)
+		{
+			manifestMeta.remove(key);
+		}
+		else
+		{
+			manifestMeta.setProperty(key, value);
+		}
+	}
+
+	private Path cacheJar(Releases release)
+	{
+		Path jar = jarDir.resolve(jarFileName(release));
+		String expectedHash = release.getSha512sum();
+
+		if (Files.isRegularFile(jar) && hashMatches(jar, expectedHash))
+		{
+			return jar;
+		}
+
+		Path temp = null;
+		try
+		{
+			temp = Files.createTempFile(jarDir, jar.getFileName().toString(), ".tmp");
+			HttpRequest request = HttpRequest.newBuilder(release.getUrl().toURI()).timeout(JAR_TIMEOUT).GET().build();
+			HttpResponse<Path> response = httpClient.send(request, HttpResponse.BodyHandlers.ofFile(temp));
+			if (response.statusCode() != 200)
+			{
+				log.error("Unable to download " + release.getUrl() + ", the server answered " + response.statusCode() + ".");
+				return null;
+			}
+			if (!hashMatches(temp, expectedHash))
+			{
+				log.error("Downloaded " + release.getUrl() + " doesn't match its SHA-512 hash, skipping it.");
+				return null;
+			}
+
+			try
+			{
+				moveIntoPlace(temp, jar);
+			}
+			catch (IOException e)
+			{
+				// On Windows a jar the client still has open can't be replaced, the fresh copy is picked up on the next start
+				log.warn("Unable to replace " + jar + ", it is probably still in use. Skipping it until the next start.", e);
+				return null;
+			}
+			temp = null;
+			return jar;
+		}
+		catch (Exception e)
+		{
+			if (e instanceof InterruptedException)
+			{
+				Thread.currentThread().interrupt();
+			}
+			log.error("Unable to download " + release.getUrl() + ".", e);
+			return null;
+		}
+		finally
+		{
+			if (temp != null)
+			{
+				try
+				{
+					Files.deleteIfExists(temp);
+				}
+				catch (IOException e)
+				{
+					log.debug("Unable to delete temporary file " + temp + ".", e);
+				}
+			}
+		}
+	}
+
+	/*
+		A release without a hash can't be verified, so any cached or downloaded copy is accepted.
+	 */
+	private static boolean hashMatches(Path file, String expectedHash)
+	{
+		if (expectedHash == null || expectedHash.isEmpty())
+		{
+			return true;
+		}
+
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance("SHA-512");
+			byte[] buffer = new byte[65536];
+			try (InputStream in = Files.newInputStream(file))
+			{
+				int read;
+				while ((read = in.read(buffer)) != -1)
+				{
+					digest.update(buffer, 0, read);
+				}
+			}
+
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest())
+			{
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString().equalsIgnoreCase(expectedHash);
+		}
+		catch (IOException | NoSuchAlgorithmException e)
+		{
+			log.error("Unable to hash " + file + ".", e);
+			return false;
+		}
+	}
+
+	private static String jarFileName(Releases release)
+	{
+		String path = release.getUrl().getPath();
+		return path.substring(path.lastIndexOf('/') + 1);
+	}
+
+	/*
+		The newest cached jar of the same plugin as the release, jars are named <plugin>-<version>.jar. Null if there is none.
+	 */
+	private Path previousJar(Releases release)
+	{
+		String fileName = jarFileName(release);
+		int versionStart = fileName.lastIndexOf('-');
+		if (versionStart <= 0)
+		{
+			return null;
+		}
+		String prefix = fileName.substring(0, versionStart + 1);
+
+		Path newest = null;
+		long newestModified = Long.MIN_VALUE;
+		try (DirectoryStream<Path> jars = Files.newDirectoryStream(jarDir, "*.jar"))
+		{
+			for (Path jar : jars)
+			{
+				String name = jar.getFileName().toString();
+				// The version part has no dash, so another plugin whose name starts with this one's doesn't match
+				if (name.equals(fileName) || !name.startsWith(prefix) || name.indexOf('-', prefix.length()) != -1)
+				{
+					continue;
+				}
+
+				long modified = Files.getLastModifiedTime(jar).toMillis();
+				if (modified > newestModified)
+				{
+					newest = jar;
+					newestModified = modified;
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to look for an earlier jar of " + fileName + ".", e);
+			return null;
+		}
+		return newest;
+	}
+
+	private void deleteOldJars(Set<Path> keptJars)
+	{
+		try (DirectoryStream<Path> jars = Files.newDirectoryStream(jarDir, "*.jar"))
+		{
+			for (Path jar : jars)
+			{
+				if (keptJars.contains(jar))
+				{
+					continue;
+				}
+
+				// A jar that is still open is locked on Windows, it is tried again on the next start
+				try
+				{
+					Files.deleteIfExists(jar);
+				}
+				catch (IOException e)
+				{
+					log.debug("Unable to delete old plugin jar " + jar + ".", e);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to list the old plugin jars.", e);
+		}
+	}
+
+	private static void writeAtomically(Path file, byte[] content) throws IOException
+	{
+		Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try
+		{
+			Files.write(temp, content);
+			moveIntoPlace(temp, file);
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/*
+		Moves a finished temporary file over its target, atomically where the file system supports it.
+		The temporary file is left in place if the move fails, so the caller can clean it up.
+	 */
+	private static void moveIntoPlace(Path temp, Path target) throws IOException
+	{
+		try
+		{
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e)
+		{
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.theplug.kotori.kotoriutils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+	Every game hook ReflectionLibrary knows how to use, named after its entry in hooks.json.
+	The ordinal is used as the slot index inside HookRegistry, so lookups on the hot path are a plain array read.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Hook
+{
+	INVOKE_MENU_ACTION("invokeMenuAction"),
+	SCENE_SELECTED_X("setSelectedSceneTileX"),
+	SCENE_SELECTED_Y("setSelectedSceneTileY"),
+	CHECK_CLICK("setCheckClick"),
+	VIEWPORT_WALKING("setViewportWalking"),
+	SELECTED_SPELL_WIDGET("setSelectedSpellWidget"),
+	SELECTED_SPELL_CHILD_INDEX("setSelectedSpellChildIndex"),
+	SELECTED_SPELL_ITEM_ID("setSelectedSpellItemId"),
+	ACTOR_ANIMATION_ID("getActorAnimationId"),
+	ACTOR_PATH_LENGTH("isMoving"),
+	NPC_OVERHEAD_ICON("getNpcOverheadIcon"),
+	NPC_OVERHEAD_METHOD("getNpcOverheadMethod"),
+	MENU_OPTIONS_COUNT("menuOptionsCount"),
+	MENU_IDENTIFIERS("menuIdentifiersArray"),
+	MENU_ITEM_IDS("menuItemIdsArray"),
+	MENU_OPTIONS("menuOptionsArray"),
+	MENU_PARAM0("menuParam0Array"),
+	MENU_PARAM1("menuParam1Array"),
+	MENU_TARGETS("menuTargetsArray"),
+	MENU_TYPES("menuTypesArray");
+
+	private final String jsonName;
+}
@@ -0,0 +1,192 @@
+package com.theplug.kotori.kotoriutils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/*
+	Holds the game hooks after they have been resolved against the client's class loader.
+	Class loading, member lookup and access checks all happen once in the resolve methods, so the
+	ReflectionLibrary getters and setters only read a slot and invoke the cached handle.
+ */
+@Slf4j
+class HookRegistry
+{
+	static final HookRegistry EMPTY = new HookRegistry(null);
+
+	private final ClassLoader classLoader;
+	private final FieldHandle[] fields = new FieldHandle[Hook.values().length];
+	private final MethodHandle[] methods = new MethodHandle[Hook.values().length];
+	private final Set<Hook> unresolvedHooks = EnumSet.noneOf(Hook.class);
+
+	HookRegistry(ClassLoader classLoader)
+	{
+		this.classLoader = classLoader;
+	}
+
+	FieldHandle getField(Hook hook)
+	{
+		return fields[hook.ordinal()];
+	}
+
+	MethodHandle getMethod(Hook hook)
+	{
+		return methods[hook.ordinal()];
+	}
+
+	Set<Hook> getUnresolvedHooks()
+	{
+		return Collections.unmodifiableSet(unresolvedHooks);
+	}
+
+	void resolveField(Hook hook, String className, String fieldName)
+	{
+		if (className == null || fieldName == null)
+		{
+			unresolvedHooks.add(hook);
+			log.debug("Kotori Plugin Utils - Hook \"{}\" is missing from hooks.json.", hook.getJsonName());
+			return;
+		}
+
+		try
+		{
+			Class<?> clazz = classLoader.loadClass(className);
+			Field field = clazz.getDeclaredField(fieldName);
+			VarHandle handle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).unreflectVarHandle(field);
+			fields[hook.ordinal()] = new FieldHandle(handle, Modifier.isStatic(field.getModifiers()));
+		}
+		catch (Exception e)
+		{
+			unresolvedHooks.add(hook);
+			log.debug("Kotori Plugin Utils - Unable to resolve hook \"" + hook.getJsonName() + "\" to field " + className + "." + fieldName + ".", e);
+		}
+	}
+
+	/*
+		Resolves an obfuscated method whose last parameter is a junk value. The junk value is bound into the handle here,
+		so callers invoke it with only the real arguments and never need to know if the junk parameter is a byte, short or int.
+	 */
+	void resolveMethod(Hook hook, String className, String methodName, int junkValue, Class<?>... parameterTypes)
+	{
+		if (className == null || methodName == null)
+		{
+			unresolvedHooks.add(hook);
+			log.debug("Kotori Plugin Utils - Hook \"{}\" is missing from hooks.json.", hook.getJsonName());
+			return;
+		}
+
+		Class<?> junkType;
+		Object junkArgument;
+		if (junkValue < 128 && junkValue >= -128)
+		{
+			junkType = byte.class;
+			junkArgument = (byte) junkValue;
+		}
+		else if (junkValue < 32767 && junkValue >= -32767)
+		{
+			junkType = short.class;
+			junkArgument = (short) junkValue;
+		}
+		else
+		{
+			junkType = int.class;
+			junkArgument = junkValue;
+		}
+
+		Class<?>[] signature = new Class<?>[parameterTypes.length + 1];
+		System.arraycopy(parameterTypes, 0, signature, 0, parameterTypes.length);
+		signature[parameterTypes.length] = junkType;
+
+		try
+		{
+			Class<?> clazz = classLoader.loadClass(className);
+			Method method = clazz.getDeclaredMethod(methodName, signature);
+			MethodHandle handle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).unreflect(method);
+			int junkPosition = handle.type().parameterCount() - 1;
+			methods[hook.ordinal()] = MethodHandles.insertArguments(handle, junkPosition, junkArgument);
+		}
+		catch (Exception e)
+		{
+			unresolvedHooks.add(hook);
+			log.debug("Kotori Plugin Utils - Unable to resolve hook \"" + hook.getJsonName() + "\" to method " + className + "." + methodName + ".", e);
+		}
+	}
+
+	void reportUnresolvedHooks()
+	{
+		if (unresolvedHooks.isEmpty())
+		{
+			log.info("Kotori Plugin Utils - All {} game hooks resolved.", Hook.values().length);
+			return;
+		}
+
+		StringBuilder names = new StringBuilder();
+		for (Hook hook : unresolvedHooks)
+		{
+			if (names.length() > 0)
+			{
+				names.append(", ");
+			}
+			names.append(hook.getJsonName());
+		}
+		log.warn("Kotori Plugin Utils - Unable to resolve {} game hook(s): {}. Check if the obfuscated names in hooks.json are correct.",
+				unresolvedHooks.size(), names);
+	}
+
+	/*
+		A resolved field hook. Static fields ignore the target object, which matches how Field.get and Field.set behaved.
+	 */
+	static final class FieldHandle
+	{
+		private final VarHandle handle;
+		private final boolean isStatic;
+
+		private FieldHandle(VarHandle handle, boolean isStatic)
+		{
+			this.handle = handle;
+			this.isStatic = isStatic;
+		}
+
+		int getInt(Object target)
+		{
+			return isStatic ? (int) handle.get() : (int) handle.get(target);
+		}
+
+		Object get(Object target)
+		{
+			return isStatic ? handle.get() : handle.get(target);
+		}
+
+		void setInt(Object target, int value)
+		{
+			if (isStatic)
+			{
+				handle.set(value);
+			}
+			else
+			{
+				handle.set(target, value);
+			}
+		}
+
+		void setBoolean(Object target, boolean value)
+		{
+			if (isStatic)
+			{
+				handle.set(value);
+			}
+			else
+			{
+				handle.set(target, value);
+			}
+		}
+	}
+}
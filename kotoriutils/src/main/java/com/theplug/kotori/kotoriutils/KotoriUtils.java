@@ -2,18 +2,38 @@ package com.theplug.kotori.kotoriutils;
 
 import com.google.gson.*;
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.chat.ChatDispatcher;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
 import com.theplug.kotori.kotoriutils.gson.HookInfo;
 import com.theplug.kotori.kotoriutils.gson.Hooks;
+import com.theplug.kotori.kotoriutils.methods.ActorSnapshot;
 import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
 import com.theplug.kotori.kotoriutils.methods.PrayerInteractions;
+import com.theplug.kotori.kotoriutils.methods.SceneObjectIndex;
 import com.theplug.kotori.kotoriutils.rlapi.PrayerExtended;
 import com.theplug.kotori.kotoriutils.rlapi.WidgetInfoPlus;
+import com.theplug.kotori.kotoriutils.timers.TickClock;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GraphicsObjectCreated;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.ProjectileMoved;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -25,8 +45,17 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.*;
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Singleton
@@ -39,6 +68,8 @@ import java.net.URL;
 public class KotoriUtils extends Plugin {
 
     private final String hooksFileURL = "https://raw.githubusercontent.com/OreoCupcakes/kotori-plugins-releases/master/hooks.json";
+    private static final int HOOKS_DOWNLOAD_ATTEMPTS = 3;
+    private static final int HOOKS_TIMEOUT_MILLIS = 10000;
     @Inject
     private Client client;
     @Inject
@@ -49,8 +80,13 @@ public class KotoriUtils extends Plugin {
     private ClientThread clientThread;
 
     private Gson gson;
-    private Hooks rsHooks;
-    private boolean hooksLoaded;
+    // Published by applyHooks, which runs under this plugin's monitor. Readers don't lock, so startUp never waits on a download
+    private volatile Hooks rsHooks;
+    // The hooks.json text rsHooks was parsed from, compared against each download so unchanged hooks aren't resolved again
+    private volatile String rsHooksJson;
+    // Only serializes the downloads, a slow one never holds up loading the cached hooks
+    private final Object refreshLock = new Object();
+    private Path hooksCacheDir;
 
     @Provides
     KotoriUtilsConfig provideConfig(ConfigManager configManager)
@@ -61,12 +97,12 @@ public class KotoriUtils extends Plugin {
     @Override
     protected void startUp()
     {
+        SceneObjectIndex.reset();
         gson = new Gson();
-        new Thread(() ->
-        {
-            getHooksJson();
-            parseHooksJson();
-        }).start();
+        hooksCacheDir = new File(RuneLite.RUNELITE_DIR, "kotori").toPath().resolve("hooks");
+        loadCachedHooks();
+        new Thread(this::refreshHooks).start();
+        clientThread.invoke(this::updateRouterRegion);
     }
 
     @Override
@@ -74,7 +110,7 @@ public class KotoriUtils extends Plugin {
     {
         gson = null;
         rsHooks = null;
-        hooksLoaded = false;
+        rsHooksJson = null;
     }
     
     @Subscribe
@@ -82,11 +118,7 @@ public class KotoriUtils extends Plugin {
     {
         if (event.getKey().equals("clickToLoadHooks"))
         {
-            new Thread(() ->
-            {
-                getHooksJson();
-                parseHooksJson();
-            }).start();
+            new Thread(this::refreshHooks).start();
         }
         
         if (event.getKey().equals("walkUtilTest"))
@@ -98,6 +130,16 @@ public class KotoriUtils extends Plugin {
         }
     }
     
+    /*
+        Runs ahead of the plugins' own GameTick handlers so they all read this tick's estimate and region.
+     */
+    @Subscribe(priority = 100)
+    private void onGameTickClock(GameTick event)
+    {
+        TickClock.onGameTick(System.currentTimeMillis());
+        updateRouterRegion();
+    }
+    
     @Subscribe
     private void onGameTick(GameTick event)
     {
@@ -122,6 +164,116 @@ public class KotoriUtils extends Plugin {
         }
     }
     
+    @Subscribe
+    private void onChatMessage(ChatMessage event)
+    {
+        ChatDispatcher.dispatch(event);
+    }
+    
+    /*
+        Any change to the actor lists drops the shared snapshot so the next reader rebuilds it.
+     */
+    @Subscribe
+    private void onNpcSpawned(NpcSpawned event)
+    {
+        ActorSnapshot.invalidate();
+    }
+    
+    @Subscribe
+    private void onNpcDespawned(NpcDespawned event)
+    {
+        ActorSnapshot.invalidate();
+    }
+    
+    @Subscribe
+    private void onNpcChanged(NpcChanged event)
+    {
+        ActorSnapshot.invalidate();
+    }
+    
+    @Subscribe
+    private void onPlayerSpawned(PlayerSpawned event)
+    {
+        ActorSnapshot.invalidate();
+    }
+    
+    @Subscribe
+    private void onPlayerDespawned(PlayerDespawned event)
+    {
+        ActorSnapshot.invalidate();
+    }
+    
+    /*
+        Runs ahead of the plugins' own handlers so a plugin checking its region on login already sees the new one.
+     */
+    @Subscribe(priority = 100)
+    private void onGameStateChanged(GameStateChanged event)
+    {
+        ActorSnapshot.invalidate();
+        updateRouterRegion();
+        if (event.getGameState() != GameState.LOGGED_IN)
+        {
+            SceneObjectIndex.clear();
+        }
+    }
+    
+    /*
+        Runs ahead of the plugins' own handlers so a plugin reacting to a spawn already finds the object in the index.
+        The routed listeners run right after, at the same priority as the other routed events.
+     */
+    @Subscribe(priority = Float.MAX_VALUE)
+    private void onGameObjectSpawned(GameObjectSpawned event)
+    {
+        SceneObjectIndex.onGameObjectSpawned(event.getGameObject());
+        RegionEventRouter.dispatch(event);
+    }
+    
+    @Subscribe(priority = 100)
+    private void onGameObjectDespawned(GameObjectDespawned event)
+    {
+        SceneObjectIndex.onGameObjectDespawned(event.getGameObject());
+    }
+    
+    @Subscribe(priority = 100)
+    private void onGroundObjectSpawned(GroundObjectSpawned event)
+    {
+        SceneObjectIndex.onGroundObjectSpawned(event.getGroundObject());
+    }
+    
+    @Subscribe(priority = 100)
+    private void onGroundObjectDespawned(GroundObjectDespawned event)
+    {
+        SceneObjectIndex.onGroundObjectDespawned(event.getGroundObject());
+    }
+    
+    /*
+        The routed events are forwarded ahead of every @Subscribe handler, where the plugins that now listen through the router
+        used to run their own handlers.
+     */
+    @Subscribe(priority = Float.MAX_VALUE)
+    private void onProjectileMoved(ProjectileMoved event)
+    {
+        RegionEventRouter.dispatch(event);
+    }
+    
+    @Subscribe(priority = Float.MAX_VALUE)
+    private void onAnimationChanged(AnimationChanged event)
+    {
+        RegionEventRouter.dispatch(event);
+    }
+    
+    @Subscribe(priority = Float.MAX_VALUE)
+    private void onGraphicsObjectCreated(GraphicsObjectCreated event)
+    {
+        RegionEventRouter.dispatch(event);
+    }
+    
+    @Subscribe(priority = Float.MAX_VALUE)
+    private void onClientTickRegion(ClientTick event)
+    {
+        RegionEventRouter.dispatch(event);
+    }
+    
     @Subscribe
     private void onClientTick(ClientTick event)
     {
@@ -149,62 +301,191 @@ public class KotoriUtils extends Plugin {
         }
     }
 
-    private void getHooksJson()
+    /*
+        The region is kept while a scene loads, so objects spawned during the load still reach the plugins of the area.
+     */
+    private void updateRouterRegion()
     {
-        if (rsHooks != null)
+        GameState gameState = client.getGameState();
+        if (gameState == GameState.LOADING || gameState == GameState.CONNECTION_LOST)
         {
             return;
         }
-    
-        BufferedReader reader = null;
-        for (int i = 1; i <= 15; i++)
+
+        Player player = client.getLocalPlayer();
+        if (gameState != GameState.LOGGED_IN || player == null)
         {
-            try
+            RegionEventRouter.setCurrentRegion(RegionEventRouter.NO_REGION);
+            return;
+        }
+        RegionEventRouter.setCurrentRegion(WorldPoint.fromLocalInstance(client, player.getLocalLocation()).getRegionID());
+    }
+
+    /*
+        Hooks are cached per game revision, so after the first download the plugins get them straight from disk on startup
+        and the download in refreshHooks only replaces them if hooks.json changed.
+     */
+    private Path getHooksCacheFile()
+    {
+        return hooksCacheDir.resolve("hooks-" + client.getRevision() + ".json");
+    }
+
+    private void loadCachedHooks()
+    {
+        Path cacheFile = getHooksCacheFile();
+        if (!Files.isRegularFile(cacheFile))
+        {
+            return;
+        }
+
+        try
+        {
+            String json = Files.readString(cacheFile);
+            Hooks cachedHooks = gson.fromJson(json, Hooks.class);
+            if (cachedHooks == null || cachedHooks.getH() == null)
             {
-                URL url = new URL(hooksFileURL);
-                reader = new BufferedReader(new InputStreamReader(url.openStream()));
-                break;
+                return;
             }
-            catch (Exception e1)
+            synchronized (this)
             {
-                log.error("Attempt #" + i + ". Unable to establish a connection and download the hooks from the URL.", e1);
+                // A refresh that got in first already applied hooks at least as new as the cached ones
+                if (rsHooks != null)
+                {
+                    return;
+                }
+                applyHooks(cachedHooks, json);
             }
+            log.info("Kotori Plugin Utils - Loaded cached hooks for game revision {}.", client.getRevision());
         }
-        
-        if (reader == null)
+        catch (Exception e)
+        {
+            log.error("Kotori Plugin Utils - Unable to load the cached hooks, they will be downloaded again.", e);
+        }
+    }
+
+    private void refreshHooks()
+    {
+        synchronized (refreshLock)
+        {
+            downloadHooks();
+        }
+    }
+
+    private void downloadHooks()
+    {
+        Gson hooksGson = gson;
+        if (hooksGson == null)
         {
-            SwingUtilities.invokeLater(() ->
-                JOptionPane.showMessageDialog(client.getCanvas(),
-                        "<html>Connection error. Unable to download necessary game hooks information from the Internet." +
-                                "<br>Make sure you are connected to the Internet and your proxy or VPN isn't being flagged as suspicious." +
-                                "<br>You can re-establish a connection by clicking the \"Click to Load Hooks\" button within Kotori Plugin Utils." +
-                                "<br><div style='color:yellow'><b><u>If you are unable load the hooks, the client will crash when using plugins dependent on Kotori Plugin Utils!</u></b></div></html>"
-                        , "Kotori Plugin Utils",JOptionPane.WARNING_MESSAGE));
             return;
         }
-            
+
+        String json = getHooksJson();
+        if (json == null)
+        {
+            if (rsHooks == null)
+            {
+                SwingUtilities.invokeLater(() ->
+                    JOptionPane.showMessageDialog(client.getCanvas(),
+                            "<html>Connection error. Unable to download necessary game hooks information from the Internet." +
+                                    "<br>Make sure you are connected to the Internet and your proxy or VPN isn't being flagged as suspicious." +
+                                    "<br>You can re-establish a connection by clicking the \"Click to Load Hooks\" button within Kotori Plugin Utils." +
+                                    "<br><div style='color:yellow'><b><u>If you are unable load the hooks, the client will crash when using plugins dependent on Kotori Plugin Utils!</u></b></div></html>"
+                            , "Kotori Plugin Utils",JOptionPane.WARNING_MESSAGE));
+            }
+            return;
+        }
+
+        if (json.equals(rsHooksJson))
+        {
+            return;
+        }
+
+        Hooks downloadedHooks = null;
         try
         {
-            rsHooks = gson.fromJson(reader, Hooks.class);
-            reader.close();
+            downloadedHooks = hooksGson.fromJson(json, Hooks.class);
         }
         catch (Exception e)
         {
             log.error("Unable to parse Hooks.json into a Hooks object.", e);
+        }
+
+        if (downloadedHooks == null || downloadedHooks.getH() == null)
+        {
             SwingUtilities.invokeLater(() ->
                     JOptionPane.showMessageDialog(client.getCanvas(),
                             "Error in parsing Hooks.json. Yell at Kotori for forgetting a comma.","Kotori Plugin Utils", JOptionPane.WARNING_MESSAGE));
+            return;
         }
+
+        applyHooks(downloadedHooks, json);
+        saveHooksCache(json);
     }
 
-    private void parseHooksJson()
+    private String getHooksJson()
     {
-        if (rsHooks == null || hooksLoaded)
+        for (int i = 1; i <= HOOKS_DOWNLOAD_ATTEMPTS; i++)
         {
+            try
+            {
+                URLConnection connection = new URL(hooksFileURL).openConnection();
+                connection.setConnectTimeout(HOOKS_TIMEOUT_MILLIS);
+                connection.setReadTimeout(HOOKS_TIMEOUT_MILLIS);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)))
+                {
+                    return reader.lines().collect(Collectors.joining("\n"));
+                }
+            }
+            catch (Exception e1)
+            {
+                log.error("Attempt #" + i + ". Unable to establish a connection and download the hooks from the URL.", e1);
+            }
+        }
+        return null;
+    }
+
+    private void saveHooksCache(String json)
+    {
+        Path cacheFile = getHooksCacheFile();
+        try
+        {
+            Files.createDirectories(hooksCacheDir);
+            Path temp = Files.createTempFile(hooksCacheDir, "hooks", ".tmp");
+            Files.writeString(temp, json);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            log.error("Kotori Plugin Utils - Unable to cache the hooks.", e);
             return;
         }
+
+        // Hooks of older game revisions can never be used again
+        try (DirectoryStream<Path> cachedHooks = Files.newDirectoryStream(hooksCacheDir, "hooks-*.json"))
+        {
+            for (Path cachedHook : cachedHooks)
+            {
+                if (!cachedHook.equals(cacheFile))
+                {
+                    Files.deleteIfExists(cachedHook);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            log.debug("Kotori Plugin Utils - Unable to delete old cached hooks.", e);
+        }
+    }
+
+    /*
+        Sets the hook names and resolves them into a new registry, which ReflectionLibrary swaps in with a single write.
+     */
+    private synchronized void applyHooks(Hooks hooksToApply, String json)
+    {
+        boolean firstLoad = rsHooks == null;
+
         //Set the game hooks
-        for (HookInfo hookInfo : rsHooks.getH())
+        for (HookInfo hookInfo : hooksToApply.getH())
         {
             String hookName = hookInfo.getN();
             
@@ -301,9 +582,11 @@ public class KotoriUtils extends Plugin {
             }
         }
 
-        hooksLoaded = true;
+        ReflectionLibrary.resolveHooks();
+        rsHooks = hooksToApply;
+        rsHooksJson = json;
         
-        if (!config.disableHooksLoadedPopup())
+        if (firstLoad && !config.disableHooksLoadedPopup())
         {
             SwingUtilities.invokeLater(() ->
                     JOptionPane.showMessageDialog(client.getCanvas(),
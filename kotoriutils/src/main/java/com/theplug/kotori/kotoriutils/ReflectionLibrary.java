@@ -8,16 +8,18 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Slf4j
 public class ReflectionLibrary
 {
 	private final static Client client = RuneLite.getInjector().getInstance(Client.class);
 	private final static ClientThread clientThread = RuneLite.getInjector().getInstance(ClientThread.class);
+	private final static HeadIcon[] HEAD_ICONS = HeadIcon.values();
 	
 	// Invoking Hooks
 	@Setter
@@ -140,54 +142,56 @@ public class ReflectionLibrary
 	@Setter
 	private static String menuTypesFieldName;
 	
-	//Reflection methods
-	private static Class<?> getClass(String className)
+	private static volatile HookRegistry hooks = HookRegistry.EMPTY;
+
+	/*
+		Resolves every hook name set from hooks.json into cached field and method handles.
+		The new registry is published in one write, so readers see either the old hooks or the new ones, never a mix.
+	 */
+	public static void resolveHooks()
 	{
-		Class<?> clazz;
-		
-		try
-		{
-			clazz = client.getClass().getClassLoader().loadClass(className);
-		}
-		catch (Exception e)
-		{
-			log.error("Kotori Plugin Utils - Unable to load class \"" + className + "\". Check if obfuscated class name is correct.", e);
-			return null;
-		}
-		
-		return clazz;
+		HookRegistry registry = new HookRegistry(client.getClass().getClassLoader());
+
+		registry.resolveMethod(Hook.INVOKE_MENU_ACTION, invokeMenuActionClassName, invokeMenuActionMethodName, invokeMenuActionJunkValue,
+				int.class, int.class, int.class, int.class, int.class, int.class, String.class, String.class, int.class, int.class);
+		registry.resolveField(Hook.SCENE_SELECTED_X, sceneSelectedXClassName, sceneSelectedXFieldName);
+		registry.resolveField(Hook.SCENE_SELECTED_Y, sceneSelectedYClassName, sceneSelectedYFieldName);
+		registry.resolveField(Hook.CHECK_CLICK, checkClickClassName, checkClickFieldName);
+		registry.resolveField(Hook.VIEWPORT_WALKING, viewportWalkingClassName, viewportWalkingFieldName);
+		registry.resolveField(Hook.SELECTED_SPELL_WIDGET, selectedSpellWidgetClassName, selectedSpellWidgetFieldName);
+		registry.resolveField(Hook.SELECTED_SPELL_CHILD_INDEX, selectedSpellChildIndexClassName, selectedSpellChildIndexFieldName);
+		registry.resolveField(Hook.SELECTED_SPELL_ITEM_ID, selectedSpellItemIDClassName, selectedSpellItemIDFieldName);
+		registry.resolveField(Hook.ACTOR_ANIMATION_ID, actorAnimationIdClassName, actorAnimationIdFieldName);
+		registry.resolveField(Hook.ACTOR_PATH_LENGTH, actorPathLengthClassName, actorPathLengthFieldName);
+		registry.resolveField(Hook.NPC_OVERHEAD_ICON, npcOverheadIconClassName, npcOverheadIconFieldName);
+		registry.resolveMethod(Hook.NPC_OVERHEAD_METHOD, npcOverheadMethodClassName, npcOverheadMethodName, npcOverheadMethodJunkValue);
+		registry.resolveField(Hook.MENU_OPTIONS_COUNT, menuOptionsCountClassName, menuOptionsCountFieldName);
+		registry.resolveField(Hook.MENU_IDENTIFIERS, menuIdentifiersClassName, menuIdentifiersFieldName);
+		registry.resolveField(Hook.MENU_ITEM_IDS, menuItemIdsClassName, menuItemIdsFieldName);
+		registry.resolveField(Hook.MENU_OPTIONS, menuOptionsClassName, menuOptionsFieldName);
+		registry.resolveField(Hook.MENU_PARAM0, menuParam0ClassName, menuParam0FieldName);
+		registry.resolveField(Hook.MENU_PARAM1, menuParam1ClassName, menuParam1FieldName);
+		registry.resolveField(Hook.MENU_TARGETS, menuTargetsClassName, menuTargetsFieldName);
+		registry.resolveField(Hook.MENU_TYPES, menuTypesClassName, menuTypesFieldName);
+
+		registry.reportUnresolvedHooks();
+		hooks = registry;
 	}
-	
-	private static Field getField(Class<?> clazz, String fieldName)
+
+	public static Set<String> getUnresolvedHooks()
 	{
-		Field field;
-		
-		if (clazz == null)
+		Set<String> names = new LinkedHashSet<>();
+		for (Hook hook : hooks.getUnresolvedHooks())
 		{
-			return null;
+			names.add(hook.getJsonName());
 		}
-		
-		try
-		{
-			field = clazz.getDeclaredField(fieldName);
-		}
-		catch (Exception e)
-		{
-			log.error("Kotori Plugin Utils - Unable to get declared field \"" + fieldName + "\". Check if obfuscated field name is correct.", e);
-			return null;
-		}
-		
-		return field;
-	}
-	
-	private static Field getField(String className, String fieldName)
-	{
-		Class<?> clazz = getClass(className);
-		return getField(clazz, fieldName);
+		return names;
 	}
-	
-	private static int getFieldIntValue(Field field, Object objectWithField, int multiplier, String errorMsg)
+
+	//Reflection methods
+	private static int getFieldIntValue(Hook hook, Object objectWithField, int multiplier, String errorMsg)
 	{
+		HookRegistry.FieldHandle field = hooks.getField(hook);
 		if (field == null || objectWithField == null)
 		{
 			return -1;
@@ -195,10 +199,7 @@ public class ReflectionLibrary
 		
 		try
 		{
-			field.setAccessible(true);
-			int value = field.getInt(objectWithField) * multiplier;
-			field.setAccessible(false);
-			return value;
+			return field.getInt(objectWithField) * multiplier;
 		}
 		catch (Exception e)
 		{
@@ -207,18 +208,17 @@ public class ReflectionLibrary
 		}
 	}
 	
-	private static void setFieldIntValue(Field field, Object objectWithField, int valueToSet, String errorMsg)
+	private static void setFieldIntValue(Hook hook, Object objectWithField, int valueToSet, String errorMsg)
 	{
-		if (field == null || objectWithField == null)
+		HookRegistry.FieldHandle field = hooks.getField(hook);
+		if (field == null)
 		{
 			return;
 		}
 		
 		try
 		{
-			field.setAccessible(true);
 			field.setInt(objectWithField, valueToSet);
-			field.setAccessible(false);
 		}
 		catch (Exception e)
 		{
@@ -226,8 +226,9 @@ public class ReflectionLibrary
 		}
 	}
 	
-	private static void setFieldBooleanValue(Field field, Object objectWithField, boolean valueToSet, String errorMsg)
+	private static void setFieldBooleanValue(Hook hook, Object objectWithField, boolean valueToSet, String errorMsg)
 	{
+		HookRegistry.FieldHandle field = hooks.getField(hook);
 		if (field == null)
 		{
 			return;
@@ -235,9 +236,7 @@ public class ReflectionLibrary
 		
 		try
 		{
-			field.setAccessible(true);
 			field.setBoolean(objectWithField, valueToSet);
-			field.setAccessible(false);
 		}
 		catch (Exception e)
 		{
@@ -245,8 +244,9 @@ public class ReflectionLibrary
 		}
 	}
 	
-	private static void setFieldIntArrayValue(Field field, Object objectWithField, int index, int valueToSet, String errorMsg)
+	private static void setFieldIntArrayValue(Hook hook, Object objectWithField, int index, int valueToSet, String errorMsg)
 	{
+		HookRegistry.FieldHandle field = hooks.getField(hook);
 		if (field == null)
 		{
 			return;
@@ -254,11 +254,7 @@ public class ReflectionLibrary
 		
 		try
 		{
-			field.setAccessible(true);
-			Object fieldArray = field.get(objectWithField);
-			Array.setInt(fieldArray, index, valueToSet);
-			field.set(objectWithField, fieldArray);
-			field.setAccessible(false);
+			Array.setInt(field.get(objectWithField), index, valueToSet);
 		}
 		catch (Exception e)
 		{
@@ -266,8 +262,9 @@ public class ReflectionLibrary
 		}
 	}
 	
-	private static void setFieldObjectArrayValue(Field field, Object objectWithField, int index, Object valueToSet, String errorMsg)
+	private static void setFieldObjectArrayValue(Hook hook, Object objectWithField, int index, Object valueToSet, String errorMsg)
 	{
+		HookRegistry.FieldHandle field = hooks.getField(hook);
 		if (field == null)
 		{
 			return;
@@ -275,11 +272,7 @@ public class ReflectionLibrary
 		
 		try
 		{
-			field.setAccessible(true);
-			Object optionsArray = field.get(objectWithField);
-			Array.set(optionsArray, index, valueToSet);
-			field.set(objectWithField, optionsArray);
-			field.setAccessible(false);
+			Array.set(field.get(objectWithField), index, valueToSet);
 		}
 		catch (Exception e)
 		{
@@ -290,63 +283,18 @@ public class ReflectionLibrary
 	//Invoke Menu Action Method
 	public static void invokeMenuAction(int param0, int param1, int opcode, int identifier, int itemId, int worldViewId, String option, String target, int x, int y)
 	{
-		Class<?> clazz = getClass(invokeMenuActionClassName);
-		Method method;
-		boolean isJunkValueAByte = invokeMenuActionJunkValue < 128 && invokeMenuActionJunkValue >= -128;
-		boolean isJunkValueShort = invokeMenuActionJunkValue < 32767 && invokeMenuActionJunkValue >= -32767;
-		
-		if (clazz == null)
-		{
-			return;
-		}
-		
-		try
+		MethodHandle method = hooks.getMethod(Hook.INVOKE_MENU_ACTION);
+		if (method == null)
 		{
-			if (isJunkValueAByte)
-			{
-				method = clazz.getDeclaredMethod(invokeMenuActionMethodName, int.class, int.class, int.class, int.class, int.class, int.class, String.class, String.class,
-						int.class, int.class, byte.class);
-			}
-			else if (isJunkValueShort)
-			{
-				method = clazz.getDeclaredMethod(invokeMenuActionMethodName, int.class, int.class, int.class, int.class, int.class, int.class, String.class, String.class,
-						int.class, int.class, short.class);
-			}
-			else
-			{
-				method = clazz.getDeclaredMethod(invokeMenuActionMethodName, int.class, int.class, int.class, int.class, int.class, int.class, String.class, String.class,
-						int.class, int.class, int.class);
-			}
-		}
-		catch (Exception e)
-		{
-			log.error("Kotori Plugin Utils - Unable to find invokeMenuAction method \"" + invokeMenuActionMethodName +
-					"\". Check if obfuscated method name is correct.", e);
 			return;
 		}
 
 		clientThread.invoke(() -> {
 			try
 			{
-				method.setAccessible(true);
-				if (isJunkValueAByte)
-				{
-					//-1 is the id for the WorldView.
-					method.invoke(null, param0, param1, opcode, identifier, itemId, worldViewId, option, target, x, y, (byte) invokeMenuActionJunkValue);
-				}
-				else if (isJunkValueShort)
-				{
-					//-1 is the id for the WorldView.
-					method.invoke(null, param0, param1, opcode, identifier, itemId, worldViewId, option, target, x, y, (short) invokeMenuActionJunkValue);
-				}
-				else
-				{
-					//-1 is the id for the WorldView.
-					method.invoke(null, param0, param1, opcode, identifier, itemId, worldViewId, option, target, x, y, invokeMenuActionJunkValue);
-				}
-				method.setAccessible(false);
+				method.invoke(param0, param1, opcode, identifier, itemId, worldViewId, option, target, x, y);
 			}
-			catch (Exception e)
+			catch (Throwable e)
 			{
 				log.error("Kotori Plugin Utils - Unable to invoke the method invokeMenuAction.", e);
 			}
@@ -366,30 +314,26 @@ public class ReflectionLibrary
 	//Walking Methods
 	private static void setXCoordinate(int x)
 	{
-		Field xField = getField(sceneSelectedXClassName, sceneSelectedXFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set scene selected X coordinate.";
-		setFieldIntValue(xField, client.getTopLevelWorldView().getScene(), x, errorMsg);
+		setFieldIntValue(Hook.SCENE_SELECTED_X, client.getTopLevelWorldView().getScene(), x, errorMsg);
 	}
 	
 	private static void setYCoordinate(int y)
 	{
-		Field yField = getField(sceneSelectedYClassName, sceneSelectedYFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set scene selected Y coordinate.";
-		setFieldIntValue(yField, client.getTopLevelWorldView().getScene(), y, errorMsg);
+		setFieldIntValue(Hook.SCENE_SELECTED_Y, client.getTopLevelWorldView().getScene(), y, errorMsg);
 	}
 
 	private static void setCheckClick()
 	{
-		Field checkClick = getField(checkClickClassName, checkClickFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set check click walking boolean.";
-		setFieldBooleanValue(checkClick, client.getTopLevelWorldView().getScene(), true, errorMsg);
+		setFieldBooleanValue(Hook.CHECK_CLICK, client.getTopLevelWorldView().getScene(), true, errorMsg);
 	}
 	
 	private static void setViewportWalking()
 	{
-		Field viewport = getField(viewportWalkingClassName, viewportWalkingFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set scene viewport walking boolean.";
-		setFieldBooleanValue(viewport, client.getTopLevelWorldView().getScene(), true, errorMsg);
+		setFieldBooleanValue(Hook.VIEWPORT_WALKING, client.getTopLevelWorldView().getScene(), true, errorMsg);
 	}
 	
 	public static void sceneWalk(WorldPoint worldPoint, boolean convertForInstance)
@@ -456,11 +400,9 @@ public class ReflectionLibrary
 	 */
 	private static void setSelectedSpellWidget(int widgetPackedId)
 	{
-		Class<?> clazz = getClass(selectedSpellWidgetClassName);
-		Field spellWidget = getField(clazz, selectedSpellWidgetFieldName);
 		String errorMsg = "Kotori Plugin Utils - Unable to set selected spell widget.";
 		int value = widgetPackedId * selectedSpellWidgetMultiplier;
-		setFieldIntValue(spellWidget, clazz, value, errorMsg);
+		setFieldIntValue(Hook.SELECTED_SPELL_WIDGET, null, value, errorMsg);
 	}
 
 	/*
@@ -470,10 +412,9 @@ public class ReflectionLibrary
 	 */
 	private static void setSelectedSpellChildIndex(int index)
 	{
-		Field spellChild = getField(selectedSpellChildIndexClassName, selectedSpellChildIndexFieldName);
 		String errorMsg = "Kotori Plugin Utils - Unable to set selected spell child index.";
 		int value = index * selectedSpellChildIndexMultiplier;
-		setFieldIntValue(spellChild, client, value, errorMsg);
+		setFieldIntValue(Hook.SELECTED_SPELL_CHILD_INDEX, client, value, errorMsg);
 	}
 
 	/*
@@ -483,10 +424,9 @@ public class ReflectionLibrary
 	 */
 	private static void setSelectedSpellItemId(int itemId)
 	{
-		Field spellItem = getField(selectedSpellItemIDClassName, selectedSpellItemIDFieldName);
 		String errorMsg = "Kotori Plugin Utils - Unable to set selected spell item id.";
 		int value = itemId * selectedSpellItemIDMultiplier;
-		setFieldIntValue(spellItem, client, value, errorMsg);
+		setFieldIntValue(Hook.SELECTED_SPELL_ITEM_ID, client, value, errorMsg);
 	}
 
 	//As explained above, you need to set spellChildIndex and spellItemId to -1 if you want to cast a spell.
@@ -507,9 +447,8 @@ public class ReflectionLibrary
 	//Actor Hook Methods
 	public static int getNpcAnimationId(Actor npc)
 	{
-		Field animation = getField(actorAnimationIdClassName, actorAnimationIdFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to get NPC animation id.";
-		return getFieldIntValue(animation, npc, actorAnimationIdMultiplier, errorMsg);
+		return getFieldIntValue(Hook.ACTOR_ANIMATION_ID, npc, actorAnimationIdMultiplier, errorMsg);
 	}
 	
 	public static HeadIcon getNpcOverheadIcon(NPC npc)
@@ -521,7 +460,7 @@ public class ReflectionLibrary
 			short[] headIconArray = npc.getOverheadSpriteIds();
 			if (headIconArray != null)
 			{
-				return HeadIcon.values()[headIconArray[0]];
+				return HEAD_ICONS[headIconArray[0]];
 			}
 		}
 		catch (Exception e)
@@ -540,68 +479,23 @@ public class ReflectionLibrary
 
 	private static HeadIcon getNpcOverheadIconNewMethod(NPC npc)
 	{
-		if (npc == null)
+		MethodHandle method = hooks.getMethod(Hook.NPC_OVERHEAD_METHOD);
+		if (npc == null || method == null)
 		{
 			return null;
 		}
 
-		Class<?> npcClazz = getClass(npcOverheadMethodClassName);
-		Method method;
-
-		if (npcClazz == null)
-		{
-			return null;
-		}
-		
-		boolean isJunkValueAByte = npcOverheadMethodJunkValue < 128 && npcOverheadMethodJunkValue >= -128;
-		boolean isJunkValueShort = npcOverheadMethodJunkValue < 32767 && npcOverheadMethodJunkValue >= -32767;
-
 		try
 		{
-			if (isJunkValueAByte)
-			{
-				method = npcClazz.getDeclaredMethod(npcOverheadMethodName, byte.class);
-			}
-			else if (isJunkValueShort)
-			{
-				method = npcClazz.getDeclaredMethod(npcOverheadMethodName, short.class);
-			}
-			else
-			{
-				method = npcClazz.getDeclaredMethod(npcOverheadMethodName, int.class);
-			}
-		}
-		catch (Exception e)
-		{
-			log.error("Kotori Plugin Utils - Unable to find the RuneLite getOverhead method in the NPC class.", e);
-			return null;
-		}
-
-		try
-		{
-			Object headIconShortArray = null;
-			method.setAccessible(true);
-			if (isJunkValueAByte)
-			{
-				headIconShortArray = method.invoke(npc, (byte) npcOverheadMethodJunkValue);
-			}
-			else if (isJunkValueShort)
-			{
-				headIconShortArray = method.invoke(npc, (short) npcOverheadMethodJunkValue);
-			}
-			else
-			{
-				headIconShortArray = method.invoke(npc, npcOverheadMethodJunkValue);
-			}
-			method.setAccessible(false);
+			Object headIconShortArray = method.invoke(npc);
 			if (headIconShortArray == null)
 			{
 				return null;
 			}
 			short overheadIconShortValue = Array.getShort(headIconShortArray, 0);
-			return HeadIcon.values()[overheadIconShortValue];
+			return HEAD_ICONS[overheadIconShortValue];
 		}
-		catch (Exception e)
+		catch (Throwable e)
 		{
 			log.error("Kotori Plugin Utils - Unable to invoke the RuneLite getOverhead method.", e);
 		}
@@ -611,7 +505,8 @@ public class ReflectionLibrary
 
 	private static HeadIcon getNpcOverheadIconOldMethod(NPC npc)
 	{
-		if (npc == null)
+		HookRegistry.FieldHandle overheads = hooks.getField(Hook.NPC_OVERHEAD_ICON);
+		if (npc == null || overheads == null)
 		{
 			return null;
 		}
@@ -622,23 +517,15 @@ public class ReflectionLibrary
 			return null;
 		}
 
-		Field overheads = getField(npcOverheadIconClassName, npcOverheadIconFieldName);
-		if (overheads == null)
-		{
-			return null;
-		}
-
 		try
 		{
-			overheads.setAccessible(true);
 			Object headIconShortArray = overheads.get(npcComposition);
 			if (headIconShortArray == null)
 			{
 				return null;
 			}
 			short overheadIconShortValue = Array.getShort(headIconShortArray, 0);
-			overheads.setAccessible(false);
-			return HeadIcon.values()[overheadIconShortValue];
+			return HEAD_ICONS[overheadIconShortValue];
 		}
 		catch (Exception e)
 		{
@@ -650,9 +537,8 @@ public class ReflectionLibrary
 	
 	public static int getActorPathLength(Actor actor)
 	{
-		Field pathLength = getField(actorPathLengthClassName, actorPathLengthFieldName);
-		String errorMsg = "Kotori Plugin Utils - Failed to get Actor \"" + (actor.getName() != null ? actor.getName() : "null") + "\" path length.";
-		return getFieldIntValue(pathLength, actor, actorPathLengthMultiplier, errorMsg);
+		String errorMsg = "Kotori Plugin Utils - Failed to get Actor path length.";
+		return getFieldIntValue(Hook.ACTOR_PATH_LENGTH, actor, actorPathLengthMultiplier, errorMsg);
 	}
 	
 	public static boolean areYouMoving()
@@ -669,9 +555,8 @@ public class ReflectionLibrary
 	//Menus Hook Methods
 	public static int getMenuOptionsCount()
 	{
-		Field optionsCount = getField(menuOptionsCountClassName, menuOptionsCountFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to get menu options count.";
-		return getFieldIntValue(optionsCount, client.getMenu(), menuOptionsCountMultiplier, errorMsg);
+		return getFieldIntValue(Hook.MENU_OPTIONS_COUNT, client.getMenu(), menuOptionsCountMultiplier, errorMsg);
 	}
 
 	public static int getTopMenuEntryIndex()
@@ -681,51 +566,44 @@ public class ReflectionLibrary
 	
 	private static void setMenuIdentifier(int index, int value)
 	{
-		Field menuIdentifiers = getField(menuIdentifiersClassName, menuIdentifiersFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu identifier \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldIntArrayValue(menuIdentifiers, client.getMenu(), index, value, errorMsg);
+		setFieldIntArrayValue(Hook.MENU_IDENTIFIERS, client.getMenu(), index, value, errorMsg);
 	}
 	
 	public static void setMenuItemId(int index, int value)
 	{
-		Field menuItemIds = getField(menuItemIdsClassName, menuItemIdsFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu item id \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldIntArrayValue(menuItemIds, client.getMenu(), index, value, errorMsg);
+		setFieldIntArrayValue(Hook.MENU_ITEM_IDS, client.getMenu(), index, value, errorMsg);
 	}
 	
 	private static void setMenuOption(int index, String value)
 	{
-		Field menuOptions = getField(menuOptionsClassName, menuOptionsFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu option \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldObjectArrayValue(menuOptions, client.getMenu(), index, value, errorMsg);
+		setFieldObjectArrayValue(Hook.MENU_OPTIONS, client.getMenu(), index, value, errorMsg);
 	}
 	
 	private static void setMenuParam0(int index, int value)
 	{
-		Field menuParam0s = getField(menuParam0ClassName, menuParam0FieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu param0 \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldIntArrayValue(menuParam0s, client.getMenu(), index, value, errorMsg);
+		setFieldIntArrayValue(Hook.MENU_PARAM0, client.getMenu(), index, value, errorMsg);
 	}
 	
 	private static void setMenuParam1(int index, int value)
 	{
-		Field menuParam1s = getField(menuParam1ClassName, menuParam1FieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu param1 \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldIntArrayValue(menuParam1s, client.getMenu(), index, value, errorMsg);
+		setFieldIntArrayValue(Hook.MENU_PARAM1, client.getMenu(), index, value, errorMsg);
 	}
 	
 	private static void setMenuTarget(int index, String value)
 	{
-		Field menuTargets = getField(menuTargetsClassName, menuTargetsFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu target \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldObjectArrayValue(menuTargets, client.getMenu(), index, value, errorMsg);
+		setFieldObjectArrayValue(Hook.MENU_TARGETS, client.getMenu(), index, value, errorMsg);
 	}
 	
 	private static void setMenuOpcode(int index, int value)
 	{
-		Field menuOpcodes = getField(menuTypesClassName, menuTypesFieldName);
 		String errorMsg = "Kotori Plugin Utils - Failed to set menu option \"" + value + "\" in menu index \"" + index + "\".";
-		setFieldIntArrayValue(menuOpcodes, client.getMenu(), index, value, errorMsg);
+		setFieldIntArrayValue(Hook.MENU_TYPES, client.getMenu(), index, value, errorMsg);
 	}
 	
 	public static void insertMenuEntry(int index, String option, String target, int opcode, int id, int param0, int param1, int itemId)
@@ -0,0 +1,331 @@
+package com.theplug.kotori.kotoriutils.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/*
+	Routes chat messages to the plugins that registered a literal trigger for them.
+	KotoriUtils hands every ChatMessage to dispatch(), which strips the tags, lowercases the text once and runs it through an
+	Aho-Corasick automaton built from every registered trigger, so the cost per message is one scan no matter how many plugins
+	are listening. Triggers are normalized the same way as messages, so they match regardless of case and colour tags.
+	Listeners receive the event and the normalized text, and fire at most once per message.
+ */
+@Slf4j
+public final class ChatDispatcher
+{
+	private static final List<Trigger> triggers = new ArrayList<>();
+	private static volatile Automaton automaton = Automaton.EMPTY;
+	private static volatile boolean automatonStale;
+	private static int messageCount;
+
+	private ChatDispatcher()
+	{
+	}
+
+	/*
+		Registers a listener for messages of the given type (null for any type) that contain the text as described by match.
+	 */
+	public static synchronized void register(Object owner, ChatMessageType type, ChatMatch match, String text,
+		BiConsumer<ChatMessage, String> listener)
+	{
+		String pattern = normalize(text);
+		if (pattern.isEmpty())
+		{
+			throw new IllegalArgumentException("Chat trigger \"" + text + "\" is empty once normalized");
+		}
+
+		triggers.add(new Trigger(owner, type, match, pattern, listener));
+		automatonStale = true;
+	}
+
+	/*
+		Removes every trigger the owner registered, plugins call this from shutDown.
+	 */
+	public static synchronized void unregisterAll(Object owner)
+	{
+		if (triggers.removeIf(trigger -> trigger.owner == owner))
+		{
+			automatonStale = true;
+		}
+	}
+
+	/*
+		Called by KotoriUtils for every chat message, on the client thread.
+	 */
+	public static void dispatch(ChatMessage event)
+	{
+		Automaton current = getAutomaton();
+		if (current.patternCount == 0 || event.getMessage() == null)
+		{
+			return;
+		}
+
+		current.search(event, normalize(event.getMessage()), ++messageCount);
+	}
+
+	/*
+		Strips tags, lowercases and trims a message. A tag is anything between '<' and the next '>'.
+	 */
+	public static String normalize(String message)
+	{
+		StringBuilder text = new StringBuilder(message.length());
+		int length = message.length();
+		for (int i = 0; i < length; i++)
+		{
+			char c = message.charAt(i);
+			if (c == '<')
+			{
+				int close = message.indexOf('>', i + 1);
+				if (close > i + 1)
+				{
+					i = close;
+					continue;
+				}
+			}
+			text.append(Character.toLowerCase(c));
+		}
+		return text.toString().strip();
+	}
+
+	private static Automaton getAutomaton()
+	{
+		if (!automatonStale)
+		{
+			return automaton;
+		}
+
+		synchronized (ChatDispatcher.class)
+		{
+			if (automatonStale)
+			{
+				automaton = Automaton.build(triggers);
+				automatonStale = false;
+			}
+			return automaton;
+		}
+	}
+
+	private static final class Trigger
+	{
+		private final Object owner;
+		private final ChatMessageType type;
+		private final ChatMatch match;
+		private final String pattern;
+		private final BiConsumer<ChatMessage, String> listener;
+		// Last message this trigger fired for, so a pattern found twice in one message only fires once
+		private int lastMessage;
+
+		private Trigger(Object owner, ChatMessageType type, ChatMatch match, String pattern, BiConsumer<ChatMessage, String> listener)
+		{
+			this.owner = owner;
+			this.type = type;
+			this.match = match;
+			this.pattern = pattern;
+			this.listener = listener;
+		}
+	}
+
+	/*
+		Immutable automaton over the distinct trigger patterns. Each node keeps its edges as a sorted char array searched with a
+		binary search, its failure link, the pattern that ends on it and a link to the next node on its failure chain that ends a pattern.
+	 */
+	private static final class Automaton
+	{
+		private static final Automaton EMPTY = build(List.of());
+
+		private final char[][] edgeChars;
+		private final int[][] edgeTargets;
+		private final int[] fail;
+		private final int[] output;
+		private final int[] outputLink;
+		private final int[] patternLengths;
+		private final Trigger[][] patternTriggers;
+		private final int patternCount;
+
+		private Automaton(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] output, int[] outputLink,
+			int[] patternLengths, Trigger[][] patternTriggers)
+		{
+			this.edgeChars = edgeChars;
+			this.edgeTargets = edgeTargets;
+			this.fail = fail;
+			this.output = output;
+			this.outputLink = outputLink;
+			this.patternLengths = patternLengths;
+			this.patternTriggers = patternTriggers;
+			this.patternCount = patternLengths.length;
+		}
+
+		private static Automaton build(List<Trigger> triggers)
+		{
+			Map<String, List<Trigger>> byPattern = new LinkedHashMap<>();
+			for (Trigger trigger : triggers)
+			{
+				byPattern.computeIfAbsent(trigger.pattern, k -> new ArrayList<>()).add(trigger);
+			}
+
+			// Trie with ordered edges, node 0 is the root
+			List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+			List<Integer> nodeOutput = new ArrayList<>();
+			trie.add(new TreeMap<>());
+			nodeOutput.add(-1);
+
+			int[] patternLengths = new int[byPattern.size()];
+			Trigger[][] patternTriggers = new Trigger[byPattern.size()][];
+			int patternId = 0;
+			for (Map.Entry<String, List<Trigger>> entry : byPattern.entrySet())
+			{
+				String pattern = entry.getKey();
+				int node = 0;
+				for (int i = 0; i < pattern.length(); i++)
+				{
+					Integer next = trie.get(node).get(pattern.charAt(i));
+					if (next == null)
+					{
+						next = trie.size();
+						trie.add(new TreeMap<>());
+						nodeOutput.add(-1);
+						trie.get(node).put(pattern.charAt(i), next);
+					}
+					node = next;
+				}
+				nodeOutput.set(node, patternId);
+				patternLengths[patternId] = pattern.length();
+				patternTriggers[patternId] = entry.getValue().toArray(new Trigger[0]);
+				patternId++;
+			}
+
+			int nodeCount = trie.size();
+			char[][] edgeChars = new char[nodeCount][];
+			int[][] edgeTargets = new int[nodeCount][];
+			int[] output = new int[nodeCount];
+			for (int node = 0; node < nodeCount; node++)
+			{
+				TreeMap<Character, Integer> edges = trie.get(node);
+				edgeChars[node] = new char[edges.size()];
+				edgeTargets[node] = new int[edges.size()];
+				int i = 0;
+				for (Map.Entry<Character, Integer> edge : edges.entrySet())
+				{
+					edgeChars[node][i] = edge.getKey();
+					edgeTargets[node][i] = edge.getValue();
+					i++;
+				}
+				output[node] = nodeOutput.get(node);
+			}
+
+			// Breadth first so a node's failure link is always resolved before its children need it
+			int[] fail = new int[nodeCount];
+			int[] outputLink = new int[nodeCount];
+			Arrays.fill(outputLink, -1);
+			ArrayDeque<Integer> queue = new ArrayDeque<>();
+			for (int child : edgeTargets[0])
+			{
+				queue.add(child);
+			}
+			while (!queue.isEmpty())
+			{
+				int node = queue.poll();
+				for (int i = 0; i < edgeChars[node].length; i++)
+				{
+					char c = edgeChars[node][i];
+					int child = edgeTargets[node][i];
+
+					int state = fail[node];
+					int target = step(edgeChars, edgeTargets, state, c);
+					while (target == -1 && state != 0)
+					{
+						state = fail[state];
+						target = step(edgeChars, edgeTargets, state, c);
+					}
+					fail[child] = target == -1 ? 0 : target;
+
+					int failNode = fail[child];
+					outputLink[child] = output[failNode] != -1 ? failNode : outputLink[failNode];
+					queue.add(child);
+				}
+			}
+
+			return new Automaton(edgeChars, edgeTargets, fail, output, outputLink, patternLengths, patternTriggers);
+		}
+
+		private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c)
+		{
+			int index = Arrays.binarySearch(edgeChars[node], c);
+			return index < 0 ? -1 : edgeTargets[node][index];
+		}
+
+		private void search(ChatMessage event, String text, int messageId)
+		{
+			int length = text.length();
+			int state = 0;
+			for (int i = 0; i < length; i++)
+			{
+				char c = text.charAt(i);
+				int next = step(edgeChars, edgeTargets, state, c);
+				while (next == -1 && state != 0)
+				{
+					state = fail[state];
+					next = step(edgeChars, edgeTargets, state, c);
+				}
+				state = next == -1 ? 0 : next;
+
+				int node = output[state] != -1 ? state : outputLink[state];
+				while (node != -1)
+				{
+					int pattern = output[node];
+					fire(event, text, messageId, pattern, i + 1 - patternLengths[pattern], i + 1 == length);
+					node = outputLink[node];
+				}
+			}
+		}
+
+		private void fire(ChatMessage event, String text, int messageId, int pattern, int start, boolean atEnd)
+		{
+			for (Trigger trigger : patternTriggers[pattern])
+			{
+				if (trigger.lastMessage == messageId || (trigger.type != null && trigger.type != event.getType()))
+				{
+					continue;
+				}
+
+				switch (trigger.match)
+				{
+					case EQUALS:
+						if (start != 0 || !atEnd)
+						{
+							continue;
+						}
+						break;
+					case STARTS_WITH:
+						if (start != 0)
+						{
+							continue;
+						}
+						break;
+					default:
+						break;
+				}
+
+				trigger.lastMessage = messageId;
+				try
+				{
+					trigger.listener.accept(event, text);
+				}
+				catch (Exception e)
+				{
+					log.warn("Kotori Plugin Utils - Chat listener for \"" + trigger.pattern + "\" threw an exception.", e);
+				}
+			}
+		}
+	}
+}
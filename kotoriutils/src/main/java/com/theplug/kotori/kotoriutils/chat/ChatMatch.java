@@ -0,0 +1,11 @@
+package com.theplug.kotori.kotoriutils.chat;
+
+/*
+	Where a trigger has to appear in a chat message, after tags are stripped and the message is lowercased and trimmed.
+ */
+public enum ChatMatch
+{
+	EQUALS,
+	STARTS_WITH,
+	CONTAINS
+}
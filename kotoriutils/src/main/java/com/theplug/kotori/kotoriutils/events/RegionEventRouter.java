@@ -0,0 +1,280 @@
+package com.theplug.kotori.kotoriutils.events;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GraphicsObjectCreated;
+import net.runelite.api.events.ProjectileMoved;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+	Forwards the busiest scene events only to the plugins whose area the player is in.
+	A plugin registers its region ids once and subscribes its listeners here instead of with @Subscribe, and KotoriUtils hands
+	every event to dispatch(). KotoriUtils also resolves the player's region on the client thread every tick and on every game
+	state change, and when it changes the listeners of the plugins registered for the new region are gathered into one array
+	per event type. An event then only walks the listeners of the plugins that are in their area, so a plugin for another part
+	of the map costs nothing per event. Listeners run on the client thread in the order they were subscribed, ahead of every
+	@Subscribe handler.
+ */
+@Slf4j
+public final class RegionEventRouter
+{
+	public static final int NO_REGION = -1;
+
+	private static final List<Class<?>> EVENT_TYPES = List.of(ProjectileMoved.class, AnimationChanged.class,
+		GraphicsObjectCreated.class, GameObjectSpawned.class, ClientTick.class);
+	private static final int PROJECTILE_MOVED = 0;
+	private static final int ANIMATION_CHANGED = 1;
+	private static final int GRAPHICS_OBJECT_CREATED = 2;
+	private static final int GAME_OBJECT_SPAWNED = 3;
+	private static final int CLIENT_TICK = 4;
+
+	private static final List<Route> routes = new ArrayList<>();
+	private static volatile Table table = Table.EMPTY;
+	private static volatile boolean tableStale;
+	private static volatile int currentRegion = NO_REGION;
+
+	private RegionEventRouter()
+	{
+	}
+
+	/*
+		Sets the regions the owner's listeners are active in, replacing the ones it registered before. Plugins call this from startUp.
+	 */
+	public static synchronized void register(Object owner, int... regionIds)
+	{
+		int[] regions = regionIds.clone();
+		Arrays.sort(regions);
+		route(owner).regions = regions;
+		tableStale = true;
+	}
+
+	/*
+		Adds a listener for one of the routed events, called only while the player is in one of the owner's regions.
+	 */
+	@SuppressWarnings("unchecked")
+	public static synchronized <T> void subscribe(Object owner, Class<T> eventType, Consumer<? super T> listener)
+	{
+		int slot = EVENT_TYPES.indexOf(eventType);
+		if (slot == -1)
+		{
+			throw new IllegalArgumentException(eventType.getSimpleName() + " isn't routed by region");
+		}
+
+		route(owner).listeners.add(new Listener(slot, (Consumer<Object>) listener));
+		tableStale = true;
+	}
+
+	/*
+		Removes the owner's regions and listeners, plugins call this from shutDown.
+	 */
+	public static synchronized void unregisterAll(Object owner)
+	{
+		if (routes.removeIf(route -> route.owner == owner))
+		{
+			tableStale = true;
+		}
+	}
+
+	/*
+		Whether the player is in one of the owner's regions.
+	 */
+	public static boolean isActive(Object owner)
+	{
+		return getTable().isActive(owner);
+	}
+
+	/*
+		Region id of the player's location, resolved through instances, or NO_REGION when not logged in.
+	 */
+	public static int getCurrentRegion()
+	{
+		return currentRegion;
+	}
+
+	/*
+		Called by KotoriUtils on the client thread with the player's region, or NO_REGION when not logged in.
+	 */
+	public static void setCurrentRegion(int region)
+	{
+		if (region != currentRegion)
+		{
+			currentRegion = region;
+			tableStale = true;
+		}
+	}
+
+	/*
+		Drops every route and forgets the region, so tests start from a clean router.
+	 */
+	static synchronized void reset()
+	{
+		routes.clear();
+		currentRegion = NO_REGION;
+		tableStale = true;
+	}
+
+	public static void dispatch(ProjectileMoved event)
+	{
+		dispatch(event, PROJECTILE_MOVED);
+	}
+
+	public static void dispatch(AnimationChanged event)
+	{
+		dispatch(event, ANIMATION_CHANGED);
+	}
+
+	public static void dispatch(GraphicsObjectCreated event)
+	{
+		dispatch(event, GRAPHICS_OBJECT_CREATED);
+	}
+
+	public static void dispatch(GameObjectSpawned event)
+	{
+		dispatch(event, GAME_OBJECT_SPAWNED);
+	}
+
+	public static void dispatch(ClientTick event)
+	{
+		dispatch(event, CLIENT_TICK);
+	}
+
+	private static void dispatch(Object event, int slot)
+	{
+		for (Listener listener : getTable().listeners[slot])
+		{
+			try
+			{
+				listener.consumer.accept(event);
+			}
+			catch (Exception e)
+			{
+				log.warn("Kotori Plugin Utils - " + EVENT_TYPES.get(slot).getSimpleName() + " listener threw an exception.", e);
+			}
+		}
+	}
+
+	private static Route route(Object owner)
+	{
+		for (Route route : routes)
+		{
+			if (route.owner == owner)
+			{
+				return route;
+			}
+		}
+
+		Route route = new Route(owner);
+		routes.add(route);
+		return route;
+	}
+
+	private static Table getTable()
+	{
+		if (!tableStale)
+		{
+			return table;
+		}
+
+		synchronized (RegionEventRouter.class)
+		{
+			if (tableStale)
+			{
+				// Cleared before reading the region, so a region change that lands during the build marks the new table stale again
+				tableStale = false;
+				table = Table.build(routes, currentRegion);
+			}
+			return table;
+		}
+	}
+
+	private static final class Route
+	{
+		private final Object owner;
+		private final List<Listener> listeners = new ArrayList<>();
+		// Sorted, so the region is found with a binary search
+		private int[] regions = new int[0];
+
+		private Route(Object owner)
+		{
+			this.owner = owner;
+		}
+	}
+
+	private static final class Listener
+	{
+		private final int slot;
+		private final Consumer<Object> consumer;
+
+		private Listener(int slot, Consumer<Object> consumer)
+		{
+			this.slot = slot;
+			this.consumer = consumer;
+		}
+	}
+
+	/*
+		Immutable view of the routes for one region: the owners registered for it, and their listeners by event type.
+	 */
+	private static final class Table
+	{
+		private static final Table EMPTY = build(List.of(), NO_REGION);
+
+		private final Object[] activeOwners;
+		private final Listener[][] listeners;
+
+		private Table(Object[] activeOwners, Listener[][] listeners)
+		{
+			this.activeOwners = activeOwners;
+			this.listeners = listeners;
+		}
+
+		private static Table build(List<Route> routes, int region)
+		{
+			List<Object> owners = new ArrayList<>();
+			List<List<Listener>> bySlot = new ArrayList<>();
+			for (int slot = 0; slot < EVENT_TYPES.size(); slot++)
+			{
+				bySlot.add(new ArrayList<>());
+			}
+
+			for (Route route : routes)
+			{
+				if (Arrays.binarySearch(route.regions, region) < 0)
+				{
+					continue;
+				}
+
+				owners.add(route.owner);
+				for (Listener listener : route.listeners)
+				{
+					bySlot.get(listener.slot).add(listener);
+				}
+			}
+
+			Listener[][] listeners = new Listener[EVENT_TYPES.size()][];
+			for (int slot = 0; slot < listeners.length; slot++)
+			{
+				listeners[slot] = bySlot.get(slot).toArray(new Listener[0]);
+			}
+			return new Table(owners.toArray(), listeners);
+		}
+
+		private boolean isActive(Object owner)
+		{
+			for (Object activeOwner : activeOwners)
+			{
+				if (activeOwner == owner)
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.theplug.kotori.kotoriutils.gson;
+
+import lombok.Getter;
+
+@Getter
+public class ZoneInfo
+{
+	private String n;
+	private int p;
+	private int[] c;
+}
@@ -0,0 +1,113 @@
+package com.theplug.kotori.kotoriutils.lookup;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/*
+	Read-only id to enum constant lookup for enums that are dispatched on an animation, graphic or projectile id.
+	Ids up to MAX_DENSE_ID are stored in an array indexed by the id itself, anything larger falls back to a binary search
+	over sorted primitive arrays, so a lookup never boxes the id or hashes it.
+	Negative ids are treated as "no id" and never match. If two constants share an id the one listed first wins,
+	the same as scanning values() for the first match.
+ */
+public final class IdIndex<E extends Enum<E>>
+{
+	private static final int MAX_DENSE_ID = 1 << 16;
+
+	private final E[] dense;
+	private final int[] sparseIds;
+	private final E[] sparseValues;
+
+	private IdIndex(E[] dense, int[] sparseIds, E[] sparseValues)
+	{
+		this.dense = dense;
+		this.sparseIds = sparseIds;
+		this.sparseValues = sparseValues;
+	}
+
+	public static <E extends Enum<E>> IdIndex<E> of(Class<E> type, ToIntFunction<E> idFunction)
+	{
+		return of(type.getEnumConstants(), idFunction);
+	}
+
+	/*
+		Indexes the given constants, for enums whose lookup doesn't follow declaration order.
+	 */
+	public static <E extends Enum<E>> IdIndex<E> of(E[] constants, ToIntFunction<E> idFunction)
+	{
+		int maxDenseId = -1;
+		int sparseCount = 0;
+		for (E constant : constants)
+		{
+			int id = idFunction.applyAsInt(constant);
+			if (id > MAX_DENSE_ID)
+			{
+				sparseCount++;
+			}
+			else if (id > maxDenseId)
+			{
+				maxDenseId = id;
+			}
+		}
+
+		E[] dense = Arrays.copyOf(constants, maxDenseId + 1);
+		Arrays.fill(dense, null);
+		int[] sparseIds = new int[sparseCount];
+		E[] sparseValues = Arrays.copyOf(constants, sparseCount);
+
+		int sparseSize = 0;
+		for (E constant : constants)
+		{
+			int id = idFunction.applyAsInt(constant);
+			if (id < 0)
+			{
+				continue;
+			}
+			if (id <= MAX_DENSE_ID)
+			{
+				if (dense[id] == null)
+				{
+					dense[id] = constant;
+				}
+				continue;
+			}
+
+			int slot = Arrays.binarySearch(sparseIds, 0, sparseSize, id);
+			if (slot >= 0)
+			{
+				continue;
+			}
+
+			slot = -slot - 1;
+			System.arraycopy(sparseIds, slot, sparseIds, slot + 1, sparseSize - slot);
+			System.arraycopy(sparseValues, slot, sparseValues, slot + 1, sparseSize - slot);
+			sparseIds[slot] = id;
+			sparseValues[slot] = constant;
+			sparseSize++;
+		}
+
+		return new IdIndex<>(dense, Arrays.copyOf(sparseIds, sparseSize), Arrays.copyOf(sparseValues, sparseSize));
+	}
+
+	/*
+		Returns the constant registered for the id, or null if there is none.
+	 */
+	public E get(int id)
+	{
+		if (id < 0)
+		{
+			return null;
+		}
+		if (id < dense.length)
+		{
+			return dense[id];
+		}
+		int slot = Arrays.binarySearch(sparseIds, id);
+		return slot < 0 ? null : sparseValues[slot];
+	}
+
+	public boolean contains(int id)
+	{
+		return get(id) != null;
+	}
+}
@@ -0,0 +1,186 @@
+package com.theplug.kotori.kotoriutils.methods;
+
+import net.runelite.api.*;
+import net.runelite.client.RuneLite;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/*
+    Immutable view of the NPCs and players in the top level world view, shared by every Kotori plugin.
+    A snapshot is built the first time it is asked for on a game tick and then handed out for the rest of that tick, so any number
+    of plugins and overlays can walk the actor lists without each of them copying the world view.
+    KotoriUtils drops the current snapshot whenever an actor spawns, despawns or changes, so a snapshot never lags behind
+    the world view within a tick.
+ */
+public final class ActorSnapshot
+{
+    private static final Client client = RuneLite.getInjector().getInstance(Client.class);
+
+    private static final ActorSnapshot EMPTY = new ActorSnapshot(-1, Collections.emptyList(), Collections.emptyList());
+
+    private static volatile ActorSnapshot current = EMPTY;
+    private static volatile boolean invalidated = true;
+
+    private final int tick;
+    private final List<NPC> npcs;
+    private final List<Player> players;
+    private final IntIndex<NPC> npcsById;
+    private final IntIndex<NPC> npcsByRegion;
+    private final Map<String, List<NPC>> npcsByName;
+
+    private ActorSnapshot(int tick, List<NPC> npcs, List<Player> players)
+    {
+        this.tick = tick;
+        this.npcs = npcs;
+        this.players = players;
+        this.npcsById = new IntIndex<>(npcs, NPC::getId);
+        this.npcsByRegion = new IntIndex<>(npcs, npc -> npc.getWorldLocation().getRegionID());
+
+        Map<String, List<NPC>> byName = new HashMap<>();
+        for (NPC npc : npcs)
+        {
+            String name = npc.getName();
+            if (name != null)
+            {
+                byName.computeIfAbsent(name.toLowerCase(), k -> new ArrayList<>()).add(npc);
+            }
+        }
+        byName.replaceAll((name, list) -> Collections.unmodifiableList(list));
+        this.npcsByName = byName;
+    }
+
+    /*
+        The snapshot for the current tick, built on first use. Must be called on the client thread.
+     */
+    public static ActorSnapshot get()
+    {
+        ActorSnapshot snapshot = current;
+        int tickCount = client.getTickCount();
+        if (!invalidated && snapshot.tick == tickCount)
+        {
+            return snapshot;
+        }
+
+        WorldView wv = client.getTopLevelWorldView();
+        if (wv == null)
+        {
+            snapshot = EMPTY;
+        }
+        else
+        {
+            List<NPC> npcs = new ArrayList<>();
+            for (NPC npc : wv.npcs())
+            {
+                npcs.add(npc);
+            }
+            List<Player> players = new ArrayList<>();
+            for (Player player : wv.players())
+            {
+                players.add(player);
+            }
+            snapshot = new ActorSnapshot(tickCount, Collections.unmodifiableList(npcs), Collections.unmodifiableList(players));
+        }
+
+        current = snapshot;
+        invalidated = false;
+        return snapshot;
+    }
+
+    /*
+        Forces the next call to get() to rebuild the snapshot.
+     */
+    public static void invalidate()
+    {
+        invalidated = true;
+    }
+
+    public List<NPC> getNpcs()
+    {
+        return npcs;
+    }
+
+    public List<Player> getPlayers()
+    {
+        return players;
+    }
+
+    public List<NPC> getNpcs(int npcId)
+    {
+        return npcsById.get(npcId);
+    }
+
+    /*
+        Case insensitive.
+     */
+    public List<NPC> getNpcs(String name)
+    {
+        return npcsByName.getOrDefault(name.toLowerCase(), Collections.emptyList());
+    }
+
+    public List<NPC> getNpcsInRegion(int regionId)
+    {
+        return npcsByRegion.get(regionId);
+    }
+
+    public NPC getFirstNpc(int npcId)
+    {
+        List<NPC> matches = getNpcs(npcId);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /*
+        Groups values by an int key using a sorted key array, so lookups are a binary search with no boxing.
+        Values with the same key keep the order they had in the source list.
+     */
+    private static final class IntIndex<T>
+    {
+        private final int[] keys;
+        private final List<T> values;
+
+        private IntIndex(List<T> source, ToIntFunction<T> keyFunction)
+        {
+            int size = source.size();
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++)
+            {
+                // Key in the high half and the source position in the low half keeps equal keys in source order after sorting
+                packed[i] = ((long) keyFunction.applyAsInt(source.get(i)) << 32) | i;
+            }
+            Arrays.sort(packed);
+
+            keys = new int[size];
+            Object[] sorted = new Object[size];
+            for (int i = 0; i < size; i++)
+            {
+                keys[i] = (int) (packed[i] >> 32);
+                sorted[i] = source.get((int) packed[i]);
+            }
+
+            @SuppressWarnings("unchecked")
+            List<T> sortedList = (List<T>) Collections.unmodifiableList(Arrays.asList(sorted));
+            values = sortedList;
+        }
+
+        private List<T> get(int key)
+        {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0)
+            {
+                return Collections.emptyList();
+            }
+
+            int from = index;
+            while (from > 0 && keys[from - 1] == key)
+            {
+                from--;
+            }
+            int to = index + 1;
+            while (to < keys.length && keys[to] == key)
+            {
+                to++;
+            }
+            return values.subList(from, to);
+        }
+    }
+}
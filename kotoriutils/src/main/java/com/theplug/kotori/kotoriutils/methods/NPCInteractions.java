@@ -4,10 +4,7 @@ import com.theplug.kotori.kotoriutils.ReflectionLibrary;
 import net.runelite.api.*;
 import net.runelite.client.RuneLite;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class NPCInteractions
 {
@@ -64,27 +61,28 @@ public class NPCInteractions
         return exactHealth;
     }
 
+    /*
+        Both lists come from the shared ActorSnapshot and are read only.
+     */
     public static List<NPC> getNpcs()
     {
-        WorldView wv = client.getTopLevelWorldView();
-        return wv == null ? Collections.emptyList() : wv.npcs().stream().collect(Collectors.toCollection(ArrayList::new));
+        return ActorSnapshot.get().getNpcs();
     }
 
     public static List<Player> getPlayers()
     {
-        WorldView wv = client.getTopLevelWorldView();
-        return wv == null ? Collections.emptyList() : wv.players().stream().collect(Collectors.toCollection(ArrayList::new));
+        return ActorSnapshot.get().getPlayers();
     }
 
     public static NPC[] getCachedNPCs()
     {
         WorldView wv = client.getTopLevelWorldView();
-        return wv == null ? null : wv.npcs().stream().toArray(NPC[]::new);
+        return wv == null ? null : ActorSnapshot.get().getNpcs().toArray(new NPC[0]);
     }
 
     public static Player[] getCachedPlayers()
     {
         WorldView wv = client.getTopLevelWorldView();
-        return wv == null ? null : wv.players().stream().toArray(Player[]::new);
+        return wv == null ? null : ActorSnapshot.get().getPlayers().toArray(new Player[0]);
     }
 }
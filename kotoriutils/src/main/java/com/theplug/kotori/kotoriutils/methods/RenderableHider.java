@@ -0,0 +1,104 @@
+package com.theplug.kotori.kotoriutils.methods;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Renderable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/*
+	Hides renderables through the client's setHidden(boolean) method and remembers which ones it hid, by identity.
+	Each plugin keeps its own hider so unhideAll() on shutdown only restores what that plugin hid.
+	The setHidden method is looked up once per renderable class and shared by every hider.
+ */
+@Slf4j
+public class RenderableHider
+{
+	private static final MethodType SET_HIDDEN_TYPE = MethodType.methodType(void.class, boolean.class);
+
+	private static final ClassValue<MethodHandle> SET_HIDDEN = new ClassValue<MethodHandle>()
+	{
+		@Override
+		protected MethodHandle computeValue(Class<?> type)
+		{
+			try
+			{
+				return MethodHandles.publicLookup().findVirtual(type, "setHidden", SET_HIDDEN_TYPE);
+			}
+			catch (NoSuchMethodException | IllegalAccessException e)
+			{
+				log.debug("Kotori Plugin Utils - Couldn't find method setHidden for class {}", type);
+				return null;
+			}
+		}
+	};
+
+	private final Set<Renderable> hidden = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/*
+		Returns false if the renderable was already hidden by this hider or its class has no setHidden method.
+	 */
+	public boolean hide(Renderable renderable)
+	{
+		if (renderable == null || hidden.contains(renderable) || !setHidden(renderable, true))
+		{
+			return false;
+		}
+		hidden.add(renderable);
+		return true;
+	}
+
+	public void unhide(Renderable renderable)
+	{
+		if (renderable != null && hidden.remove(renderable))
+		{
+			setHidden(renderable, false);
+		}
+	}
+
+	/*
+		Stops tracking a renderable without touching it, for renderables that have already left the scene.
+	 */
+	public void forget(Renderable renderable)
+	{
+		hidden.remove(renderable);
+	}
+
+	public boolean isHidden(Renderable renderable)
+	{
+		return hidden.contains(renderable);
+	}
+
+	public void unhideAll()
+	{
+		for (Renderable renderable : hidden)
+		{
+			setHidden(renderable, false);
+		}
+		hidden.clear();
+	}
+
+	private static boolean setHidden(Renderable renderable, boolean hide)
+	{
+		MethodHandle handle = SET_HIDDEN.get(renderable.getClass());
+		if (handle == null)
+		{
+			return false;
+		}
+
+		try
+		{
+			handle.invoke(renderable, hide);
+			return true;
+		}
+		catch (Throwable e)
+		{
+			log.debug("Kotori Plugin Utils - Couldn't call method setHidden for class {}", renderable.getClass());
+			return false;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.theplug.kotori.kotoriutils.methods;
+
+import net.runelite.api.*;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.RuneLite;
+
+import java.util.*;
+
+/*
+    Game objects and ground objects in the top level scene, indexed by object id and by id plus tile, shared by every Kotori plugin.
+    KotoriUtils keeps it current from the spawn and despawn events. After a scene load or a restart the index is marked stale
+    and the next query seeds it once from the scene tiles, so plugins never have to sweep the 104x104 tiles themselves.
+    Looking up all objects with an id costs as much as the number of objects found. Must be used on the client thread.
+ */
+public final class SceneObjectIndex
+{
+    private static final Client client = RuneLite.getInjector().getInstance(Client.class);
+
+    private static final Bucket<GameObject> gameObjects = new Bucket<>();
+    private static final Bucket<GroundObject> groundObjects = new Bucket<>();
+
+    // While stale, spawn events are ignored since the seed picks up everything in the scene anyway
+    private static volatile boolean stale = true;
+
+    private SceneObjectIndex()
+    {
+    }
+
+    /*
+        Every game object with the id, on any plane. The list is a live read only view, copy it to keep it past the current tick.
+     */
+    public static List<GameObject> getGameObjects(int id)
+    {
+        ensureSeeded();
+        return gameObjects.get(id);
+    }
+
+    /*
+        The game object with the id whose world location is the point, or null.
+     */
+    public static GameObject getGameObject(int id, WorldPoint point)
+    {
+        ensureSeeded();
+        return gameObjects.get(id, point);
+    }
+
+    public static List<GroundObject> getGroundObjects(int id)
+    {
+        ensureSeeded();
+        return groundObjects.get(id);
+    }
+
+    public static GroundObject getGroundObject(int id, WorldPoint point)
+    {
+        ensureSeeded();
+        return groundObjects.get(id, point);
+    }
+
+    /*
+        Marks the index stale, the next query seeds it again from the scene. Safe to call from any thread.
+     */
+    public static void reset()
+    {
+        stale = true;
+    }
+
+    /*
+        Marks the index stale and lets go of the previous scene's objects straight away. Must be called on the client thread.
+     */
+    public static void clear()
+    {
+        stale = true;
+        gameObjects.clear();
+        groundObjects.clear();
+    }
+
+    public static void onGameObjectSpawned(GameObject gameObject)
+    {
+        if (!stale && gameObject != null)
+        {
+            gameObjects.add(gameObject);
+        }
+    }
+
+    public static void onGameObjectDespawned(GameObject gameObject)
+    {
+        if (!stale && gameObject != null)
+        {
+            gameObjects.remove(gameObject);
+        }
+    }
+
+    public static void onGroundObjectSpawned(GroundObject groundObject)
+    {
+        if (!stale && groundObject != null)
+        {
+            groundObjects.add(groundObject);
+        }
+    }
+
+    public static void onGroundObjectDespawned(GroundObject groundObject)
+    {
+        if (!stale && groundObject != null)
+        {
+            groundObjects.remove(groundObject);
+        }
+    }
+
+    private static void ensureSeeded()
+    {
+        if (!stale)
+        {
+            return;
+        }
+
+        // Until the next scene is loaded the queries find nothing, rather than the objects of the scene that was left
+        gameObjects.clear();
+        groundObjects.clear();
+        if (client.getGameState() != GameState.LOGGED_IN)
+        {
+            return;
+        }
+
+        WorldView wv = client.getTopLevelWorldView();
+        if (wv == null)
+        {
+            return;
+        }
+
+        Tile[][][] tiles = wv.getScene().getTiles();
+        for (Tile[][] plane : tiles)
+        {
+            for (Tile[] column : plane)
+            {
+                for (Tile tile : column)
+                {
+                    if (tile == null)
+                    {
+                        continue;
+                    }
+
+                    // Objects bigger than one tile sit on every tile they cover, add() skips the repeats
+                    GameObject[] tileGameObjects = tile.getGameObjects();
+                    if (tileGameObjects != null)
+                    {
+                        for (GameObject gameObject : tileGameObjects)
+                        {
+                            if (gameObject != null)
+                            {
+                                gameObjects.add(gameObject);
+                            }
+                        }
+                    }
+
+                    GroundObject groundObject = tile.getGroundObject();
+                    if (groundObject != null)
+                    {
+                        groundObjects.add(groundObject);
+                    }
+                }
+            }
+        }
+        stale = false;
+    }
+
+    private static long tileKey(int id, WorldPoint point)
+    {
+        return ((long) id << 32) | ((long) point.getPlane() << 30) | ((point.getX() & 0x7FFF) << 15) | (point.getY() & 0x7FFF);
+    }
+
+    /*
+        One kind of object. Each id keeps its objects in a list with every object's position remembered by identity,
+        so removing one swaps the last object into its slot instead of searching and shifting the list.
+     */
+    private static final class Bucket<T extends TileObject>
+    {
+        private final Map<Integer, List<T>> byId = new HashMap<>();
+        private final Map<Integer, List<T>> views = new HashMap<>();
+        private final Map<Long, T> byTile = new HashMap<>();
+        private final Map<T, Integer> positions = new IdentityHashMap<>();
+
+        private List<T> get(int id)
+        {
+            List<T> view = views.get(id);
+            return view == null ? Collections.emptyList() : view;
+        }
+
+        private T get(int id, WorldPoint point)
+        {
+            return point == null ? null : byTile.get(tileKey(id, point));
+        }
+
+        private void add(T object)
+        {
+            if (positions.containsKey(object))
+            {
+                return;
+            }
+
+            int id = object.getId();
+            List<T> objects = byId.get(id);
+            if (objects == null)
+            {
+                objects = new ArrayList<>();
+                byId.put(id, objects);
+                views.put(id, Collections.unmodifiableList(objects));
+            }
+            positions.put(object, objects.size());
+            objects.add(object);
+            byTile.put(tileKey(id, object.getWorldLocation()), object);
+        }
+
+        private void remove(T object)
+        {
+            Integer position = positions.remove(object);
+            if (position == null)
+            {
+                return;
+            }
+
+            int id = object.getId();
+            List<T> objects = byId.get(id);
+            T last = objects.remove(objects.size() - 1);
+            if (last != object)
+            {
+                objects.set(position, last);
+                positions.put(last, position);
+            }
+            byTile.remove(tileKey(id, object.getWorldLocation()), object);
+        }
+
+        private void clear()
+        {
+            if (positions.isEmpty())
+            {
+                return;
+            }
+
+            byId.clear();
+            views.clear();
+            byTile.clear();
+            positions.clear();
+        }
+    }
+}
@@ -26,7 +26,7 @@ package com.theplug.kotori.kotoriutils.rlapi;
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-import com.google.common.collect.ImmutableMap;
+import com.theplug.kotori.kotoriutils.lookup.IdIndex;
 import lombok.Getter;
 import net.runelite.api.HeadIcon;
 import net.runelite.api.gameval.SpriteID;
@@ -35,7 +35,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.security.InvalidParameterException;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -153,7 +152,9 @@ public enum PlayerAttackAnimations
     MAGIC_WARPED_SCEPTRE(10501, AttackStyle.MAGIC),
     MAGIC_ACCURSED_SCEPTRE_SPEC(9961, AttackStyle.MAGIC);
 
-    private static final Map<Integer, PlayerAttackAnimations> DATA;
+    // allow to skip animation detection by using 0 or less as the animation id.
+    private static final IdIndex<PlayerAttackAnimations> DATA = IdIndex.of(PlayerAttackAnimations.class,
+            data -> data.animationId <= 0 ? -1 : data.animationId);
 
     private final int animationId;
     private final boolean isSpecial;
@@ -181,20 +182,6 @@ public enum PlayerAttackAnimations
         this.isSpecial = isSpecial;
     }
 
-    static
-    {
-        ImmutableMap.Builder<Integer, PlayerAttackAnimations> builder = new ImmutableMap.Builder<>();
-
-        for (PlayerAttackAnimations data : values())
-        {
-            // allow to skip animation detection by using 0 or less as the animation id.
-            if (data.animationId <= 0) { continue; }
-            builder.put(data.animationId, data);
-        }
-
-        DATA = builder.build();
-    }
-
     public static PlayerAttackAnimations fromId(int animationId)
     {
         return DATA.get(animationId);
@@ -37,6 +37,7 @@ import net.runelite.client.util.Text;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.awt.*;
+import java.awt.font.FontRenderContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -60,21 +61,24 @@ public class TableComponent implements LayoutableRenderableEntity
     private Point preferredLocation = new Point();
     private Dimension preferredSize = new Dimension(ComponentConstants.STANDARD_WIDTH, 0);
 
+    // The header row, a live view of the columns
+    private final TableRow columnRow = TableRow.builder().elements(columns).build();
+    private final Layout layout = new Layout();
+
     @Override
     public Dimension render(final Graphics2D graphics)
     {
         final FontMetrics metrics = graphics.getFontMetrics();
-        final TableRow colRow = TableRow.builder().elements(this.columns).build();
-        final int[] columnWidths = getColumnWidths(metrics, colRow);
+        final int[] columnWidths = layout.update(metrics);
 
         graphics.translate(preferredLocation.x, preferredLocation.y);
 
         // Display the columns first
-        int height = displayRow(graphics, colRow, 0, columnWidths, metrics);
+        int height = displayRow(graphics, columnRow, layout.rows.get(0), 0, columnWidths, metrics);
 
-        for (TableRow row : this.rows)
+        for (int i = 0; i < rows.size(); i++)
         {
-            height = displayRow(graphics, row, height, columnWidths, metrics);
+            height = displayRow(graphics, rows.get(i), layout.rows.get(i + 1), height, columnWidths, metrics);
         }
 
         graphics.translate(-preferredLocation.x, -preferredLocation.y);
@@ -86,37 +90,38 @@ public class TableComponent implements LayoutableRenderableEntity
         return dimension;
     }
 
-    private int displayRow(Graphics2D graphics, TableRow row, int height, int[] columnWidths, FontMetrics metrics)
+    /**
+     * Draws a row from its cached lines, wrapping them again first if the column widths changed.
+     */
+    private int displayRow(Graphics2D graphics, TableRow row, RowLayout rowLayout, int height, int[] columnWidths, FontMetrics metrics)
     {
         int x = 0;
         int startingRowHeight = height;
 
-        final List<TableElement> elements = row.getElements();
-        for (int i = 0; i < elements.size(); i++)
+        rowLayout.wrap(columnWidths, metrics);
+        for (int i = 0; i < rowLayout.contents.length; i++)
         {
             int y = startingRowHeight;
-            final TableElement cell = elements.get(i);
 
-            final String content = cell.getContent();
-            if (content == null)
+            if (rowLayout.contents[i] == null)
             {
                 continue;
             }
 
-            final String[] lines = lineBreakText(content, columnWidths[i], metrics);
+            final String[] lines = rowLayout.lines[i];
+            final int[] lineWidths = rowLayout.lineWidths[i];
             final TableAlignment alignment = getCellAlignment(row, i);
             final Color color = getCellColor(row, i);
 
-            for (String line : lines)
+            for (int line = 0; line < lines.length; line++)
             {
-                final int alignmentOffset = getAlignedPosition(line, alignment, columnWidths[i], metrics);
-                final TextComponent leftLineComponent = new TextComponent();
+                final int alignmentOffset = getAlignedPosition(lineWidths[line], alignment, columnWidths[i]);
                 y += metrics.getHeight();
 
-                leftLineComponent.setPosition(new Point(x + alignmentOffset, y));
-                leftLineComponent.setText(line);
-                leftLineComponent.setColor(color);
-                leftLineComponent.render(graphics);
+                layout.textPosition.setLocation(x + alignmentOffset, y);
+                layout.textComponent.setText(lines[line]);
+                layout.textComponent.setColor(color);
+                layout.textComponent.render(graphics);
             }
             height = Math.max(height, y);
             x += columnWidths[i] + gutter.width;
@@ -129,15 +134,20 @@ public class TableComponent implements LayoutableRenderableEntity
      * Returns the width that each column should take up
      * Based on https://stackoverflow.com/questions/22206825/algorithm-for-calculating-variable-column-widths-for-set-table-width
      *
-     * @param metrics
+     * @param rowLayouts measured rows, the header row first
      * @return int[] of column width
      */
-    private int[] getColumnWidths(final FontMetrics metrics, final TableRow columnRow)
+    private int[] getColumnWidths(final List<RowLayout> rowLayouts)
     {
-        int numCols = columns.size();
-        for (final TableRow r : rows)
+        int numCols = 0;
+        for (final RowLayout r : rowLayouts)
+        {
+            numCols = Math.max(r.contents.length, numCols);
+        }
+
+        if (numCols == 0)
         {
-            numCols = Math.max(r.getElements().size(), numCols);
+            return new int[0];
         }
 
         int[] maxtextw = new int[numCols];      // max text width over all rows
@@ -146,32 +156,25 @@ public class TableComponent implements LayoutableRenderableEntity
         boolean[] wrap = new boolean[numCols];  // can column be wrapped?
         int[] finalcolw = new int[numCols];     // final width of columns
 
-        final List<TableRow> rows = new ArrayList<>(this.rows);
-        rows.add(columnRow);
-
-        for (final TableRow r : rows)
+        // The header row goes last, a tie on the widest cell takes the wrapping of the last row
+        for (int i = 1; i <= rowLayouts.size(); i++)
         {
-            final List<TableElement> elements = r.getElements();
-            for (int col = 0; col < elements.size(); col++)
+            final RowLayout r = rowLayouts.get(i % rowLayouts.size());
+            for (int col = 0; col < r.contents.length; col++)
             {
-                final TableElement ele = elements.get(col);
-                final String cell = ele.getContent();
-                if (cell == null)
+                if (r.contents[col] == null)
                 {
                     continue;
                 }
 
-                final int cellWidth = getTextWidth(metrics, cell);
+                final int cellWidth = r.textWidths[col];
 
                 maxtextw[col] = Math.max(maxtextw[col], cellWidth);
-                for (String word : cell.split(" "))
-                {
-                    maxwordw[col] = Math.max(maxwordw[col], getTextWidth(metrics, word));
-                }
+                maxwordw[col] = Math.max(maxwordw[col], r.wordWidths[col]);
 
                 if (maxtextw[col] == cellWidth)
                 {
-                    wrap[col] = cell.contains(" ");
+                    wrap[col] = r.wrappable[col];
                 }
             }
         }
@@ -302,9 +305,8 @@ public class TableComponent implements LayoutableRenderableEntity
         }
     }
 
-    private static int getAlignedPosition(final String str, final TableAlignment alignment, final int columnWidth, final FontMetrics metrics)
+    private static int getAlignedPosition(final int stringWidth, final TableAlignment alignment, final int columnWidth)
     {
-        final int stringWidth = getTextWidth(metrics, str);
         int offset = 0;
 
         switch (alignment)
@@ -459,4 +461,160 @@ public class TableComponent implements LayoutableRenderableEntity
             addColumn(col);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Layout of the last frame: every row measured and wrapped, the column widths and a single text component used to draw
+     * every line. It is kept while the font and the table width stay the same. A row is measured again only when one of its
+     * cell contents changed, and the column widths are only worked out again when a measurement or the table width changed.
+     * Lines are wrapped again only for the cells whose column width changed.
+     */
+    private final class Layout
+    {
+        // Header row first, then the rows in order
+        private final List<RowLayout> rows = new ArrayList<>();
+        private final TextComponent textComponent = new TextComponent();
+        private final Point textPosition = new Point();
+
+        private Font font;
+        private FontRenderContext fontRenderContext;
+        private int tableWidth = -1;
+        private int gutterWidth = -1;
+        private int[] columnWidths = new int[0];
+
+        private Layout()
+        {
+            textComponent.setPosition(textPosition);
+        }
+
+        private int[] update(final FontMetrics metrics)
+        {
+            boolean remeasure = false;
+            if (!metrics.getFont().equals(font) || !metrics.getFontRenderContext().equals(fontRenderContext))
+            {
+                font = metrics.getFont();
+                fontRenderContext = metrics.getFontRenderContext();
+                rows.clear();
+                remeasure = true;
+            }
+
+            final int rowCount = TableComponent.this.rows.size() + 1;
+            while (rows.size() > rowCount)
+            {
+                rows.remove(rows.size() - 1);
+                remeasure = true;
+            }
+
+            for (int i = 0; i < rowCount; i++)
+            {
+                final List<TableElement> elements = i == 0 ? columns : TableComponent.this.rows.get(i - 1).getElements();
+                if (i == rows.size())
+                {
+                    rows.add(new RowLayout());
+                }
+
+                final RowLayout row = rows.get(i);
+                if (!row.matches(elements))
+                {
+                    row.measure(elements, metrics);
+                    remeasure = true;
+                }
+            }
+
+            if (remeasure || tableWidth != preferredSize.width || gutterWidth != gutter.width)
+            {
+                tableWidth = preferredSize.width;
+                gutterWidth = gutter.width;
+                columnWidths = getColumnWidths(rows);
+            }
+            return columnWidths;
+        }
+    }
+
+    /**
+     * One row as last measured: the cell contents it was measured from, the widths the column algorithm needs and the wrapped
+     * lines with their widths, along with the column widths they were wrapped for.
+     */
+    private static final class RowLayout
+    {
+        private String[] contents = new String[0];
+        private int[] textWidths;
+        private int[] wordWidths;
+        private boolean[] wrappable;
+        private String[][] lines;
+        private int[][] lineWidths;
+        private int[] wrappedWidths;
+
+        private boolean matches(final List<TableElement> elements)
+        {
+            if (elements.size() != contents.length)
+            {
+                return false;
+            }
+
+            for (int i = 0; i < contents.length; i++)
+            {
+                final String content = elements.get(i).getContent();
+                if (content == contents[i])
+                {
+                    continue;
+                }
+                if (content == null || !content.equals(contents[i]))
+                {
+                    return false;
+                }
+                // Same text in a new string, keep the new one so the next frame matches by reference
+                contents[i] = content;
+            }
+            return true;
+        }
+
+        private void measure(final List<TableElement> elements, final FontMetrics metrics)
+        {
+            final int size = elements.size();
+            contents = new String[size];
+            textWidths = new int[size];
+            wordWidths = new int[size];
+            wrappable = new boolean[size];
+            lines = new String[size][];
+            lineWidths = new int[size][];
+            wrappedWidths = new int[size];
+
+            for (int i = 0; i < size; i++)
+            {
+                final String cell = elements.get(i).getContent();
+                contents[i] = cell;
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                textWidths[i] = getTextWidth(metrics, cell);
+                for (String word : cell.split(" "))
+                {
+                    wordWidths[i] = Math.max(wordWidths[i], getTextWidth(metrics, word));
+                }
+                wrappable[i] = cell.contains(" ");
+            }
+        }
+
+        private void wrap(final int[] columnWidths, final FontMetrics metrics)
+        {
+            for (int i = 0; i < contents.length; i++)
+            {
+                // Column widths can go negative on a narrow table, so an unwrapped cell is marked by its missing lines
+                if (contents[i] == null || (lines[i] != null && wrappedWidths[i] == columnWidths[i]))
+                {
+                    continue;
+                }
+
+                lines[i] = lineBreakText(contents[i], columnWidths[i], metrics);
+                lineWidths[i] = new int[lines[i].length];
+                for (int line = 0; line < lines[i].length; line++)
+                {
+                    lineWidths[i][line] = getTextWidth(metrics, lines[i][line]);
+                }
+                wrappedWidths[i] = columnWidths[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.theplug.kotori.kotoriutils.timers;
+
+/*
+	Shared estimate of when the current server tick started, for overlays that animate a countdown between ticks.
+	GameTick events reach the client late by a varying amount but never early, so each tick projects the last few arrival
+	times forward by whole ticks and keeps the earliest, which filters out the jitter.
+	KotoriUtils feeds it from the client thread, the readers only load one volatile field and never allocate.
+ */
+public final class TickClock
+{
+	public static final int TICK_LENGTH = 600;
+
+	private static final int WINDOW = 5;
+	// A gap this long means ticks stopped arriving (loading, logged out, hopping) and the old arrivals no longer line up
+	private static final long RESET_GAP = TICK_LENGTH * 3;
+
+	private static final long[] arrivals = new long[WINDOW];
+	private static int arrivalCount;
+	private static int nextArrival;
+	private static long lastArrival;
+
+	private static volatile long lastTickMillis;
+
+	private TickClock()
+	{
+	}
+
+	/*
+		Called once per GameTick before the plugins handle it.
+	 */
+	public static void onGameTick(long now)
+	{
+		if (now - lastArrival > RESET_GAP)
+		{
+			arrivalCount = 0;
+			nextArrival = 0;
+		}
+		lastArrival = now;
+
+		arrivals[nextArrival] = now;
+		nextArrival = (nextArrival + 1) % WINDOW;
+		if (arrivalCount < WINDOW)
+		{
+			arrivalCount++;
+		}
+
+		long estimate = now;
+		for (int age = 1; age < arrivalCount; age++)
+		{
+			long arrival = arrivals[(nextArrival - 1 - age + WINDOW) % WINDOW];
+			estimate = Math.min(estimate, arrival + (long) age * TICK_LENGTH);
+		}
+		lastTickMillis = estimate;
+	}
+
+	/*
+		Estimated wall clock time in milliseconds the current tick started, 0 before the first tick.
+	 */
+	public static long getLastTickMillis()
+	{
+		return lastTickMillis;
+	}
+
+	public static long millisIntoTick()
+	{
+		return System.currentTimeMillis() - lastTickMillis;
+	}
+
+	/*
+		How far the current tick has progressed, from 0 right at the tick to 1 when the next one is due.
+		Stays at 1 if the next tick is late.
+	 */
+	public static double fractionIntoTick()
+	{
+		long elapsed = millisIntoTick();
+		if (elapsed <= 0)
+		{
+			return 0;
+		}
+		return elapsed >= TICK_LENGTH ? 1 : elapsed / (double) TICK_LENGTH;
+	}
+
+	/*
+		Milliseconds until the given number of ticks from the start of the current tick have passed, never negative.
+	 */
+	public static long millisUntil(int ticks)
+	{
+		return Math.max(0, (long) ticks * TICK_LENGTH - millisIntoTick());
+	}
+}
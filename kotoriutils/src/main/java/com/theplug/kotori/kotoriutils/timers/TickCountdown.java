@@ -0,0 +1,211 @@
+package com.theplug.kotori.kotoriutils.timers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/*
+	Keys that each stay alive for a number of game ticks, such as tiles under a projectile or a despawning hazard.
+	Entries are filed in a hashed timing wheel by the tick they expire on, so tick() only visits the one bucket that can expire
+	instead of counting every entry down, and the remaining ticks are kept as a plain int instead of a boxed map value.
+	Keys are matched with equals, the same as a HashMap key. Not thread safe, use it from the client thread.
+ */
+public final class TickCountdown<K>
+{
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private final Map<K, Entry<K>> entries = new HashMap<>();
+	@SuppressWarnings("unchecked")
+	private final Entry<K>[] wheel = new Entry[WHEEL_SIZE];
+	private Entry<K> freeEntries;
+	private int currentTick;
+
+	/*
+		Starts or restarts the countdown for a key. The key stays for the next ticks calls to tick(), so getTicks reads ticks
+		right away and 1 during the last tick it is present. A countdown of 0 or less removes the key.
+	 */
+	public void put(K key, int ticks)
+	{
+		if (ticks <= 0)
+		{
+			remove(key);
+			return;
+		}
+
+		Entry<K> entry = entries.get(key);
+		if (entry == null)
+		{
+			entry = obtainEntry(key);
+			entries.put(key, entry);
+		}
+		else
+		{
+			unlink(entry);
+		}
+
+		entry.expiryTick = currentTick + ticks;
+		link(entry);
+	}
+
+	public boolean remove(K key)
+	{
+		Entry<K> entry = entries.remove(key);
+		if (entry == null)
+		{
+			return false;
+		}
+		unlink(entry);
+		releaseEntry(entry);
+		return true;
+	}
+
+	public boolean contains(K key)
+	{
+		return entries.containsKey(key);
+	}
+
+	/*
+		Ticks left for the key, or 0 if it is not present.
+	 */
+	public int getTicks(K key)
+	{
+		Entry<K> entry = entries.get(key);
+		return entry == null ? 0 : entry.expiryTick - currentTick;
+	}
+
+	public int size()
+	{
+		return entries.size();
+	}
+
+	public boolean isEmpty()
+	{
+		return entries.isEmpty();
+	}
+
+	/*
+		Advances the countdown by one game tick and drops the keys whose time ran out.
+	 */
+	public void tick()
+	{
+		currentTick++;
+		if (entries.isEmpty())
+		{
+			return;
+		}
+
+		Entry<K> entry = wheel[currentTick & WHEEL_MASK];
+		while (entry != null)
+		{
+			Entry<K> next = entry.next;
+			// Countdowns longer than the wheel share the bucket and are skipped until their own lap
+			if (entry.expiryTick == currentTick)
+			{
+				entries.remove(entry.key);
+				unlink(entry);
+				releaseEntry(entry);
+			}
+			entry = next;
+		}
+	}
+
+	/*
+		Visits every key with its remaining ticks, without allocating. The countdown must not be modified during the visit.
+	 */
+	public void forEach(ObjIntConsumer<? super K> action)
+	{
+		if (entries.isEmpty())
+		{
+			return;
+		}
+
+		for (Entry<K> bucket : wheel)
+		{
+			for (Entry<K> entry = bucket; entry != null; entry = entry.next)
+			{
+				action.accept(entry.key, entry.expiryTick - currentTick);
+			}
+		}
+	}
+
+	public void clear()
+	{
+		for (int i = 0; i < WHEEL_SIZE; i++)
+		{
+			Entry<K> entry = wheel[i];
+			while (entry != null)
+			{
+				Entry<K> next = entry.next;
+				releaseEntry(entry);
+				entry = next;
+			}
+			wheel[i] = null;
+		}
+		entries.clear();
+	}
+
+	private void link(Entry<K> entry)
+	{
+		int bucket = entry.expiryTick & WHEEL_MASK;
+		Entry<K> head = wheel[bucket];
+		entry.prev = null;
+		entry.next = head;
+		if (head != null)
+		{
+			head.prev = entry;
+		}
+		wheel[bucket] = entry;
+	}
+
+	private void unlink(Entry<K> entry)
+	{
+		if (entry.prev != null)
+		{
+			entry.prev.next = entry.next;
+		}
+		else
+		{
+			wheel[entry.expiryTick & WHEEL_MASK] = entry.next;
+		}
+		if (entry.next != null)
+		{
+			entry.next.prev = entry.prev;
+		}
+		entry.prev = null;
+		entry.next = null;
+	}
+
+	private Entry<K> obtainEntry(K key)
+	{
+		Entry<K> entry = freeEntries;
+		if (entry == null)
+		{
+			entry = new Entry<>();
+		}
+		else
+		{
+			freeEntries = entry.next;
+			entry.next = null;
+		}
+		entry.key = key;
+		return entry;
+	}
+
+	// Entries are recycled so a fight that keeps spawning hazards does not keep allocating them
+	private void releaseEntry(Entry<K> entry)
+	{
+		entry.key = null;
+		entry.prev = null;
+		entry.next = freeEntries;
+		freeEntries = entry;
+	}
+
+	private static final class Entry<K>
+	{
+		private K key;
+		private int expiryTick;
+		private Entry<K> prev;
+		private Entry<K> next;
+	}
+}
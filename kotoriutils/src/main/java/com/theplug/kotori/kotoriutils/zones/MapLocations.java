@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2018, Woox <https://github.com/wooxsolo>
+ * Copyright (c) 2019, Enza-Denino <https://github.com/Enza-Denino>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.theplug.kotori.kotoriutils.zones;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.theplug.kotori.kotoriutils.gson.ZoneInfo;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Constants;
+import net.runelite.api.coords.WorldPoint;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+	Shared world zone geometry. The polygons live in map_zones.json and are only parsed the first time any zone is queried,
+	so plugins that never look at zones pay nothing, and plugins that do all share one copy.
+	A polygon with plane -1 applies to every plane.
+ */
+@Slf4j
+public class MapLocations
+{
+	private static final String ZONES_FILE = "map_zones.json";
+
+	private static final ZoneType[] TYPES = ZoneType.values();
+	private static final Area[][] AREAS = new Area[TYPES.length][Constants.MAX_Z];
+	private static final ZoneIndex[][] INDEXES = new ZoneIndex[TYPES.length][Constants.MAX_Z];
+
+	// Initialization-on-demand holder, the resource is read when Zones.SHAPES is first touched
+	private static final class Zones
+	{
+		private static final List<Shape>[][] SHAPES = load();
+	}
+
+	public static List<Shape> getShapes(ZoneType type, int plane)
+	{
+		return Zones.SHAPES[type.ordinal()][plane];
+	}
+
+	/*
+		Region-indexed lookup of the polygons of a zone type that overlap the given region.
+	 */
+	public static List<Shape> getShapes(ZoneType type, int plane, int regionId)
+	{
+		return getIndex(type, plane).getShapes(regionId);
+	}
+
+	public static boolean contains(ZoneType type, WorldPoint point)
+	{
+		return getIndex(type, point.getPlane()).contains(point.getX(), point.getY());
+	}
+
+	public static Area getArea(ZoneType type, int plane)
+	{
+		return new Area(getCachedArea(type, plane));
+	}
+
+	public static Area getArea(ZoneType type, Rectangle view, int plane)
+	{
+		Area area = new Area();
+		for (Shape shape : getShapes(type, plane))
+		{
+			if (shape.intersects(view))
+			{
+				area.add(new Area(shape));
+			}
+		}
+		return area;
+	}
+
+	public static Area getMulticombat(int plane)
+	{
+		Area area = getArea(ZoneType.MULTICOMBAT, plane);
+		area.subtract(getCachedArea(ZoneType.NOT_MULTICOMBAT, plane));
+		return area;
+	}
+
+	public static Area getMulticombat(Rectangle view, int plane)
+	{
+		Area area = getArea(ZoneType.MULTICOMBAT, view, plane);
+		area.subtract(getArea(ZoneType.NOT_MULTICOMBAT, view, plane));
+		return area;
+	}
+
+	public static Area getRoughWilderness(int plane)
+	{
+		return getArea(ZoneType.ROUGH_WILDERNESS, plane);
+	}
+
+	public static Area getRoughWilderness(Rectangle view, int plane)
+	{
+		return getArea(ZoneType.ROUGH_WILDERNESS, view, plane);
+	}
+
+	public static Area getWildernessLevelLines(int plane)
+	{
+		return getArea(ZoneType.WILDERNESS_LEVEL_LINES, plane);
+	}
+
+	public static Area getWildernessLevelLines(Rectangle view, int plane)
+	{
+		return getArea(ZoneType.WILDERNESS_LEVEL_LINES, view, plane);
+	}
+
+	public static Area getWildernessTeleportLines(int plane)
+	{
+		return getArea(ZoneType.WILDERNESS_TELEPORT_LINES, plane);
+	}
+
+	public static Area getWildernessTeleportLines(Rectangle view, int plane)
+	{
+		return getArea(ZoneType.WILDERNESS_TELEPORT_LINES, view, plane);
+	}
+
+	public static Area getDeadmanSafeZones(int plane)
+	{
+		return getArea(ZoneType.DEADMAN_SAFE_ZONES, plane);
+	}
+
+	public static Area getDeadmanSafeZones(Rectangle view, int plane)
+	{
+		return getArea(ZoneType.DEADMAN_SAFE_ZONES, view, plane);
+	}
+
+	public static Area getPvpSafeZones(int plane)
+	{
+		return getArea(ZoneType.PVP_WORLD_SAFE_ZONES, plane);
+	}
+
+	public static Area getPvpSafeZones(Rectangle view, int plane)
+	{
+		return getArea(ZoneType.PVP_WORLD_SAFE_ZONES, view, plane);
+	}
+
+	public static boolean isInMulticombat(WorldPoint point)
+	{
+		return contains(ZoneType.MULTICOMBAT, point);
+	}
+
+	public static boolean isInDeadmanSafeZone(WorldPoint point)
+	{
+		return contains(ZoneType.DEADMAN_SAFE_ZONES, point);
+	}
+
+	public static boolean isInPvpSafeZone(WorldPoint point)
+	{
+		return contains(ZoneType.PVP_WORLD_SAFE_ZONES, point);
+	}
+
+	private static synchronized Area getCachedArea(ZoneType type, int plane)
+	{
+		Area area = AREAS[type.ordinal()][plane];
+		if (area == null)
+		{
+			area = new Area();
+			for (Shape shape : getShapes(type, plane))
+			{
+				area.add(new Area(shape));
+			}
+			AREAS[type.ordinal()][plane] = area;
+		}
+		return area;
+	}
+
+	private static synchronized ZoneIndex getIndex(ZoneType type, int plane)
+	{
+		ZoneIndex index = INDEXES[type.ordinal()][plane];
+		if (index == null)
+		{
+			// Multicombat is the only zone type with holes cut out of it
+			List<Shape> excluded = type == ZoneType.MULTICOMBAT ? getShapes(ZoneType.NOT_MULTICOMBAT, plane) : List.of();
+			index = new ZoneIndex(getShapes(type, plane), excluded);
+			INDEXES[type.ordinal()][plane] = index;
+		}
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Shape>[][] load()
+	{
+		List<Shape>[][] shapes = new List[TYPES.length][Constants.MAX_Z];
+		for (List<Shape>[] planes : shapes)
+		{
+			for (int plane = 0; plane < planes.length; plane++)
+			{
+				planes[plane] = new ArrayList<>();
+			}
+		}
+
+		for (Map.Entry<ZoneType, List<ZoneInfo>> entry : readZonesFile().entrySet())
+		{
+			List<Shape>[] planes = shapes[entry.getKey().ordinal()];
+			for (ZoneInfo zoneInfo : entry.getValue())
+			{
+				Polygon poly = new Polygon();
+				int[] coords = zoneInfo.getC();
+				for (int i = 0; i < coords.length; i += 2)
+				{
+					poly.addPoint(coords[i], coords[i + 1]);
+				}
+
+				if (zoneInfo.getP() == -1)
+				{
+					for (List<Shape> plane : planes)
+					{
+						plane.add(poly);
+					}
+				}
+				else
+				{
+					planes[zoneInfo.getP()].add(poly);
+				}
+			}
+		}
+
+		for (List<Shape>[] planes : shapes)
+		{
+			for (int plane = 0; plane < planes.length; plane++)
+			{
+				planes[plane] = Collections.unmodifiableList(planes[plane]);
+			}
+		}
+
+		return shapes;
+	}
+
+	private static Map<ZoneType, List<ZoneInfo>> readZonesFile()
+	{
+		Type zonesType = new TypeToken<Map<ZoneType, List<ZoneInfo>>>(){}.getType();
+
+		try (InputStream in = MapLocations.class.getResourceAsStream(ZONES_FILE))
+		{
+			if (in == null)
+			{
+				log.error("Kotori Plugin Utils - Unable to find the zones file \"" + ZONES_FILE + "\".");
+				return new EnumMap<>(ZoneType.class);
+			}
+
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			{
+				Map<ZoneType, List<ZoneInfo>> zones = new Gson().fromJson(reader, zonesType);
+				return zones == null ? new EnumMap<>(ZoneType.class) : zones;
+			}
+		}
+		catch (Exception e)
+		{
+			log.error("Kotori Plugin Utils - Unable to parse the zones file \"" + ZONES_FILE + "\".", e);
+			return new EnumMap<>(ZoneType.class);
+		}
+	}
+}
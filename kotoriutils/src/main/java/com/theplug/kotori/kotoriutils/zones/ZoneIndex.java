@@ -0,0 +1,101 @@
+package com.theplug.kotori.kotoriutils.zones;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+	Buckets zone polygons by the 64x64 map regions their bounds overlap, so a point query only tests the few
+	polygons that can possibly contain it instead of unioning every polygon on the plane into an Area.
+ */
+class ZoneIndex
+{
+	private static final Shape[] NO_SHAPES = new Shape[0];
+
+	private final int[] regionIds;
+	private final Shape[][] included;
+	private final Shape[][] excluded;
+	private final List<List<Shape>> includedViews;
+
+	ZoneIndex(List<Shape> includedShapes, List<Shape> excludedShapes)
+	{
+		Map<Integer, List<Shape>> includedByRegion = bucketByRegion(includedShapes);
+		Map<Integer, List<Shape>> excludedByRegion = bucketByRegion(excludedShapes);
+
+		regionIds = includedByRegion.keySet().stream().mapToInt(Integer::intValue).toArray();
+		included = new Shape[regionIds.length][];
+		excluded = new Shape[regionIds.length][];
+		includedViews = new ArrayList<>(regionIds.length);
+		for (int i = 0; i < regionIds.length; i++)
+		{
+			included[i] = includedByRegion.get(regionIds[i]).toArray(NO_SHAPES);
+			excluded[i] = excludedByRegion.getOrDefault(regionIds[i], List.of()).toArray(NO_SHAPES);
+			includedViews.add(Collections.unmodifiableList(Arrays.asList(included[i])));
+		}
+	}
+
+	ZoneIndex(List<Shape> includedShapes)
+	{
+		this(includedShapes, List.of());
+	}
+
+	boolean contains(int x, int y)
+	{
+		int index = Arrays.binarySearch(regionIds, (x >> 6) << 8 | (y >> 6));
+		if (index < 0)
+		{
+			return false;
+		}
+
+		return containsAny(included[index], x, y) && !containsAny(excluded[index], x, y);
+	}
+
+	List<Shape> getShapes(int regionId)
+	{
+		int index = Arrays.binarySearch(regionIds, regionId);
+		return index < 0 ? List.of() : includedViews.get(index);
+	}
+
+	private static boolean containsAny(Shape[] shapes, int x, int y)
+	{
+		for (Shape shape : shapes)
+		{
+			if (shape.contains(x, y))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Map<Integer, List<Shape>> bucketByRegion(List<Shape> shapes)
+	{
+		Map<Integer, List<Shape>> buckets = new TreeMap<>();
+		for (Shape shape : shapes)
+		{
+			Rectangle bounds = shape.getBounds();
+			int minRegionX = bounds.x >> 6;
+			int maxRegionX = (bounds.x + bounds.width) >> 6;
+			int minRegionY = bounds.y >> 6;
+			int maxRegionY = (bounds.y + bounds.height) >> 6;
+
+			for (int regionX = minRegionX; regionX <= maxRegionX; regionX++)
+			{
+				for (int regionY = minRegionY; regionY <= maxRegionY; regionY++)
+				{
+					List<Shape> bucket = buckets.computeIfAbsent(regionX << 8 | regionY, k -> new ArrayList<>());
+					if (!bucket.contains(shape))
+					{
+						bucket.add(shape);
+					}
+				}
+			}
+		}
+		return buckets;
+	}
+}
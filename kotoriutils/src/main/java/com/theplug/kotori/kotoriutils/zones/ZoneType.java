@@ -0,0 +1,12 @@
+package com.theplug.kotori.kotoriutils.zones;
+
+public enum ZoneType
+{
+	MULTICOMBAT,
+	NOT_MULTICOMBAT,
+	ROUGH_WILDERNESS,
+	WILDERNESS_LEVEL_LINES,
+	WILDERNESS_TELEPORT_LINES,
+	DEADMAN_SAFE_ZONES,
+	PVP_WORLD_SAFE_ZONES
+}
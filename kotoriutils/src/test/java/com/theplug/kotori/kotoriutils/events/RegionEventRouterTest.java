@@ -0,0 +1,107 @@
+package com.theplug.kotori.kotoriutils.events;
+
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ProjectileMoved;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RegionEventRouterTest
+{
+	private final Object first = new Object();
+	private final Object second = new Object();
+	private final int[] hits = new int[2];
+
+	@Before
+	public void setUp()
+	{
+		RegionEventRouter.register(first, 101, 100);
+		RegionEventRouter.subscribe(first, ProjectileMoved.class, event -> hits[0]++);
+		RegionEventRouter.register(second, 200);
+		RegionEventRouter.subscribe(second, ProjectileMoved.class, event -> hits[1]++);
+	}
+
+	@After
+	public void tearDown()
+	{
+		RegionEventRouter.reset();
+	}
+
+	@Test
+	public void nothingIsCalledWithoutARegion()
+	{
+		RegionEventRouter.dispatch(new ProjectileMoved());
+
+		assertEquals(0, hits[0]);
+		assertEquals(0, hits[1]);
+		assertFalse(RegionEventRouter.isActive(first));
+	}
+
+	@Test
+	public void onlyThePluginsOfTheCurrentRegionAreCalled()
+	{
+		RegionEventRouter.setCurrentRegion(101);
+		RegionEventRouter.dispatch(new ProjectileMoved());
+
+		assertEquals(1, hits[0]);
+		assertEquals(0, hits[1]);
+
+		RegionEventRouter.setCurrentRegion(200);
+		RegionEventRouter.dispatch(new ProjectileMoved());
+
+		assertEquals(1, hits[0]);
+		assertEquals(1, hits[1]);
+	}
+
+	@Test
+	public void isActiveFollowsTheRegion()
+	{
+		RegionEventRouter.setCurrentRegion(100);
+		assertTrue(RegionEventRouter.isActive(first));
+		assertFalse(RegionEventRouter.isActive(second));
+
+		RegionEventRouter.setCurrentRegion(200);
+		assertFalse(RegionEventRouter.isActive(first));
+		assertTrue(RegionEventRouter.isActive(second));
+	}
+
+	@Test
+	public void aThrowingListenerDoesNotStopTheOthers()
+	{
+		RegionEventRouter.subscribe(second, ClientTick.class, event ->
+		{
+			throw new IllegalStateException("Thrown on purpose");
+		});
+		int[] ticks = new int[1];
+		RegionEventRouter.subscribe(second, ClientTick.class, event -> ticks[0]++);
+		RegionEventRouter.setCurrentRegion(200);
+
+		RegionEventRouter.dispatch(new ClientTick());
+		RegionEventRouter.dispatch(new ProjectileMoved());
+
+		assertEquals(1, ticks[0]);
+		assertEquals(1, hits[1]);
+	}
+
+	@Test
+	public void unregisteredPluginsAreNotCalled()
+	{
+		RegionEventRouter.setCurrentRegion(200);
+		RegionEventRouter.unregisterAll(second);
+		RegionEventRouter.dispatch(new ProjectileMoved());
+
+		assertEquals(0, hits[1]);
+		assertFalse(RegionEventRouter.isActive(second));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void subscribingToAnEventThatIsNotRoutedThrows()
+	{
+		RegionEventRouter.subscribe(first, GameTick.class, event -> {});
+	}
+}
@@ -30,6 +30,11 @@ project.extra["PluginDescription"] = "Shows borders of multicombat and PvP safez
 project.extra["PluginPackageId"] = "multiindicators" // This is the plugin package folder after the default group package.
 project.extra["PluginMainClassName"] = "MultiIndicatorsPlugin" // This is the plugin's main class which extends Plugin
 
+dependencies {
+    compileOnly(project(":kotoriutils"))
+    testImplementation(project(mapOf("path" to ":kotoriutils")))
+}
+
 tasks {
     jar {
         manifest {
@@ -26,10 +26,11 @@
 package com.theplug.kotori.multiindicators;
 
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.KotoriUtils;
+import com.theplug.kotori.kotoriutils.zones.MapLocations;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.*;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameStateChanged;
@@ -39,6 +40,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
+import net.runelite.client.plugins.PluginDependency;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 
@@ -46,7 +48,13 @@ import javax.inject.Inject;
 import java.awt.*;
 import java.awt.geom.GeneralPath;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+@PluginDependency(KotoriUtils.class)
 @PluginDescriptor(
 	name = "<html><font color=#6b8af6>[P]</font> Multi Indicators</html>",
 	enabledByDefault = false,
@@ -55,6 +63,8 @@ import java.util.Arrays;
 )
 public class MultiIndicatorsPlugin extends Plugin
 {
+	private static final int REGION_SIZE = 64;
+
 	@Inject
 	private Client client;
 
@@ -93,6 +103,21 @@ public class MultiIndicatorsPlugin extends Plugin
 
 	private int currentPlane;
 
+	private int sceneBaseX;
+	private int sceneBaseY;
+
+	// World space line segments per region, keyed by regionId << 2 | plane
+	private final Map<LineType, Map<Integer, GeneralPath>> regionLinesCache = new EnumMap<>(LineType.class);
+
+	private enum LineType
+	{
+		MULTICOMBAT,
+		DEADMAN_SAFE_ZONES,
+		PVP_SAFE_ZONES,
+		WILDERNESS_TELEPORT_LINES,
+		WILDERNESS_LEVEL_LINES
+	}
+
 	@Provides
 	MultiIndicatorsConfig getConfig(ConfigManager configManager)
 	{
@@ -123,6 +148,7 @@ public class MultiIndicatorsPlugin extends Plugin
 		overlayManager.remove(minimapOverlay);
 
 		uninitializePaths();
+		clearRegionLines();
 	}
 
 	private void initializePaths()
@@ -156,12 +182,9 @@ public class MultiIndicatorsPlugin extends Plugin
 
 	private void transformWorldToLocal(float[] coords)
 	{
-		LocalPoint lp = LocalPoint.fromWorld(client.getTopLevelWorldView(), (int) coords[0], (int) coords[1]);
-		if (lp != null)
-		{
-			coords[0] = lp.getX() - Perspective.LOCAL_TILE_SIZE / 2;
-			coords[1] = lp.getY() - Perspective.LOCAL_TILE_SIZE / 2;
-		}
+		// Same result as LocalPoint.fromWorld minus half a tile, without allocating a LocalPoint per path point
+		coords[0] = ((int) coords[0] - sceneBaseX) * Perspective.LOCAL_TILE_SIZE;
+		coords[1] = ((int) coords[1] - sceneBaseY) * Perspective.LOCAL_TILE_SIZE;
 	}
 
 	private boolean isOpenableAt(WorldPoint wp)
@@ -239,115 +262,128 @@ public class MultiIndicatorsPlugin extends Plugin
 
 	private void findLinesInScene()
 	{
-		inDeadman = client.getWorldType().stream().anyMatch(x ->
-			x == WorldType.DEADMAN);
-		inPvp = client.getWorldType().stream().anyMatch(x ->
-			x == WorldType.PVP);
+		boolean deadman = client.getWorldType().contains(WorldType.DEADMAN);
+		boolean pvp = client.getWorldType().contains(WorldType.PVP);
+		if (deadman != inDeadman || pvp != inPvp)
+		{
+			clearRegionLines();
+		}
+		inDeadman = deadman;
+		inPvp = pvp;
+
+		WorldView worldView = client.getTopLevelWorldView();
+		sceneBaseX = worldView.getBaseX();
+		sceneBaseY = worldView.getBaseY();
 
 		Rectangle sceneRect = new Rectangle(
-			client.getTopLevelWorldView().getBaseX() + 1, client.getTopLevelWorldView().getBaseY() + 1,
+			sceneBaseX + 1, sceneBaseY + 1,
 			Constants.SCENE_SIZE - 2, Constants.SCENE_SIZE - 2);
 
-		// Generate lines for multicombat zones
-		if (config.multicombatZoneVisibility() == ZoneVisibility.HIDE)
-		{
-			Arrays.fill(multicombatPathToDisplay, null);
-		}
-		else
+		Set<Integer> sceneRegions = new HashSet<>();
+		for (int regionX = sceneRect.x >> 6; regionX <= (sceneRect.x + sceneRect.width - 1) >> 6; regionX++)
 		{
-			for (int i = 0; i < multicombatPathToDisplay.length; i++)
+			for (int regionY = sceneRect.y >> 6; regionY <= (sceneRect.y + sceneRect.height - 1) >> 6; regionY++)
 			{
-				currentPlane = i;
-
-				GeneralPath lines = new GeneralPath(MapLocations.getMulticombat(sceneRect, i));
-				lines = Geometry.clipPath(lines, sceneRect);
-				if (config.multicombatZoneVisibility() == ZoneVisibility.SHOW_IN_PVP &&
-					!isInDeadman() && !isInPvp())
-				{
-					lines = Geometry.clipPath(lines, MapLocations.getRoughWilderness(i));
-				}
-				lines = Geometry.splitIntoSegments(lines, 1);
-				if (useCollisionLogic())
-				{
-					lines = Geometry.filterPath(lines, this::collisionFilter);
-				}
-				lines = Geometry.transformPath(lines, this::transformWorldToLocal);
-				multicombatPathToDisplay[i] = lines;
+				sceneRegions.add(regionX << 8 | regionY);
 			}
 		}
 
-		// Generate safezone lines for deadman/pvp worlds
-		for (int i = 0; i < pvpPathToDisplay.length; i++)
+		LineType safeZoneType = null;
+		if (config.showDeadmanSafeZones() && isInDeadman())
+		{
+			safeZoneType = LineType.DEADMAN_SAFE_ZONES;
+		}
+		else if (config.showPvpSafeZones() && isInPvp())
+		{
+			safeZoneType = LineType.PVP_SAFE_ZONES;
+		}
+
+		for (int i = 0; i < Constants.MAX_Z; i++)
 		{
 			currentPlane = i;
 
-			GeneralPath safeZonePath = null;
-			if (config.showDeadmanSafeZones() && isInDeadman())
-			{
-				safeZonePath = new GeneralPath(MapLocations.getDeadmanSafeZones(sceneRect, i));
-			}
-			else if (config.showPvpSafeZones() && isInPvp())
-			{
-				safeZonePath = new GeneralPath(MapLocations.getPvpSafeZones(sceneRect, i));
-			}
-			if (safeZonePath != null)
-			{
-				safeZonePath = Geometry.clipPath(safeZonePath, sceneRect);
-				safeZonePath = Geometry.splitIntoSegments(safeZonePath, 1);
-				if (useCollisionLogic())
-				{
-					safeZonePath = Geometry.filterPath(safeZonePath, this::collisionFilter);
-				}
-				safeZonePath = Geometry.transformPath(safeZonePath, this::transformWorldToLocal);
-			}
-			pvpPathToDisplay[i] = safeZonePath;
+			multicombatPathToDisplay[i] = config.multicombatZoneVisibility() == ZoneVisibility.HIDE ? null :
+				getLinesInScene(LineType.MULTICOMBAT, i, sceneRegions, sceneRect);
+			pvpPathToDisplay[i] = safeZoneType == null ? null :
+				getLinesInScene(safeZoneType, i, sceneRegions, sceneRect);
+			wildernessTeleportLinesPathToDisplay[i] = !config.showWildernessTeleportLines() ? null :
+				getLinesInScene(LineType.WILDERNESS_TELEPORT_LINES, i, sceneRegions, sceneRect);
+			wildernessLevelLinesPathToDisplay[i] = !config.showWildernessLevelLines() ? null :
+				getLinesInScene(LineType.WILDERNESS_LEVEL_LINES, i, sceneRegions, sceneRect);
 		}
 
-		// Generate wilderness Teleport lines
-		for (int i = 0; i < wildernessTeleportLinesPathToDisplay.length; i++)
+		// Regions that scrolled out of the scene are dropped, the ones still loaded are kept for the next scene shift
+		for (Map<Integer, GeneralPath> regionLines : regionLinesCache.values())
 		{
-			currentPlane = i;
+			regionLines.keySet().removeIf(key -> !sceneRegions.contains(key >> 2));
+		}
+	}
 
-			GeneralPath wildernessTeleportLinesPath = null;
-			if (config.showWildernessTeleportLines())
-			{
-				wildernessTeleportLinesPath = new GeneralPath(MapLocations.getWildernessTeleportLines(sceneRect, i));
-			}
-			if (wildernessTeleportLinesPath != null)
-			{
-				wildernessTeleportLinesPath = Geometry.clipPath(wildernessTeleportLinesPath, sceneRect);
-				wildernessTeleportLinesPath = Geometry.splitIntoSegments(wildernessTeleportLinesPath, 1);
-				if (useCollisionLogic())
-				{
-					wildernessTeleportLinesPath = Geometry.filterPath(wildernessTeleportLinesPath, this::collisionFilter);
-				}
-				wildernessTeleportLinesPath = Geometry.transformPath(wildernessTeleportLinesPath, this::transformWorldToLocal);
-			}
-			wildernessTeleportLinesPathToDisplay[i] = wildernessTeleportLinesPath;
+	/*
+		Stitches the cached world space segments of every region in the scene together and moves them into local space.
+		Only regions that have not been seen since the last clear are clipped and split.
+	 */
+	private GeneralPath getLinesInScene(LineType type, int plane, Set<Integer> sceneRegions, Rectangle sceneRect)
+	{
+		Map<Integer, GeneralPath> regionLines = regionLinesCache.computeIfAbsent(type, k -> new HashMap<>());
+
+		GeneralPath lines = new GeneralPath();
+		for (int regionId : sceneRegions)
+		{
+			GeneralPath segments = regionLines.computeIfAbsent(regionId << 2 | plane, k -> generateRegionLines(type, plane, regionId));
+			lines.append(segments, false);
 		}
 
-		// Generate wilderness level lines
-		for (int i = 0; i < wildernessLevelLinesPathToDisplay.length; i++)
+		lines = Geometry.filterPath(lines, (p1, p2) -> sceneRect.contains((p1[0] + p2[0]) / 2, (p1[1] + p2[1]) / 2));
+		if (useCollisionLogic())
 		{
-			currentPlane = i;
+			lines = Geometry.filterPath(lines, this::collisionFilter);
+		}
+		return Geometry.transformPath(lines, this::transformWorldToLocal);
+	}
 
-			GeneralPath wildernessLevelLinesPath = null;
-			if (config.showWildernessLevelLines())
-			{
-				wildernessLevelLinesPath = new GeneralPath(MapLocations.getWildernessLevelLines(sceneRect, i));
-			}
-			if (wildernessLevelLinesPath != null)
-			{
-				wildernessLevelLinesPath = Geometry.clipPath(wildernessLevelLinesPath, sceneRect);
-				wildernessLevelLinesPath = Geometry.splitIntoSegments(wildernessLevelLinesPath, 1);
-				if (useCollisionLogic())
-				{
-					wildernessLevelLinesPath = Geometry.filterPath(wildernessLevelLinesPath, this::collisionFilter);
-				}
-				wildernessLevelLinesPath = Geometry.transformPath(wildernessLevelLinesPath, this::transformWorldToLocal);
-			}
-			wildernessLevelLinesPathToDisplay[i] = wildernessLevelLinesPath;
+	private GeneralPath generateRegionLines(LineType type, int plane, int regionId)
+	{
+		Rectangle regionRect = new Rectangle((regionId >> 8) << 6, (regionId & 0xFF) << 6, REGION_SIZE, REGION_SIZE);
+		// Zone borders often sit exactly on region edges, so shapes are gathered with a one tile margin and
+		// every unit segment is then kept by the single region its midpoint falls in
+		Rectangle gatherRect = new Rectangle(regionRect.x - 1, regionRect.y - 1, REGION_SIZE + 2, REGION_SIZE + 2);
+
+		GeneralPath lines;
+		switch (type)
+		{
+			case MULTICOMBAT:
+				lines = new GeneralPath(MapLocations.getMulticombat(gatherRect, plane));
+				break;
+			case DEADMAN_SAFE_ZONES:
+				lines = new GeneralPath(MapLocations.getDeadmanSafeZones(gatherRect, plane));
+				break;
+			case PVP_SAFE_ZONES:
+				lines = new GeneralPath(MapLocations.getPvpSafeZones(gatherRect, plane));
+				break;
+			case WILDERNESS_TELEPORT_LINES:
+				lines = new GeneralPath(MapLocations.getWildernessTeleportLines(gatherRect, plane));
+				break;
+			case WILDERNESS_LEVEL_LINES:
+				lines = new GeneralPath(MapLocations.getWildernessLevelLines(gatherRect, plane));
+				break;
+			default:
+				return new GeneralPath();
 		}
+
+		lines = Geometry.clipPath(lines, gatherRect);
+		if (type == LineType.MULTICOMBAT && config.multicombatZoneVisibility() == ZoneVisibility.SHOW_IN_PVP &&
+			!isInDeadman() && !isInPvp())
+		{
+			lines = Geometry.clipPath(lines, MapLocations.getRoughWilderness(plane));
+		}
+		lines = Geometry.splitIntoSegments(lines, 1);
+		return Geometry.filterPath(lines, (p1, p2) -> regionRect.contains((p1[0] + p2[0]) / 2, (p1[1] + p2[1]) / 2));
+	}
+
+	private void clearRegionLines()
+	{
+		regionLinesCache.clear();
 	}
 
 	private boolean useCollisionLogic()
@@ -371,6 +407,7 @@ public class MultiIndicatorsPlugin extends Plugin
 			event.getKey().equals("wildernessLevelLines") ||
 			event.getKey().equals("wildernessTeleportLines"))
 		{
+			clearRegionLines();
 			findLinesInScene();
 		}
 	}
@@ -1,5 +1,6 @@
 package com.theplug.kotori.multiindicators;
 
+import com.theplug.kotori.kotoriutils.KotoriUtils;
 import net.runelite.client.RuneLite;
 import net.runelite.client.externalplugins.ExternalPluginManager;
 
@@ -7,7 +8,7 @@ public class MultiIndicatorsPluginTest
 {
 	public static void main(String[] args) throws Exception
 	{
-		ExternalPluginManager.loadBuiltin(MultiIndicatorsPlugin.class);
+		ExternalPluginManager.loadBuiltin(KotoriUtils.class, MultiIndicatorsPlugin.class);
 		RuneLite.main(args);
 	}
 }
\ No newline at end of file
@@ -15,7 +15,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.theplug.kotori.kotoriutils.KotoriUtils;
-import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
+import com.theplug.kotori.kotoriutils.chat.ChatDispatcher;
+import com.theplug.kotori.kotoriutils.chat.ChatMatch;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
+import com.theplug.kotori.kotoriutils.methods.ActorSnapshot;
 import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
 import lombok.Getter;
 import lombok.NonNull;
@@ -32,7 +35,6 @@ import net.runelite.api.Renderable;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.AnimationChanged;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
@@ -86,6 +88,29 @@ public class NexPlugin extends Plugin
 	private Hooks hooks;
 	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
 
+	private static final List<String> NEX_SHOUTS = List.of(
+		NexText.NEX_FIGHT_BEGINNING,
+		NexText.NEX_SMOKE_PHASE,
+		NexText.NEX_SHADOW_PHASE,
+		NexText.NEX_BLOOD_PHASE,
+		NexText.NEX_ICE_PHASE,
+		NexText.NEX_ZAROS_PHASE,
+		NexText.NEX_FIGHT_ENDING,
+		NexText.CAN_ATTACK_FUMUS,
+		NexText.CAN_ATTACK_UMBRA,
+		NexText.CAN_ATTACK_CRUOR,
+		NexText.CAN_ATTACK_GLACIES,
+		NexText.NEX_SPECIAL_CHOKE,
+		NexText.NEX_SPECIAL_EMBRACE_DARKNESS,
+		NexText.NEX_SPECIAL_BLOOD_SIPHON,
+		NexText.NEX_SPECIAL_BLOOD_SACRIFICE,
+		NexText.NEX_SPECIAL_CONTAIN,
+		NexText.NEX_SPECIAL_ICE_PRISON,
+		NexText.NEX_SPECIAL_DASH,
+		NexText.NEX_SPECIAL_BLOOD_SACRIFICE_PERSONAL,
+		NexText.INVALID_ATTACK
+	);
+
 	private static final int SHADOW_ID = 42942;
 	private static final int ICE_TRAP_ID = 42944;
 	private static final int COUGH_GRAPHIC_ID = 1103;
@@ -227,7 +252,11 @@ public class NexPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
-		if (client.getGameState() != GameState.LOGGED_IN || !isInNexRegion())
+		RegionEventRouter.register(this, NEX_REGION_ID);
+		RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+		RegionEventRouter.subscribe(this, GameObjectSpawned.class, this::onGameObjectSpawned);
+
+		if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
 		{
 			return;
 		}
@@ -244,10 +273,31 @@ public class NexPlugin extends Plugin
 		overlayManager.add(prayerInfoBox);
 		reset();
 		hooks.registerRenderableDrawListener(drawListener);
+		registerChatTriggers();
+	}
+
+	/*
+		Nex's shouts arrive as NPC_SAY messages, sometimes prefixed with "Nex|". Both forms are registered so the
+		dispatcher only calls back for the lines handleNexShout knows about.
+	 */
+	private void registerChatTriggers()
+	{
+		ChatDispatcher.unregisterAll(this);
+		for (String shout : NEX_SHOUTS)
+		{
+			ChatDispatcher.register(this, ChatMessageType.NPC_SAY, ChatMatch.EQUALS, shout, (event, text) -> handleNexShout(shout));
+			ChatDispatcher.register(this, ChatMessageType.NPC_SAY, ChatMatch.EQUALS, "nex|" + shout, (event, text) -> handleNexShout(shout));
+		}
 	}
 
 	@Override
 	protected void shutDown()
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		inNexRegion = false;
 		
@@ -255,6 +305,7 @@ public class NexPlugin extends Plugin
 		overlayManager.remove(prayerOverlay);
 		overlayManager.remove(prayerInfoBox);
 		hooks.unregisterRenderableDrawListener(drawListener);
+		ChatDispatcher.unregisterAll(this);
 		reset();
 	}
 
@@ -297,7 +348,7 @@ public class NexPlugin extends Plugin
 		switch(gamestate)
 		{
 			case LOGGED_IN:
-				if (isInNexRegion())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!inNexRegion)
 					{
@@ -308,7 +359,7 @@ public class NexPlugin extends Plugin
 				{
 					if (inNexRegion)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -316,7 +367,7 @@ public class NexPlugin extends Plugin
 			case LOGIN_SCREEN:
 				if (inNexRegion)
 				{
-					shutDown();
+					stop();
 				}
 				break;
 			default:
@@ -324,7 +375,9 @@ public class NexPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in the Nex region.
+	 */
 	public void onAnimationChanged(AnimationChanged event)
 	{
 		if (!inNexRegion)
@@ -516,7 +569,9 @@ public class NexPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	/*
+		Routed, so it only runs while the player is in the Nex region.
+	 */
 	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
 		if (!inNexRegion || !inFight)
@@ -590,14 +645,12 @@ public class NexPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	private void onChatMessage(ChatMessage event)
+	private void handleNexShout(String message)
 	{
-		if (!inNexRegion || !inFight || event.getType() != ChatMessageType.NPC_SAY)
+		if (!inNexRegion || !inFight)
 		{
 			return;
 		}
-		String message = event.getMessage().toLowerCase().replaceFirst("nex\\|", "").replaceAll("<[^>]+>", "").strip();
 
 		if (setPhase(message))
 		{
@@ -698,7 +751,7 @@ public class NexPlugin extends Plugin
 		if (lastActive == null)
 		{
 			var currentMinionId = NexPhase.getMinionId(getCurrentPhase());
-			var active = NPCInteractions.getNpcs().stream().filter(npc -> npc.getId() == currentMinionId).findFirst().orElse(null);
+			var active = ActorSnapshot.get().getFirstNpc(currentMinionId);
 			lastActive = active;
 			return active;
 		}
@@ -836,9 +889,4 @@ public class NexPlugin extends Plugin
 
 		return true;
 	}
-	
-	private boolean isInNexRegion()
-	{
-		return MiscUtilities.getPlayerRegionID() == NEX_REGION_ID;
-	}
 }
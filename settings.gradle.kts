@@ -27,6 +27,7 @@ rootProject.name = "kotori-ported-plugins"
 
 include(":alchemicalhelper")
 include(":cerberushelper")
+include(":configsnapshot")
 include(":dagannothhelper")
 include(":demonicgorillas")
 include(":effecttimers")
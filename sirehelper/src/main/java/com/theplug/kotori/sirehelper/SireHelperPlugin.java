@@ -1,12 +1,14 @@
 package com.theplug.kotori.sirehelper;
 
 import com.google.inject.Provides;
+import com.theplug.kotori.kotoriutils.chat.ChatDispatcher;
+import com.theplug.kotori.kotoriutils.chat.ChatMatch;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
 import com.theplug.kotori.kotoriutils.ReflectionLibrary;
 import com.theplug.kotori.kotoriutils.methods.*;
 import com.theplug.kotori.kotoriutils.rlapi.Spells;
+import com.theplug.kotori.kotoriutils.timers.TickCountdown;
 import com.theplug.kotori.sirehelper.entity.AbyssalSire;
-import com.theplug.kotori.sirehelper.entity.MiasmaPools;
 import com.theplug.kotori.sirehelper.entity.RespiratorySystem;
 import com.theplug.kotori.sirehelper.entity.Spawn;
 import lombok.Getter;
@@ -56,11 +58,12 @@ public class SireHelperPlugin extends Plugin
 	);
 
 	private static final int MIASMA_ID = 1275;
+	private static final int MIASMA_TICKS = 7;
 	private static final int SIRE_GET_OFF_THRONE_ANIMATION_ID = 4532;
 	private static final int SIRE_DEATH_ANIMATION_ID = 7100;
 
 	@Getter
-	private final Map<LocalPoint, MiasmaPools> miasmaPoolsMap = new HashMap<>();
+	private final TickCountdown<LocalPoint> miasmaPoolsMap = new TickCountdown<>();
 	@Getter
 	private final Map<WorldPoint, RespiratorySystem> respiratorsMap = new HashMap<>();
 	@Getter
@@ -122,6 +125,7 @@ public class SireHelperPlugin extends Plugin
 	protected void shutDown()
 	{
 		atSire = false;
+		ChatDispatcher.unregisterAll(this);
 
 		miasmaPoolsMap.clear();
 		respiratorsMap.clear();
@@ -149,6 +153,9 @@ public class SireHelperPlugin extends Plugin
 	{
 		atSire = true;
 
+		ChatDispatcher.unregisterAll(this);
+		ChatDispatcher.register(this, null, ChatMatch.EQUALS, ABYSSAL_SIRE_STUN_MESSAGE, (event, text) -> onSireStunned());
+
 		isYourSireKill = false;
 		dodgedExplosion = false;
 		phaseTwoSwitchDone = false;
@@ -298,8 +305,7 @@ public class SireHelperPlugin extends Plugin
 
 		if (graphic.getId() == MIASMA_ID)
 		{
-			miasmaPoolsMap.remove(localPoint);
-			miasmaPoolsMap.put(localPoint, new MiasmaPools(graphic));
+			miasmaPoolsMap.put(localPoint, MIASMA_TICKS);
 		}
 	}
 
@@ -495,21 +501,15 @@ public class SireHelperPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	private void onChatMessage(ChatMessage event)
+	private void onSireStunned()
 	{
 		if (!atSire || abyssalSire == null)
 		{
 			return;
 		}
 
-		String message = event.getMessage();
-
-		if (message.equals(ABYSSAL_SIRE_STUN_MESSAGE))
-		{
-			abyssalSire.setStunned(true);
-			abyssalSire.resetStunTimer();
-		}
+		abyssalSire.setStunned(true);
+		abyssalSire.resetStunTimer();
 	}
 
 	private boolean checkIfAtSire()
@@ -586,30 +586,7 @@ public class SireHelperPlugin extends Plugin
 
 	private void updateMiasmaPools()
 	{
-		if (miasmaPoolsMap.isEmpty())
-		{
-			return;
-		}
-
-		Set<LocalPoint> miasmaKeysToRemove = new HashSet<>();
-
-		for (Map.Entry<LocalPoint, MiasmaPools> pool : miasmaPoolsMap.entrySet())
-		{
-			MiasmaPools poolValue = pool.getValue();
-			if (poolValue.getTicksUntilDespawn() <= 1)
-			{
-				miasmaKeysToRemove.add(pool.getKey());
-			}
-			else
-			{
-				poolValue.decrementTicksUntilDespawn();
-			}
-		}
-
-		for (LocalPoint poolPoint : miasmaKeysToRemove)
-		{
-			miasmaPoolsMap.remove(poolPoint);
-		}
+		miasmaPoolsMap.tick();
 	}
 
 	private void dodgeMiasmaPools(LocalPoint playerLocal, WorldPoint playerWorld)
@@ -619,7 +596,7 @@ public class SireHelperPlugin extends Plugin
 			return;
 		}
 
-		if (!miasmaPoolsMap.containsKey(playerLocal))
+		if (!miasmaPoolsMap.contains(playerLocal))
 		{
 			if (miasmaDodgeTile != null)
 			{
@@ -693,7 +670,7 @@ public class SireHelperPlugin extends Plugin
 				}
 				break;
 			case 2:
-				if (miasmaPoolsMap.containsKey(playerLocal))
+				if (miasmaPoolsMap.contains(playerLocal))
 				{
 					WorldPoint phaseThreeTile = new WorldPoint(playerWorld.getX(), playerWorld.getY() + 2, playerWorld.getPlane());
 					if (config.autoAttackAfterDodging())
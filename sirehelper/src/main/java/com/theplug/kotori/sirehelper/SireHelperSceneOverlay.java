@@ -2,7 +2,6 @@ package com.theplug.kotori.sirehelper;
 
 import com.theplug.kotori.kotoriutils.overlay.OverlayUtility;
 import com.theplug.kotori.sirehelper.entity.AbyssalSire;
-import com.theplug.kotori.sirehelper.entity.MiasmaPools;
 import com.theplug.kotori.sirehelper.entity.RespiratorySystem;
 import com.theplug.kotori.sirehelper.entity.Spawn;
 import net.runelite.api.Client;
@@ -87,19 +86,15 @@ public class SireHelperSceneOverlay extends Overlay
             return;
         }
 
-        Map<LocalPoint, MiasmaPools> miasmaPoolsMap = plugin.getMiasmaPoolsMap();
-
-        for (Map.Entry<LocalPoint, MiasmaPools> miasmaEntry : miasmaPoolsMap.entrySet())
+        plugin.getMiasmaPoolsMap().forEach((localPoint, ticksUntilDespawn) ->
         {
-            LocalPoint localPoint = miasmaEntry.getKey();
-
             WorldPoint worldPoint = WorldPoint.fromLocal(client, localPoint);
             if (worldPoint.getPlane() != client.getTopLevelWorldView().getPlane())
             {
-                continue;
+                return;
             }
 
-            final String countdown = String.valueOf(miasmaEntry.getValue().getTicksUntilDespawn());
+            final String countdown = String.valueOf(ticksUntilDespawn);
 
             if (config.highlightMiasmaPools())
             {
@@ -110,7 +105,7 @@ public class SireHelperSceneOverlay extends Overlay
                 OverlayUtility.renderTextLocation(graphics2D, client, localPoint, countdown, config.miasmaTimerSize(),
                         Font.BOLD, config.miasmaTimerColor(), true, 0);
             }
-        }
+        });
     }
 
     private void renderRespiratoryInfo(Graphics2D graphics2D)
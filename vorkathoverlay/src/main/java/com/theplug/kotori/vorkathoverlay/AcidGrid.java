@@ -0,0 +1,258 @@
+package com.theplug.kotori.vorkathoverlay;
+
+import java.util.Arrays;
+import net.runelite.api.Constants;
+
+/*
+	Acid pool occupancy for the loaded scene, one bit per tile.
+	Alongside the bitset every tile keeps the length of the acid free run that starts on it in each of the four directions.
+	The runs are patched along the affected row and column whenever a pool spawns or despawns, so path searches read a
+	run length instead of probing tile by tile.
+	Cells follow the scene layout (sceneX * SCENE_SIZE + sceneY), the scene base is captured by reset().
+ */
+class AcidGrid
+{
+	private static final int SIZE = Constants.SCENE_SIZE;
+	private static final int X_STRIDE = SIZE;
+	private static final int Y_STRIDE = 1;
+
+	private final long[] acid = new long[(SIZE * SIZE + 63) >> 6];
+
+	// Acid free tiles from a cell onwards (inclusive), 0 on an acid tile
+	private final byte[] runPositiveX = new byte[SIZE * SIZE];
+	private final byte[] runNegativeX = new byte[SIZE * SIZE];
+	private final byte[] runPositiveY = new byte[SIZE * SIZE];
+	private final byte[] runNegativeY = new byte[SIZE * SIZE];
+
+	// Acid cells in spawn order, with each cell's position in the list so a despawn is a swap remove
+	private final int[] cells = new int[SIZE * SIZE];
+	private final short[] positions = new short[SIZE * SIZE];
+	private int size;
+
+	private int baseX;
+	private int baseY;
+	private int plane = -1;
+
+	AcidGrid()
+	{
+		fillRuns();
+	}
+
+	/*
+		Empties the grid if the scene base or plane moved since the grid was anchored, and anchors it to the new scene.
+	 */
+	void anchor(int baseX, int baseY, int plane)
+	{
+		if (this.baseX == baseX && this.baseY == baseY && this.plane == plane)
+		{
+			return;
+		}
+		reset();
+		this.baseX = baseX;
+		this.baseY = baseY;
+		this.plane = plane;
+	}
+
+	void reset()
+	{
+		for (int i = 0; i < size; i++)
+		{
+			int cell = cells[i];
+			acid[cell >> 6] &= ~(1L << cell);
+		}
+		if (size > 0)
+		{
+			fillRuns();
+		}
+		size = 0;
+	}
+
+	boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	int getWorldX(int index)
+	{
+		return baseX + cells[index] / SIZE;
+	}
+
+	int getWorldY(int index)
+	{
+		return baseY + cells[index] % SIZE;
+	}
+
+	int getPlane()
+	{
+		return plane;
+	}
+
+	boolean isAcid(int worldX, int worldY)
+	{
+		int cell = toCell(worldX, worldY);
+		return cell != -1 && isAcid(cell);
+	}
+
+	/*
+		Returns false if the tile was already acid or lies outside the scene.
+	 */
+	boolean add(int worldX, int worldY)
+	{
+		int cell = toCell(worldX, worldY);
+		if (cell == -1 || isAcid(cell))
+		{
+			return false;
+		}
+
+		acid[cell >> 6] |= 1L << cell;
+		positions[cell] = (short) size;
+		cells[size++] = cell;
+		updateRuns(cell);
+		return true;
+	}
+
+	boolean remove(int worldX, int worldY)
+	{
+		int cell = toCell(worldX, worldY);
+		if (cell == -1 || !isAcid(cell))
+		{
+			return false;
+		}
+
+		acid[cell >> 6] &= ~(1L << cell);
+		int position = positions[cell];
+		int last = cells[--size];
+		cells[position] = last;
+		positions[last] = (short) position;
+		updateRuns(cell);
+		return true;
+	}
+
+	/*
+		Number of acid free tiles walking from the given tile (inclusive) in the direction (dx, dy), where exactly one of dx and dy is
+		+1 or -1. Tiles outside the scene count as blocked.
+	 */
+	int freeRun(int worldX, int worldY, int dx, int dy)
+	{
+		int cell = toCell(worldX, worldY);
+		if (cell == -1)
+		{
+			return 0;
+		}
+
+		if (dx > 0)
+		{
+			return runPositiveX[cell];
+		}
+		if (dx < 0)
+		{
+			return runNegativeX[cell];
+		}
+		return dy > 0 ? runPositiveY[cell] : runNegativeY[cell];
+	}
+
+	/*
+		Number of acid free tiles stepping away from the given tile (exclusive) in the direction (dx, dy), stopping at the first acid
+		tile or the first tile outside the box [minX, maxX] x [minY, maxY]. A start outside the box finds nothing towards a box side it is
+		more than one tile past.
+	 */
+	int freeSteps(int worldX, int worldY, int dx, int dy, int minX, int maxX, int minY, int maxY)
+	{
+		final int nextX = worldX + dx;
+		final int nextY = worldY + dy;
+		if (nextX < minX || nextX > maxX || nextY < minY || nextY > maxY)
+		{
+			return 0;
+		}
+
+		final int inBox;
+		if (dx != 0)
+		{
+			inBox = dx > 0 ? maxX - worldX : worldX - minX;
+		}
+		else
+		{
+			inBox = dy > 0 ? maxY - worldY : worldY - minY;
+		}
+		return Math.min(inBox, freeRun(nextX, nextY, dx, dy));
+	}
+
+	private int toCell(int worldX, int worldY)
+	{
+		int sceneX = worldX - baseX;
+		int sceneY = worldY - baseY;
+		if (plane == -1 || sceneX < 0 || sceneY < 0 || sceneX >= SIZE || sceneY >= SIZE)
+		{
+			return -1;
+		}
+		return sceneX * SIZE + sceneY;
+	}
+
+	private boolean isAcid(int cell)
+	{
+		return (acid[cell >> 6] & (1L << cell)) != 0;
+	}
+
+	/*
+		A change on a cell only shortens or lengthens the runs that reach it, which are the free tiles behind it in its row and column.
+	 */
+	private void updateRuns(int cell)
+	{
+		int sceneX = cell / SIZE;
+		int sceneY = cell % SIZE;
+
+		// Runs towards +X are read from the cell on the +X side, so walk back towards -X from the changed cell
+		patchRun(runPositiveX, cell, sceneX, X_STRIDE, -1);
+		patchRun(runNegativeX, cell, sceneX, X_STRIDE, 1);
+		patchRun(runPositiveY, cell, sceneY, Y_STRIDE, -1);
+		patchRun(runNegativeY, cell, sceneY, Y_STRIDE, 1);
+	}
+
+	/*
+		Recomputes the runs of one direction from the changed cell backwards, stopping at the first acid tile behind it
+		whose run is always 0. walk is the step against the run's direction, -1 or +1 along the axis.
+	 */
+	private void patchRun(byte[] runs, int cell, int axisPosition, int stride, int walk)
+	{
+		int step = walk * stride;
+		int ahead = axisPosition - walk;
+		int run = ahead < 0 || ahead >= SIZE ? 0 : runs[cell - step];
+
+		for (int position = axisPosition; position >= 0 && position < SIZE; position += walk, cell += step)
+		{
+			if (isAcid(cell))
+			{
+				runs[cell] = 0;
+				if (position != axisPosition)
+				{
+					break;
+				}
+				run = 0;
+			}
+			else
+			{
+				runs[cell] = (byte) ++run;
+			}
+		}
+	}
+
+	private void fillRuns()
+	{
+		for (int x = 0; x < SIZE; x++)
+		{
+			for (int y = 0; y < SIZE; y++)
+			{
+				int cell = x * SIZE + y;
+				runPositiveX[cell] = (byte) (SIZE - x);
+				runNegativeX[cell] = (byte) (x + 1);
+				runPositiveY[cell] = (byte) (SIZE - y);
+				runNegativeY[cell] = (byte) (y + 1);
+			}
+		}
+	}
+}
@@ -70,12 +70,12 @@ public class AcidPathOverlay extends Overlay
 			return null;
 		}
 
-		if (config.indicateAcidPools() && plugin.getAcidSpots() != null
-			&& !plugin.getAcidSpots().isEmpty())
+		final AcidGrid acidGrid = plugin.getAcidGrid();
+		if (config.indicateAcidPools() && !acidGrid.isEmpty())
 		{
-			for (WorldPoint acidWorldPoint : plugin.getAcidSpots())
+			for (int i = 0; i < acidGrid.size(); i++)
 			{
-				LocalPoint acidLocalPoint = LocalPoint.fromWorld(client.getTopLevelWorldView(), acidWorldPoint);
+				LocalPoint acidLocalPoint = LocalPoint.fromWorld(client.getTopLevelWorldView(), acidGrid.getWorldX(i), acidGrid.getWorldY(i));
 				if (acidLocalPoint == null)
 				{
 					continue;
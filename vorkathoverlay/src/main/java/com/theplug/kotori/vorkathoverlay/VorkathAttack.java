@@ -26,8 +26,9 @@
 package com.theplug.kotori.vorkathoverlay;
 
 import com.theplug.kotori.kotoriutils.rlapi.GraphicIDPlus;
-import com.google.common.collect.ImmutableMap;
-import java.util.Map;
+import com.theplug.kotori.kotoriutils.lookup.IdIndex;
+import java.util.EnumSet;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -81,33 +82,10 @@ public enum VorkathAttack
 	 */
 	ZOMBIFIED_SPAWN(VorkathPlugin.VORKATH_FIRE_BOMB_OR_SPAWN_ATTACK, GraphicIDPlus.VORKATH_SPAWN_AOE);
 
-	private static final Map<Integer, VorkathAttack> VORKATH_ATTACKS;
-	private static final Map<Integer, VorkathAttack> VORKATH_BASIC_ATTACKS;
-
-	static
-	{
-		ImmutableMap.Builder<Integer, VorkathAttack> builder = new ImmutableMap.Builder<>();
-		for (VorkathAttack vorkathAttack : values())
-		{
-			builder.put(vorkathAttack.getProjectileID(), vorkathAttack);
-		}
-		VORKATH_ATTACKS = builder.build();
-	}
-
-	static
-	{
-		ImmutableMap.Builder<Integer, VorkathAttack> builder = new ImmutableMap.Builder<>();
-		builder.put(FIRE_BREATH.getProjectileID(), FIRE_BREATH)
-			.put(PRAYER_BREATH.getProjectileID(), PRAYER_BREATH)
-			.put(VENOM_BREATH.getProjectileID(), VENOM_BREATH)
-			.put(SPIKE.getProjectileID(), SPIKE)
-			.put(ICE.getProjectileID(), ICE)
-			.put(FIRE_BOMB.getProjectileID(), FIRE_BOMB)
-			.put(FIRE_BALL.getProjectileID(), FIRE_BALL);
-		// FIRE_BOMB and FIRE_BALL are also basic attacks
-		// Although SLASH_ATTACK is a basic attack, we're going to handle it differently
-		VORKATH_BASIC_ATTACKS = builder.build();
-	}
+	private static final IdIndex<VorkathAttack> VORKATH_ATTACKS = IdIndex.of(VorkathAttack.class, VorkathAttack::getProjectileID);
+	// FIRE_BOMB and FIRE_BALL are also basic attacks
+	// Although SLASH_ATTACK is a basic attack, we're going to handle it differently
+	private static final Set<VorkathAttack> VORKATH_BASIC_ATTACKS = EnumSet.of(FIRE_BREATH, PRAYER_BREATH, VENOM_BREATH, SPIKE, ICE, FIRE_BOMB, FIRE_BALL);
 
 	private final int vorkathAnimationID;
 	private final int projectileID;
@@ -128,6 +106,7 @@ public enum VorkathAttack
 	 */
 	public static boolean isBasicAttack(int projectileID)
 	{
-		return VORKATH_BASIC_ATTACKS.get(projectileID) != null;
+		VorkathAttack vorkathAttack = VORKATH_ATTACKS.get(projectileID);
+		return vorkathAttack != null && VORKATH_BASIC_ATTACKS.contains(vorkathAttack);
 	}
 }
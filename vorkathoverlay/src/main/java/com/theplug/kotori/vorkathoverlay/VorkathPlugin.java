@@ -45,6 +45,7 @@ import net.runelite.api.GameObject;
 import net.runelite.api.NPC;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.Projectile;
+import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ClientTick;
@@ -99,10 +100,17 @@ public class VorkathPlugin extends Plugin
 	private ArrayList<Projectile> vorkathProjectiles = new ArrayList<>();
 
 	@Getter(AccessLevel.PACKAGE)
-	private List<WorldPoint> acidSpots = new ArrayList<>();
+	private final AcidGrid acidGrid = new AcidGrid();
 
 	@Getter(AccessLevel.PACKAGE)
-	private List<WorldPoint> acidFreePath = new ArrayList<>();
+	private final List<WorldPoint> acidFreePath = new ArrayList<>();
+
+	// The path currently held in acidFreePath, so the list is only rebuilt when the best path changes
+	private int pathBaseX;
+	private int pathBaseY;
+	private int pathAxis = -1;
+	private int pathPositive;
+	private int pathNegative;
 
 	@Getter(AccessLevel.PACKAGE)
 	private WorldPoint[] wooxWalkPath = new WorldPoint[2];
@@ -289,7 +297,8 @@ public class VorkathPlugin extends Plugin
 
 		if (obj.getId() == ObjectID.OLM_ACID_POOL || obj.getId() == ObjectID.VORKATH_ACID)
 		{
-			acidSpots.remove(obj.getWorldLocation());
+			final WorldPoint acidSpotLocation = obj.getWorldLocation();
+			acidGrid.remove(acidSpotLocation.getX(), acidSpotLocation.getY());
 		}
 	}
 
@@ -344,7 +353,7 @@ public class VorkathPlugin extends Plugin
 		checkVorkathAnimationID();
 
 		// Update the acid free path every tick to account for player movement
-		if (config.indicateAcidFreePath() && !acidSpots.isEmpty())
+		if (config.indicateAcidFreePath() && !acidGrid.isEmpty())
 		{
 			calculateAcidFreePath();
 		}
@@ -385,12 +394,12 @@ public class VorkathPlugin extends Plugin
 			return;
 		}
 		
-		if (acidSpots.size() != lastAcidSpotsSize)
+		if (acidGrid.size() != lastAcidSpotsSize)
 		{
-			if (acidSpots.isEmpty())
+			if (acidGrid.isEmpty())
 			{
 				overlayManager.remove(acidPathOverlay);
-				acidFreePath.clear();
+				clearAcidFreePath();
 				Arrays.fill(wooxWalkPath, null);
 				wooxWalkTimer = -1;
 			}
@@ -408,7 +417,7 @@ public class VorkathPlugin extends Plugin
 				overlayManager.add(acidPathOverlay);
 			}
 
-			lastAcidSpotsSize = acidSpots.size();
+			lastAcidSpotsSize = acidGrid.size();
 		}
 	}
 
@@ -422,39 +431,43 @@ public class VorkathPlugin extends Plugin
 
 	private void addAcidSpot(WorldPoint acidSpotLocation)
 	{
-		if (!acidSpots.contains(acidSpotLocation))
-		{
-			acidSpots.add(acidSpotLocation);
-		}
+		final WorldView wv = client.getTopLevelWorldView();
+		acidGrid.anchor(wv.getBaseX(), wv.getBaseY(), acidSpotLocation.getPlane());
+		acidGrid.add(acidSpotLocation.getX(), acidSpotLocation.getY());
 	}
 
+	/*
+		Finds the straight acid free line through one of the tiles around the player that takes the fewest clicks to get onto.
+		The lengths come from the run lengths in the AcidGrid, so the search itself does not allocate.
+	 */
 	private void calculateAcidFreePath()
 	{
-		acidFreePath.clear();
-
 		if (vorkath == null)
 		{
+			clearAcidFreePath();
 			return;
 		}
 
-		final int[][][] directions = {
-			{
-				{0, 1}, {0, -1} // Positive and negative Y
-			},
-			{
-				{1, 0}, {-1, 0} // Positive and negative X
-			}
-		};
-
-		List<WorldPoint> bestPath = new ArrayList<>();
-		double bestClicksRequired = 99;
-
 		final WorldPoint playerLoc = client.getLocalPlayer().getWorldLocation();
+		if (playerLoc.getPlane() != acidGrid.getPlane())
+		{
+			clearAcidFreePath();
+			return;
+		}
+
 		final WorldPoint vorkLoc = vorkath.getVorkath().getWorldLocation();
 		final int maxX = vorkLoc.getX() + 14;
 		final int minX = vorkLoc.getX() - 8;
 		final int maxY = vorkLoc.getY() - 1;
 		final int minY = vorkLoc.getY() - 8;
+		final int minLength = config.acidFreePathLength();
+
+		int bestBaseX = 0;
+		int bestBaseY = 0;
+		int bestAxis = -1;
+		int bestPositive = 0;
+		int bestNegative = 0;
+		double bestClicksRequired = 99;
 
 		// Attempt to search an acid free path, beginning at a location
 		// adjacent to the player's location (including diagonals)
@@ -462,78 +475,91 @@ public class VorkathPlugin extends Plugin
 		{
 			for (int y = -1; y < 2; y++)
 			{
-				final WorldPoint baseLocation = new WorldPoint(playerLoc.getX() + x,
-					playerLoc.getY() + y, playerLoc.getPlane());
+				final int baseX = playerLoc.getX() + x;
+				final int baseY = playerLoc.getY() + y;
 
-				if (acidSpots.contains(baseLocation) || baseLocation.getY() < minY || baseLocation.getY() > maxY)
+				if (acidGrid.isAcid(baseX, baseY) || baseY < minY || baseY > maxY)
 				{
 					continue;
 				}
 
-				// Search in X and Y direction
-				for (int d = 0; d < directions.length; d++)
+				// Search in Y (axis 0) and X (axis 1) direction
+				for (int axis = 0; axis < 2; axis++)
 				{
+					final int dx = axis;
+					final int dy = 1 - axis;
+
 					// Calculate the clicks required to start walking on the path
 					double currentClicksRequired = Math.abs(x) + Math.abs(y);
 					if (currentClicksRequired < 2)
 					{
-						currentClicksRequired += Math.abs(y * directions[d][0][0]) + Math.abs(x * directions[d][0][1]);
+						currentClicksRequired += Math.abs(y * dx) + Math.abs(x * dy);
 					}
-					if (d == 0)
+					if (axis == 0)
 					{
 						// Prioritize a path in the X direction (sideways)
 						currentClicksRequired += 0.5;
 					}
 
-					List<WorldPoint> currentPath = new ArrayList<>();
-					currentPath.add(baseLocation);
-
-					// Positive X (first iteration) or positive Y (second iteration)
-					for (int i = 1; i < 25; i++)
-					{
-						final WorldPoint testingLocation = new WorldPoint(baseLocation.getX() + i * directions[d][0][0],
-							baseLocation.getY() + i * directions[d][0][1], baseLocation.getPlane());
-
-						if (acidSpots.contains(testingLocation) || testingLocation.getY() < minY || testingLocation.getY() > maxY
-							|| testingLocation.getX() < minX || testingLocation.getX() > maxX)
-						{
-							break;
-						}
-
-						currentPath.add(testingLocation);
-					}
-
-					// Negative X (first iteration) or positive Y (second iteration)
-					for (int i = 1; i < 25; i++)
-					{
-						final WorldPoint testingLocation = new WorldPoint(baseLocation.getX() + i * directions[d][1][0],
-							baseLocation.getY() + i * directions[d][1][1], baseLocation.getPlane());
-
-						if (acidSpots.contains(testingLocation) || testingLocation.getY() < minY || testingLocation.getY() > maxY
-							|| testingLocation.getX() < minX || testingLocation.getX() > maxX)
-						{
-							break;
-						}
-
-						currentPath.add(testingLocation);
-					}
+					// At most 24 steps each way
+					final int positive = Math.min(acidGrid.freeSteps(baseX, baseY, dx, dy, minX, maxX, minY, maxY), 24);
+					final int negative = Math.min(acidGrid.freeSteps(baseX, baseY, -dx, -dy, minX, maxX, minY, maxY), 24);
 
-					if (currentPath.size() >= config.acidFreePathLength() && currentClicksRequired < bestClicksRequired
-						|| (currentClicksRequired == bestClicksRequired && currentPath.size() > bestPath.size()))
+					final int currentLength = 1 + positive + negative;
+					final int bestLength = bestAxis == -1 ? 0 : 1 + bestPositive + bestNegative;
+					if (currentLength >= minLength && currentClicksRequired < bestClicksRequired
+						|| (currentClicksRequired == bestClicksRequired && currentLength > bestLength))
 					{
-						bestPath = currentPath;
+						bestBaseX = baseX;
+						bestBaseY = baseY;
+						bestAxis = axis;
+						bestPositive = positive;
+						bestNegative = negative;
 						bestClicksRequired = currentClicksRequired;
 					}
 				}
 			}
 		}
 
-		if (bestClicksRequired != 99)
+		if (bestClicksRequired == 99)
 		{
-			acidFreePath = bestPath;
+			clearAcidFreePath();
+			return;
+		}
+
+		if (bestAxis == pathAxis && bestBaseX == pathBaseX && bestBaseY == pathBaseY
+			&& bestPositive == pathPositive && bestNegative == pathNegative)
+		{
+			return;
+		}
+
+		pathBaseX = bestBaseX;
+		pathBaseY = bestBaseY;
+		pathAxis = bestAxis;
+		pathPositive = bestPositive;
+		pathNegative = bestNegative;
+
+		final int dx = bestAxis;
+		final int dy = 1 - bestAxis;
+		final int plane = playerLoc.getPlane();
+		acidFreePath.clear();
+		acidFreePath.add(new WorldPoint(bestBaseX, bestBaseY, plane));
+		for (int i = 1; i <= bestPositive; i++)
+		{
+			acidFreePath.add(new WorldPoint(bestBaseX + i * dx, bestBaseY + i * dy, plane));
+		}
+		for (int i = 1; i <= bestNegative; i++)
+		{
+			acidFreePath.add(new WorldPoint(bestBaseX - i * dx, bestBaseY - i * dy, plane));
 		}
 	}
 
+	private void clearAcidFreePath()
+	{
+		acidFreePath.clear();
+		pathAxis = -1;
+	}
+
 	private void calculateWooxWalkPath()
 	{
 		wooxWalkTimer = -1;
@@ -572,17 +598,15 @@ public class VorkathPlugin extends Plugin
 				deviation = -deviation;
 			}
 
-			final WorldPoint attackLocation = new WorldPoint(baseX + deviation, baseY, playerLoc.getPlane());
-			final WorldPoint outOfRangeLocation = new WorldPoint(baseX + deviation, baseY - 1, playerLoc.getPlane());
+			final int x = baseX + deviation;
 
-			if (acidSpots.contains(attackLocation) || acidSpots.contains(outOfRangeLocation)
-				|| attackLocation.getX() < minX || attackLocation.getX() > maxX)
+			if (x < minX || x > maxX || acidGrid.isAcid(x, baseY) || acidGrid.isAcid(x, baseY - 1))
 			{
 				continue;
 			}
 
-			wooxWalkPath[0] = attackLocation;
-			wooxWalkPath[1] = outOfRangeLocation;
+			wooxWalkPath[0] = new WorldPoint(x, baseY, playerLoc.getPlane());
+			wooxWalkPath[1] = new WorldPoint(x, baseY - 1, playerLoc.getPlane());
 
 			break;
 		}
@@ -621,8 +645,8 @@ public class VorkathPlugin extends Plugin
 		overlayManager.remove(overlay);
 		overlayManager.remove(acidPathOverlay);
 		vorkath = null;
-		acidSpots.clear();
-		acidFreePath.clear();
+		acidGrid.reset();
+		clearAcidFreePath();
 		vorkathProjectiles.clear();
 		Arrays.fill(wooxWalkPath, null);
 		wooxWalkTimer = -1;
@@ -0,0 +1,130 @@
+package com.theplug.kotori.vorkathoverlay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AcidGridTest
+{
+	private static final int BASE_X = 2240;
+	private static final int BASE_Y = 4032;
+	private static final int PLANE = 0;
+	private static final int LAYOUTS = 200;
+
+	private AcidGrid grid;
+
+	@Before
+	public void setUp()
+	{
+		grid = new AcidGrid();
+		grid.anchor(BASE_X, BASE_Y, PLANE);
+	}
+
+	@Test
+	public void freeStepsStopsAtTheFirstAcidTile()
+	{
+		grid.add(BASE_X + 15, BASE_Y + 20);
+
+		assertEquals(4, grid.freeSteps(BASE_X + 10, BASE_Y + 20, 1, 0, BASE_X, BASE_X + 50, BASE_Y, BASE_Y + 50));
+		assertEquals(10, grid.freeSteps(BASE_X + 10, BASE_Y + 20, -1, 0, BASE_X, BASE_X + 50, BASE_Y, BASE_Y + 50));
+
+		grid.remove(BASE_X + 15, BASE_Y + 20);
+		assertEquals(40, grid.freeSteps(BASE_X + 10, BASE_Y + 20, 1, 0, BASE_X, BASE_X + 50, BASE_Y, BASE_Y + 50));
+	}
+
+	@Test
+	public void freeStepsFindsNothingFromMoreThanOneTileOutsideTheBox()
+	{
+		final int minX = BASE_X + 30;
+		final int maxX = BASE_X + 52;
+		final int minY = BASE_Y + 40;
+		final int maxY = BASE_Y + 47;
+
+		assertEquals(0, grid.freeSteps(minX - 2, minY, 1, 0, minX, maxX, minY, maxY));
+		assertEquals(0, grid.freeSteps(maxX + 2, minY, -1, 0, minX, maxX, minY, maxY));
+		assertEquals(maxX - minX + 1, grid.freeSteps(minX - 1, minY, 1, 0, minX, maxX, minY, maxY));
+		assertEquals(maxX - minX + 1, grid.freeSteps(maxX + 1, minY, -1, 0, minX, maxX, minY, maxY));
+	}
+
+	/*
+		Random layouts, with some of the pools despawned again, against the walk calculateAcidFreePath did over a list of acid spots
+		before AcidGrid. Path starts reach well outside Vorkath's box on both axes.
+	 */
+	@Test
+	public void freeStepsMatchesTheOldWalk()
+	{
+		final Random random = new Random(12);
+		final List<WorldPoint> acidSpots = new ArrayList<>();
+
+		for (int layout = 0; layout < LAYOUTS; layout++)
+		{
+			grid.reset();
+			acidSpots.clear();
+
+			// Vorkath well inside the scene, so the old walk never reaches the scene edge
+			final int vorkX = BASE_X + 30 + random.nextInt(40);
+			final int vorkY = BASE_Y + 40 + random.nextInt(30);
+			final int maxX = vorkX + 14;
+			final int minX = vorkX - 8;
+			final int maxY = vorkY - 1;
+			final int minY = vorkY - 8;
+
+			final int pools = random.nextInt(120);
+			for (int i = 0; i < pools; i++)
+			{
+				final WorldPoint pool = new WorldPoint(minX - 12 + random.nextInt(48), minY - 12 + random.nextInt(24), PLANE);
+				if (grid.add(pool.getX(), pool.getY()))
+				{
+					acidSpots.add(pool);
+				}
+			}
+			for (int i = acidSpots.size() - 1; i >= 0; i -= 3)
+			{
+				final WorldPoint pool = acidSpots.remove(i);
+				assertTrue(grid.remove(pool.getX(), pool.getY()));
+			}
+			assertEquals(acidSpots.size(), grid.size());
+
+			for (int baseX = minX - 30; baseX <= maxX + 30; baseX++)
+			{
+				for (int baseY = minY; baseY <= maxY; baseY++)
+				{
+					for (int axis = 0; axis < 2; axis++)
+					{
+						for (int sign = -1; sign <= 1; sign += 2)
+						{
+							final int dx = sign * axis;
+							final int dy = sign * (1 - axis);
+							assertEquals("Layout " + layout + ", base " + baseX + "," + baseY + ", direction " + dx + "," + dy,
+								oldWalk(acidSpots, baseX, baseY, dx, dy, minX, maxX, minY, maxY),
+								Math.min(grid.freeSteps(baseX, baseY, dx, dy, minX, maxX, minY, maxY), 24));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static int oldWalk(List<WorldPoint> acidSpots, int baseX, int baseY, int dx, int dy, int minX, int maxX, int minY, int maxY)
+	{
+		int steps = 0;
+		for (int i = 1; i < 25; i++)
+		{
+			final WorldPoint testingLocation = new WorldPoint(baseX + i * dx, baseY + i * dy, PLANE);
+
+			if (acidSpots.contains(testingLocation) || testingLocation.getY() < minY || testingLocation.getY() > maxY
+				|| testingLocation.getX() < minX || testingLocation.getX() > maxX)
+			{
+				break;
+			}
+			steps++;
+		}
+		return steps;
+	}
+}
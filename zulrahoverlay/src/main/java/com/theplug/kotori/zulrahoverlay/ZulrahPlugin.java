@@ -3,8 +3,10 @@ package com.theplug.kotori.zulrahoverlay;
 import com.google.common.base.Preconditions;
 import com.google.inject.Provides;
 import com.theplug.kotori.kotoriutils.KotoriUtils;
-import com.theplug.kotori.kotoriutils.methods.MiscUtilities;
-import com.theplug.kotori.kotoriutils.methods.NPCInteractions;
+import com.theplug.kotori.kotoriutils.events.RegionEventRouter;
+import com.theplug.kotori.kotoriutils.methods.ActorSnapshot;
+import com.theplug.kotori.kotoriutils.methods.RenderableHider;
+import com.theplug.kotori.kotoriutils.timers.TickCountdown;
 import com.theplug.kotori.zulrahoverlay.overlays.*;
 import com.theplug.kotori.zulrahoverlay.rotationutils.RotationType;
 import com.theplug.kotori.zulrahoverlay.rotationutils.ZulrahData;
@@ -30,11 +32,8 @@ import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 @Slf4j
 @PluginDescriptor(
@@ -66,7 +65,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 	private SceneOverlay sceneOverlay;
 	@Inject
 	private ZulrahConfig config;
-	private static final Set<Integer> ZULRAH_REGION_IDS = Set.of(9007,9008);
+	private static final int[] ZULRAH_REGION_IDS = {9007, 9008};
 	private NPC zulrahNpc = null;
 	private boolean inZulrahRegion;
 	private int stage = 0;
@@ -75,12 +74,15 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 	private int totalTicks = 0;
 	private RotationType currentRotation = null;
 	private List<RotationType> potentialRotations = new ArrayList<RotationType>();
-	private final Map<LocalPoint, Integer> projectilesMap = new HashMap<LocalPoint, Integer>();
-	private final Map<GameObject, Integer> toxicCloudsMap = new HashMap<GameObject, Integer>();
+	// Rebuilt whenever the stage or the rotation candidates change, the overlays read it every frame
+	private List<ZulrahData> zulrahData = Collections.emptyList();
+	// Both count down to 0 inclusive, so every entry is stored with one extra tick and shown as getTicks - 1
+	private final TickCountdown<LocalPoint> projectilesMap = new TickCountdown<LocalPoint>();
+	private final TickCountdown<GameObject> toxicCloudsMap = new TickCountdown<GameObject>();
 	private static boolean flipStandLocation = false;
 	private static boolean flipPhasePrayer = false;
 	private static boolean zulrahReset = false;
-	private final Collection<NPC> snakelings = new ArrayList<NPC>();
+	private final RenderableHider snakelingHider = new RenderableHider();
 	private boolean holdingSnakelingHotkey = false;
 	private Counter zulrahTotalTicksInfoBox;
 	public static final BufferedImage[] ZULRAH_IMAGES = new BufferedImage[3];
@@ -107,7 +109,11 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 
 	protected void startUp() 
 	{
-		if (client.getGameState() != GameState.LOGGED_IN || !inZulrahRegion())
+		RegionEventRouter.register(this, ZULRAH_REGION_IDS);
+		RegionEventRouter.subscribe(this, AnimationChanged.class, this::onAnimationChanged);
+		RegionEventRouter.subscribe(this, ProjectileMoved.class, this::onProjectileMoved);
+		RegionEventRouter.subscribe(this, GameObjectSpawned.class, this::onGameObjectSpawned);
+		if (client.getGameState() != GameState.LOGGED_IN || !RegionEventRouter.isActive(this))
 		{
 			return;
 		}
@@ -126,6 +132,12 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 	}
 
 	protected void shutDown() 
+	{
+		RegionEventRouter.unregisterAll(this);
+		stop();
+	}
+
+	private void stop()
 	{
 		inZulrahRegion = false;
 		reset();
@@ -155,6 +167,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		clearSnakelingCollection();
 		holdingSnakelingHotkey = false;
 		handleTotalTicksInfoBox(true);
+		updateZulrahData();
 		log.debug("Zulrah Reset!");
 	}
 
@@ -187,7 +200,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		switch (gameState)
 		{
 			case LOGGED_IN:
-				if (inZulrahRegion())
+				if (RegionEventRouter.isActive(this))
 				{
 					if (!inZulrahRegion)
 					{
@@ -198,7 +211,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 				{
 					if (inZulrahRegion)
 					{
-						shutDown();
+						stop();
 					}
 				}
 				break;
@@ -206,7 +219,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 			case LOGIN_SCREEN:
 				if (inZulrahRegion)
 				{
-					shutDown();
+					stop();
 				}
 				break;
 			default:
@@ -226,6 +239,10 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 					{
 						clearSnakelingCollection();
 					}
+					else
+					{
+						hideSnakelings();
+					}
 					if (config.snakelingSetting() == ZulrahConfig.SnakelingSettings.MES)
 					{
 						break;
@@ -246,24 +263,52 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 
 	private void clearSnakelingCollection() 
 	{
-		snakelings.forEach(npc -> ZulrahPlugin.setHidden(npc, false));
-		snakelings.clear();
+		snakelingHider.unhideAll();
 	}
 
-	@Subscribe
-	private void onClientTick(ClientTick event) 
+	/*
+		Hides the snakelings already in the scene, new ones are hidden as they spawn.
+	 */
+	private void hideSnakelings()
 	{
 		if (!inZulrahRegion || client.getGameState() != GameState.LOGGED_IN || zulrahNpc == null)
 		{
 			return;
 		}
-		if (config.snakelingSetting() == ZulrahConfig.SnakelingSettings.ENTITY) 
+		for (NPC npc : ActorSnapshot.get().getNpcs("snakeling"))
+		{
+			if (isSnakeling(npc))
+			{
+				snakelingHider.hide(npc);
+			}
+		}
+	}
+
+	private static boolean isSnakeling(NPC npc)
+	{
+		return npc.getName() != null && npc.getName().equalsIgnoreCase("snakeling") && npc.getCombatLevel() == 90;
+	}
+
+	@Subscribe
+	private void onNpcSpawned(NpcSpawned event)
+	{
+		if (!inZulrahRegion || zulrahNpc == null || config.snakelingSetting() != ZulrahConfig.SnakelingSettings.ENTITY)
+		{
+			return;
+		}
+		NPC npc = event.getNpc();
+		if (isSnakeling(npc))
 		{
-			snakelings.addAll(NPCInteractions.getNpcs().stream().filter(npc -> npc != null && npc.getName() != null && npc.getName().equalsIgnoreCase("snakeling") && npc.getCombatLevel() == 90).collect(Collectors.toList()));
-			snakelings.forEach(npc -> ZulrahPlugin.setHidden(npc, true));
+			snakelingHider.hide(npc);
 		}
 	}
 
+	@Subscribe
+	private void onNpcDespawned(NpcDespawned event)
+	{
+		snakelingHider.forget(event.getNpc());
+	}
+
 	@Subscribe
 	private void onGameTick(GameTick event) 
 	{
@@ -280,23 +325,17 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		{
 			--phaseTicks;
 		}
-		if (projectilesMap.size() > 0) 
-		{
-			projectilesMap.values().removeIf(v -> v <= 0);
-			projectilesMap.replaceAll((k, v) -> v - 1);
-		}
-		if (toxicCloudsMap.size() > 0) 
-		{
-			toxicCloudsMap.values().removeIf(v -> v <= 0);
-			toxicCloudsMap.replaceAll((k, v) -> v - 1);
-		}
+		projectilesMap.tick();
+		toxicCloudsMap.tick();
 		handleTotalTicksInfoBox(false);
 	}
 
-	@Subscribe
+	/*
+		The routed listeners below only run while the player is at Zulrah.
+	 */
 	private void onAnimationChanged(AnimationChanged event) 
 	{
-		if (!inZulrahRegion || !(event.getActor() instanceof NPC))
+		if (!(event.getActor() instanceof NPC))
 		{
 			return;
 		}
@@ -335,7 +374,6 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 				stage = -1;
 				currentRotation = null;
 				potentialRotations.clear();
-				snakelings.clear();
 				flipStandLocation = false;
 				flipPhasePrayer = false;
 				zulrahReset = true;
@@ -360,6 +398,7 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 			default:
 				break;
 		}
+		updateZulrahData();
 	}
 
 	@Subscribe
@@ -394,10 +433,9 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		}
 	}
 
-	@Subscribe
 	private void onProjectileMoved(ProjectileMoved event) 
 	{
-		if (!inZulrahRegion || zulrahNpc == null)
+		if (zulrahNpc == null)
 		{
 			return;
 		}
@@ -406,24 +444,23 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		{
 			case 1045:
 			case 1047:
-				projectilesMap.put(event.getPosition(), p.getRemainingCycles() / 30);
+				projectilesMap.put(event.getPosition(), p.getRemainingCycles() / 30 + 1);
 				break;
 			default:
 				break;
 		}
 	}
 
-	@Subscribe
 	private void onGameObjectSpawned(GameObjectSpawned event)
 	{
-		if (!inZulrahRegion || zulrahNpc == null)
+		if (zulrahNpc == null)
 		{
 			return;
 		}
 		GameObject obj = event.getGameObject();
 		if (obj.getId() == 11700)
 		{
-			toxicCloudsMap.put(obj, 30);
+			toxicCloudsMap.put(obj, 30 + 1);
 		}
 	}
 
@@ -444,18 +481,26 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		return stage == type.getZulrahPhases().size() - 1;
 	}
 
-	public Set<ZulrahData> getZulrahData()
+	public List<ZulrahData> getZulrahData()
 	{
-		LinkedHashSet<ZulrahData> zulrahDataSet = new LinkedHashSet<ZulrahData>();
-		if (currentRotation == null) 
+		return zulrahData;
+	}
+
+	private void updateZulrahData()
+	{
+		if (currentRotation != null)
 		{
-			potentialRotations.forEach(type -> zulrahDataSet.add(new ZulrahData(getCurrentPhase((RotationType)((Object)type)), getNextPhase((RotationType)((Object)type)))));
+			zulrahData = List.of(new ZulrahData(getCurrentPhase(currentRotation), getNextPhase(currentRotation)));
+			return;
 		}
-		else
+		if (potentialRotations.isEmpty())
 		{
-			zulrahDataSet.add(new ZulrahData(getCurrentPhase(currentRotation), getNextPhase(currentRotation)));
+			zulrahData = Collections.emptyList();
+			return;
 		}
-		return zulrahDataSet.size() > 0 ? zulrahDataSet : Collections.emptySet();
+		List<ZulrahData> data = new ArrayList<ZulrahData>(potentialRotations.size());
+		potentialRotations.forEach(type -> data.add(new ZulrahData(getCurrentPhase(type), getNextPhase(type))));
+		zulrahData = Collections.unmodifiableList(data);
 	}
 
 	private void handleTotalTicksInfoBox(boolean remove) 
@@ -480,28 +525,6 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		}
 	}
 
-	private static void setHidden(Renderable renderable, boolean hidden) 
-	{
-		Method setHidden = null;
-		try
-		{
-			setHidden = renderable.getClass().getMethod("setHidden", Boolean.TYPE);
-		}
-		catch (NoSuchMethodException e) 
-		{
-			log.debug("Couldn't find method setHidden for class {}", renderable.getClass());
-			return;
-		}
-		try
-		{
-			setHidden.invoke(renderable, hidden);
-		}
-		catch (IllegalAccessException | InvocationTargetException e) 
-		{
-			log.debug("Couldn't call method setHidden for class {}", renderable.getClass());
-		}
-	}
-
 	public NPC getZulrahNpc() 
 	{
 		return zulrahNpc;
@@ -522,12 +545,12 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		return currentRotation;
 	}
 
-	public Map<LocalPoint, Integer> getProjectilesMap() 
+	public TickCountdown<LocalPoint> getProjectilesMap() 
 	{
 		return projectilesMap;
 	}
 
-	public Map<GameObject, Integer> getToxicCloudsMap() 
+	public TickCountdown<GameObject> getToxicCloudsMap() 
 	{
 		return toxicCloudsMap;
 	}
@@ -553,9 +576,4 @@ public class ZulrahPlugin extends Plugin implements KeyListener
 		ZulrahPlugin.ZULRAH_IMAGES[1] = ImageUtil.loadImageResource(ZulrahPlugin.class, "zulrah_melee.png");
 		ZulrahPlugin.ZULRAH_IMAGES[2] = ImageUtil.loadImageResource(ZulrahPlugin.class, "zulrah_magic.png");
 	}
-	
-	private boolean inZulrahRegion()
-	{
-		return ZULRAH_REGION_IDS.contains(MiscUtilities.getPlayerRegionID());
-	}
 }
@@ -285,9 +285,10 @@ public class SceneOverlay extends Overlay
 
 	private void renderProjectiles(Graphics2D graphics)
 	{
-		if (config.displayProjectiles() && plugin.getProjectilesMap().size() > 0)
+		if (config.displayProjectiles() && !plugin.getProjectilesMap().isEmpty())
 		{
-			plugin.getProjectilesMap().forEach((localPoint, ticks) -> {
+			plugin.getProjectilesMap().forEach((localPoint, ticksLeft) -> {
+				int ticks = ticksLeft - 1;
 				Point textLocation = Perspective.getCanvasTextLocation(client, graphics, localPoint, "#", 0);
 				String string = Integer.toString(ticks);
 				Color color = ticks > 0 ? Color.WHITE : Color.RED;
@@ -303,11 +304,12 @@ public class SceneOverlay extends Overlay
 
 	private void renderToxicClouds(Graphics2D graphics)
 	{
-		if (!config.displayToxicClouds() || plugin.getToxicCloudsMap().size() <= 0)
+		if (!config.displayToxicClouds() || plugin.getToxicCloudsMap().isEmpty())
 		{
 			return;
 		}
-		plugin.getToxicCloudsMap().forEach((obj, ticks) -> {
+		plugin.getToxicCloudsMap().forEach((obj, ticksLeft) -> {
+			int ticks = ticksLeft - 1;
 			LocalPoint localPoint = obj.getLocalLocation();
 			Polygon tileAreaPoly = Perspective.getCanvasTileAreaPoly(client, localPoint, 3);
 			OverlayUtils.renderPolygon(graphics, tileAreaPoly, config.toxicCloudsColor(), config.outlineWidth(), config.fillAlpha());